@@ -0,0 +1,76 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.algorithm;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sosy_lab.common.ShutdownManager;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.cpachecker.core.CPAchecker;
+import org.sosy_lab.cpachecker.core.CPAcheckerResult;
+import org.sosy_lab.cpachecker.core.CPAcheckerResult.Result;
+import org.sosy_lab.cpachecker.util.test.TestDataTools;
+
+/**
+ * Benchmark of complete analyses of small programs from the test suite. This covers the main loop
+ * of {@link CPAAlgorithm} together with the transfer relations, the reached set, the ARG, and, for
+ * the predicate analysis, the creation of path formulas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CPAAlgorithmBenchmark {
+
+  @Param({"valueAnalysis.properties", "predicateAnalysis.properties"})
+  private String configFile;
+
+  @Param({
+    "test/programs/simple/SynchronousSimulator.c",
+    "test/programs/simple/blast_correct.cil.c"
+  })
+  private String program;
+
+  private Configuration config;
+
+  @Setup
+  public void setUp() throws Exception {
+    config =
+        TestDataTools.configurationForTest()
+            .loadFromFile("config/" + configFile)
+            .setOption("specification", "config/specification/default.spc")
+            .build();
+  }
+
+  @Benchmark
+  public Result analyze() throws Exception {
+    CPAchecker cpachecker =
+        new CPAchecker(config, LogManager.createNullLogManager(), ShutdownManager.create());
+    CPAcheckerResult result = cpachecker.run(ImmutableList.of(program), ImmutableSet.of());
+    if (result.getResult() == Result.NOT_YET_STARTED) {
+      throw new AssertionError("Analysis of " + program + " failed");
+    }
+    return result.getResult();
+  }
+}
@@ -0,0 +1,107 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.reachedset;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sosy_lab.cpachecker.core.defaults.SingletonPrecision;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.interfaces.Partitionable;
+import org.sosy_lab.cpachecker.core.interfaces.Precision;
+import org.sosy_lab.cpachecker.core.waitlist.Waitlist.TraversalMethod;
+
+/**
+ * Microbenchmarks for {@link PartitionedReachedSet}, which is used by most analyses. The states are
+ * distributed over a given number of partitions, like the states of an analysis over the locations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PartitionedReachedSetBenchmark {
+
+  @Param({"1000", "10000"})
+  private int numberOfStates;
+
+  @Param({"10", "1000"})
+  private int numberOfPartitions;
+
+  private final Precision precision = SingletonPrecision.getInstance();
+  private AbstractState[] states;
+  private PartitionedReachedSet filledReached;
+
+  @Setup
+  public void setUp() {
+    states = new AbstractState[numberOfStates];
+    for (int i = 0; i < numberOfStates; i++) {
+      states[i] = new PartitionedState(i % numberOfPartitions);
+    }
+    filledReached = new PartitionedReachedSet(TraversalMethod.BFS);
+    for (AbstractState state : states) {
+      filledReached.add(state, precision);
+    }
+  }
+
+  @Benchmark
+  public PartitionedReachedSet add() {
+    PartitionedReachedSet reached = new PartitionedReachedSet(TraversalMethod.BFS);
+    for (AbstractState state : states) {
+      reached.add(state, precision);
+    }
+    return reached;
+  }
+
+  @Benchmark
+  public void getReached(Blackhole blackhole) {
+    for (AbstractState state : states) {
+      Collection<AbstractState> partition = filledReached.getReached(state);
+      blackhole.consume(partition.size());
+    }
+  }
+
+  @Benchmark
+  public PartitionedReachedSet addAndPopFromWaitlist() {
+    PartitionedReachedSet reached = new PartitionedReachedSet(TraversalMethod.BFS);
+    for (AbstractState state : states) {
+      reached.add(state, precision);
+    }
+    while (reached.hasWaitingState()) {
+      reached.popFromWaitlist();
+    }
+    return reached;
+  }
+
+  private static final class PartitionedState implements AbstractState, Partitionable {
+
+    private final Integer partition;
+
+    private PartitionedState(int pPartition) {
+      partition = pPartition;
+    }
+
+    @Override
+    public Object getPartitionKey() {
+      return partition;
+    }
+  }
+}
@@ -0,0 +1,71 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.arg;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for the memory footprint of the parent and child relations of {@link ARGState}s.
+ *
+ * <p>The benchmark builds a binary tree of states without wrapped states, such that each state has
+ * one parent and (except for the leaves) two children, like the ARG of a program with many
+ * branches. Everything that is allocated during the benchmark is retained by the tree, so running
+ * it with the GC profiler (<code>-Djmh.args="ARGStateBenchmark -prof gc"</code>) shows the
+ * footprint per state as <code>gc.alloc.rate.norm</code> divided by the number of states.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ARGStateBenchmark {
+
+  @Param({"1000", "100000"})
+  private int numberOfStates;
+
+  // allocated once, such that it does not count for the footprint of the states
+  private ARGState[] states;
+
+  @Setup
+  public void setUp() {
+    states = new ARGState[numberOfStates];
+  }
+
+  @Benchmark
+  public ARGState buildTree() {
+    states[0] = new ARGState(null, null);
+    for (int i = 1; i < numberOfStates; i++) {
+      states[i] = new ARGState(null, states[(i - 1) / 2]);
+    }
+    return states[0];
+  }
+
+  @Benchmark
+  public int buildAndDetachTree() {
+    buildTree();
+    int removed = 0;
+    for (int i = numberOfStates - 1; i > 0; i--) {
+      states[i].removeFromARG();
+      removed++;
+    }
+    return removed;
+  }
+}
@@ -0,0 +1,95 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.usage.storage;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.cpachecker.cfa.CFA;
+import org.sosy_lab.cpachecker.cfa.types.c.CNumericTypes;
+import org.sosy_lab.cpachecker.core.AnalysisDirection;
+import org.sosy_lab.cpachecker.cpa.composite.CompositeState;
+import org.sosy_lab.cpachecker.cpa.location.LocationState;
+import org.sosy_lab.cpachecker.cpa.location.LocationStateFactory;
+import org.sosy_lab.cpachecker.cpa.lock.AbstractLockStateBuilder;
+import org.sosy_lab.cpachecker.cpa.lock.LockIdentifier;
+import org.sosy_lab.cpachecker.cpa.lock.LockState;
+import org.sosy_lab.cpachecker.cpa.usage.UsageInfo;
+import org.sosy_lab.cpachecker.cpa.usage.UsageInfo.Access;
+import org.sosy_lab.cpachecker.util.identifiers.GlobalVariableIdentifier;
+import org.sosy_lab.cpachecker.util.identifiers.SingleIdentifier;
+import org.sosy_lab.cpachecker.util.test.TestDataTools;
+
+/**
+ * Microbenchmark for the search of races among the usages of one identifier.
+ *
+ * <p>Each usage holds half of the locks of a pool (rounded up), so all lock sets are pairwise
+ * intersecting and not covering each other. Thus there is no race, all usages are top usages, and
+ * the search has to consider all of them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UnsafeDetectorBenchmark {
+
+  /** The number of usages is 2 * (lockPoolSize choose ((lockPoolSize + 1) / 2)). */
+  @Param({"7", "9", "11"})
+  private int lockPoolSize;
+
+  private UnsafeDetector detector;
+  private UnrefinedUsagePointSet usages;
+
+  @Setup
+  public void setUp() throws Exception {
+    Configuration config = TestDataTools.configurationForTest().build();
+    CFA cfa = TestDataTools.makeCFA("int g;", "int main() {", "  g = 1;", "  return g;", "}");
+    LocationState location =
+        new LocationStateFactory(cfa, AnalysisDirection.FORWARD, config)
+            .getState(cfa.getMainFunction());
+    SingleIdentifier id = new GlobalVariableIdentifier("g", CNumericTypes.INT, 0);
+
+    ImmutableSet.Builder<LockIdentifier> pool = ImmutableSet.builder();
+    for (int i = 0; i < lockPoolSize; i++) {
+      pool.add(LockIdentifier.of("lock" + i));
+    }
+
+    usages = new UnrefinedUsagePointSet();
+    for (Set<LockIdentifier> locks : Sets.combinations(pool.build(), (lockPoolSize + 1) / 2)) {
+      AbstractLockStateBuilder builder = new LockState().builder();
+      locks.forEach(builder::add);
+      CompositeState state = new CompositeState(ImmutableList.of(location, builder.build()));
+      for (Access access : Access.values()) {
+        usages.add(UsageInfo.createUsageInfo(access, state, id));
+      }
+    }
+    detector = new UnsafeDetector(new UsageConfiguration(config));
+  }
+
+  @Benchmark
+  public boolean isUnsafe() {
+    return detector.isUnsafe(usages);
+  }
+}
@@ -0,0 +1,106 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.predicates.pathformula;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sosy_lab.common.ShutdownNotifier;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.cpachecker.cfa.CFA;
+import org.sosy_lab.cpachecker.cfa.model.CFAEdge;
+import org.sosy_lab.cpachecker.cfa.model.CFANode;
+import org.sosy_lab.cpachecker.core.AnalysisDirection;
+import org.sosy_lab.cpachecker.util.CFAUtils;
+import org.sosy_lab.cpachecker.util.predicates.smt.Solver;
+import org.sosy_lab.cpachecker.util.test.TestDataTools;
+
+/**
+ * Microbenchmark of {@link PathFormulaManagerImpl#makeAnd(PathFormula, CFAEdge)} for the edges of
+ * a straight-line program, as done by the transfer relation of the predicate analysis.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PathFormulaManagerImplBenchmark {
+
+  @Param({"10", "100"})
+  private int numberOfStatements;
+
+  private Solver solver;
+  private PathFormulaManager pfmgr;
+  private ImmutableList<CFAEdge> edges;
+
+  @Setup
+  public void setUp() throws Exception {
+    List<String> program = new ArrayList<>();
+    program.add("int main() {");
+    program.add("  int x0 = 0;");
+    for (int i = 1; i < numberOfStatements; i++) {
+      program.add("  int x" + i + " = x" + (i - 1) + " * 2 + " + i + ";");
+    }
+    program.add("  return x" + (numberOfStatements - 1) + ";");
+    program.add("}");
+
+    Configuration config = TestDataTools.configurationForTest().build();
+    LogManager logger = LogManager.createNullLogManager();
+    CFA cfa = TestDataTools.makeCFA(config, program.toArray(new String[0]));
+    solver = Solver.create(config, logger, ShutdownNotifier.createDummy());
+    pfmgr =
+        new PathFormulaManagerImpl(
+            solver.getFormulaManager(),
+            config,
+            logger,
+            ShutdownNotifier.createDummy(),
+            cfa,
+            AnalysisDirection.FORWARD);
+
+    // the program has no branches, so the edges of main form a single path
+    ImmutableList.Builder<CFAEdge> path = ImmutableList.builder();
+    CFANode node = cfa.getMainFunction();
+    while (node.getNumLeavingEdges() > 0) {
+      CFAEdge edge = Iterables.getOnlyElement(CFAUtils.leavingEdges(node));
+      path.add(edge);
+      node = edge.getSuccessor();
+    }
+    edges = path.build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    solver.close();
+  }
+
+  @Benchmark
+  public PathFormula makeAndAlongPath() throws Exception {
+    PathFormula pathFormula = pfmgr.makeEmptyPathFormula();
+    for (CFAEdge edge : edges) {
+      pathFormula = pfmgr.makeAnd(pathFormula, edge);
+    }
+    return pathFormula;
+  }
+}
@@ -0,0 +1,78 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.predicates.pathformula;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sosy_lab.common.collect.MapsDifference;
+import org.sosy_lab.cpachecker.cfa.types.c.CNumericTypes;
+import org.sosy_lab.cpachecker.util.predicates.pathformula.SSAMap.SSAMapBuilder;
+
+/** Microbenchmarks for building and merging {@link SSAMap}s. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SSAMapBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int numberOfVariables;
+
+  private String[] variables;
+  private SSAMap base;
+  private SSAMap left;
+  private SSAMap right;
+
+  @Setup
+  public void setUp() {
+    variables = new String[numberOfVariables];
+    SSAMapBuilder builder = SSAMap.emptySSAMap().builder();
+    for (int i = 0; i < numberOfVariables; i++) {
+      variables[i] = "main::x" + i;
+      builder.setIndex(variables[i], CNumericTypes.INT, 1);
+    }
+    base = builder.build();
+
+    // both branches increment a different half of the variables, as after an if-then-else
+    SSAMapBuilder leftBuilder = base.builder();
+    SSAMapBuilder rightBuilder = base.builder();
+    for (int i = 0; i < numberOfVariables; i++) {
+      SSAMapBuilder branch = i % 2 == 0 ? leftBuilder : rightBuilder;
+      branch.setIndex(variables[i], CNumericTypes.INT, 2);
+    }
+    left = leftBuilder.build();
+    right = rightBuilder.build();
+  }
+
+  @Benchmark
+  public SSAMap buildFromBase() {
+    SSAMapBuilder builder = base.builder();
+    for (String variable : variables) {
+      builder.setIndex(variable, CNumericTypes.INT, builder.getFreshIndex(variable));
+    }
+    return builder.build();
+  }
+
+  @Benchmark
+  public SSAMap merge() {
+    return SSAMap.merge(left, right, MapsDifference.ignoreMapsDifference());
+  }
+}
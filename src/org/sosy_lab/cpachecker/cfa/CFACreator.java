@@ -9,16 +9,16 @@
 package org.sosy_lab.cpachecker.cfa;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
-import com.google.common.io.MoreFiles;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
-import java.io.OutputStream;
 import java.io.PrintStream;
 import java.io.Writer;
 import java.nio.charset.Charset;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -28,17 +28,26 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
-import java.util.zip.GZIPOutputStream;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sosy_lab.common.Classes.UnexpectedCheckedException;
 import org.sosy_lab.common.Concurrency;
 import org.sosy_lab.common.ShutdownNotifier;
 import org.sosy_lab.common.configuration.Configuration;
 import org.sosy_lab.common.configuration.FileOption;
+import org.sosy_lab.common.configuration.IntegerOption;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
 import org.sosy_lab.common.configuration.Option;
 import org.sosy_lab.common.configuration.Options;
 import org.sosy_lab.common.io.IO;
 import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.common.time.TimeSpan;
 import org.sosy_lab.common.time.Timer;
 import org.sosy_lab.cpachecker.cfa.ast.ADeclaration;
 import org.sosy_lab.cpachecker.cfa.ast.AExpression;
@@ -193,14 +202,16 @@ public class CFACreator {
   @Option(
     secure = true,
     name = "cfa.serialize",
-    description = "export CFA as .ser file (dump Java objects)"
+    description =
+        "export CFA as snapshot file, which can be loaded with option"
+            + " analysis.serializedCfaFile instead of parsing the program again"
   )
   private boolean serializeCfa = false;
 
   @Option(
     secure = true,
     name = "cfa.serializeFile",
-    description = "export CFA as .ser file (dump Java objects)"
+    description = "file for exporting the CFA snapshot"
   )
   @FileOption(FileOption.Type.OUTPUT_FILE)
   private Path serializeCfaFile = Paths.get("cfa.ser.gz");
@@ -232,6 +243,13 @@ public class CFACreator {
         description="Remove all edges which don't have any effect on the program")
   private boolean simplifyCfa = true;
 
+  @Option(secure=true, name="cfa.postProcessingThreads",
+      description="Number of threads for post-processing the CFAs of single functions concurrently."
+          + " Only post-processings that do not create CFA nodes are parallelized,"
+          + " such that the node numbers are the same as with a single thread.")
+  @IntegerOption(min=1)
+  private int postProcessingThreads = 1;
+
   @Option(secure=true, name="cfa.moveDeclarationsToFunctionStart",
       description="With this option, all declarations in each function will be moved"
           + "to the beginning of each function. Do only use this option if you are"
@@ -286,6 +304,7 @@ public class CFACreator {
     private final Timer totalTime = new Timer();
     private Timer parsingTime;
     private Timer conversionTime;
+    private ImmutableMap<String, TimeSpan> parseTimePerFile = ImmutableMap.of();
     private final Timer checkTime = new Timer();
     private final Timer processingTime = new Timer();
     private final Timer exportTime = new Timer();
@@ -307,6 +326,12 @@ public class CFACreator {
       out.println("  Time for loading parser:    " + parserInstantiationTime);
       out.println("  Time for CFA construction:  " + totalTime);
       out.println("    Time for parsing file(s): " + parsingTime);
+      if (parseTimePerFile.size() > 1) {
+        for (Map.Entry<String, TimeSpan> entry : parseTimePerFile.entrySet()) {
+          out.println(
+              "      " + entry.getKey() + ": " + entry.getValue().formatAs(TimeUnit.SECONDS));
+        }
+      }
       out.println("    Time for AST to CFA:      " + conversionTime);
       out.println("    Time for CFA sanity check:" + checkTime);
       out.println("    Time for post-processing: " + processingTime);
@@ -331,6 +356,9 @@ public class CFACreator {
   private final CFACreatorStatistics stats;
   private final Configuration config;
 
+  // only present during createCFA() if post-processing should be done concurrently
+  private @Nullable ExecutorService postProcessingExecutor = null;
+
   public CFACreator(Configuration config, LogManager logger, ShutdownNotifier pShutdownNotifier)
       throws InvalidConfigurationException {
 
@@ -448,6 +476,26 @@ public class CFACreator {
   }
 
   private CFA createCFA(ParseResult pParseResult, FunctionEntryNode pMainFunction) throws InvalidConfigurationException, InterruptedException, ParserException {
+    if (postProcessingThreads > 1) {
+      postProcessingExecutor =
+          Executors.newFixedThreadPool(
+              postProcessingThreads,
+              new ThreadFactoryBuilder()
+                  .setNameFormat("cfa-post-processing-%d")
+                  .setDaemon(true)
+                  .build());
+    }
+    try {
+      return createCFA0(pParseResult, pMainFunction);
+    } finally {
+      if (postProcessingExecutor != null) {
+        postProcessingExecutor.shutdownNow();
+        postProcessingExecutor = null;
+      }
+    }
+  }
+
+  private CFA createCFA0(ParseResult pParseResult, FunctionEntryNode pMainFunction) throws InvalidConfigurationException, InterruptedException, ParserException {
 
     FunctionEntryNode mainFunction = pMainFunction;
 
@@ -487,10 +535,7 @@ public class CFACreator {
     // THIRD, do read-only post-processings on each single function CFA
 
     // Annotate CFA nodes with reverse postorder information for later use.
-    for (FunctionEntryNode function : cfa.getAllFunctionHeads()) {
-      CFAReversePostorder sorter = new CFAReversePostorder();
-      sorter.assignSorting(function);
-    }
+    assignReversePostorder(cfa);
 
     // get loop information
     // (needs post-order information)
@@ -584,7 +629,8 @@ public class CFACreator {
     return immutableCFA;
   }
 
-  private void instrumentCfa(MutableCFA pCfa) throws InvalidConfigurationException {
+  private void instrumentCfa(MutableCFA pCfa)
+      throws InvalidConfigurationException, InterruptedException {
     if (addLabels) {
       // add a block label at the beginning of each basic block.
       // This may require the CFA's loop structure, and thus should be done
@@ -592,11 +638,52 @@ public class CFACreator {
       new LabelAdder(config).addLabels(pCfa);
 
       // Re-compute postorder ids to include newly added label nodes
-      for (FunctionEntryNode function : pCfa.getAllFunctionHeads()) {
-        CFAReversePostorder sorter = new CFAReversePostorder();
-        sorter.assignSorting(function);
+      assignReversePostorder(pCfa);
+    }
+  }
+
+  private void assignReversePostorder(MutableCFA pCfa) throws InterruptedException {
+    forEachFunction(
+        pCfa,
+        function -> {
+          CFAReversePostorder sorter = new CFAReversePostorder();
+          sorter.assignSorting(function);
+          return null;
+        });
+  }
+
+  /**
+   * Apply the given action to the CFA of each function, concurrently if configured with {@link
+   * #postProcessingThreads}. The action may modify only the nodes and edges of the respective
+   * function and must not create new nodes. The results are returned in the order of the function
+   * names.
+   */
+  private <T> List<T> forEachFunction(
+      MutableCFA pCfa, java.util.function.Function<FunctionEntryNode, T> pAction)
+      throws InterruptedException {
+    List<FunctionEntryNode> functionHeads = ImmutableList.copyOf(pCfa.getAllFunctionHeads());
+    List<T> results = new ArrayList<>(functionHeads.size());
+
+    if (postProcessingExecutor == null) {
+      for (FunctionEntryNode functionHead : functionHeads) {
+        results.add(pAction.apply(functionHead));
       }
+      return results;
     }
+
+    List<Callable<T>> tasks = new ArrayList<>(functionHeads.size());
+    for (FunctionEntryNode functionHead : functionHeads) {
+      tasks.add(() -> pAction.apply(functionHead));
+    }
+    for (Future<T> future : postProcessingExecutor.invokeAll(tasks)) {
+      try {
+        results.add(future.get());
+      } catch (ExecutionException e) {
+        Throwables.throwIfUnchecked(e.getCause());
+        throw new UnexpectedCheckedException("CFA post-processing", e.getCause());
+      }
+    }
+    return results;
   }
 
   /**
@@ -645,6 +732,7 @@ public class CFACreator {
 
       parseResult = ((CParser) parser).parseFile(sourceFiles);
     }
+    stats.parseTimePerFile = parser.getParseTimePerFile();
 
     if (parseResult.isEmpty()) {
       switch (language) {
@@ -669,11 +757,20 @@ public class CFACreator {
    */
   private MutableCFA postProcessingOnMutableCFAs(
       MutableCFA cfa, final List<Pair<ADeclaration, String>> globalDeclarations)
-      throws InvalidConfigurationException, CParserException {
+      throws InvalidConfigurationException, CParserException, InterruptedException {
 
     // remove all edges which don't have any effect on the program
     if (simplifyCfa) {
-      CFASimplifier.simplifyCFA(cfa);
+      final MutableCFA simplifiedCfa = cfa;
+      List<List<CFANode>> removedNodes =
+          forEachFunction(
+              simplifiedCfa,
+              function ->
+                  CFASimplifier.simplifyFunction(
+                      function, simplifiedCfa.getFunctionNodes(function.getFunctionName())));
+      for (List<CFANode> nodes : removedNodes) {
+        nodes.forEach(simplifiedCfa::removeNode);
+      }
     }
 
     if (moveDeclarationsToFunctionStart) {
@@ -1043,12 +1140,7 @@ v.addInitializer(initializer);
 
     if (serializeCfa && serializeCfaFile != null) {
       try {
-        MoreFiles.createParentDirectories(serializeCfaFile);
-        try (OutputStream outputStream = Files.newOutputStream(serializeCfaFile);
-            OutputStream gzipOutputStream = new GZIPOutputStream(outputStream);
-            ObjectOutputStream oos = new ObjectOutputStream(gzipOutputStream)) {
-          oos.writeObject(cfa);
-        }
+        CFASnapshot.write(cfa, serializeCfaFile);
       } catch (IOException e) {
         logger.logUserException(Level.WARNING, e, "Could not serialize CFA to file.");
       }
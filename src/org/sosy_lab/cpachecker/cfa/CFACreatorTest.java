@@ -0,0 +1,170 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cfa;
+
+import static com.google.common.collect.FluentIterable.from;
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Ordering;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sosy_lab.common.ShutdownNotifier;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.cpachecker.cfa.model.CFAEdge;
+import org.sosy_lab.cpachecker.cfa.model.CFANode;
+import org.sosy_lab.cpachecker.util.CFAUtils;
+import org.sosy_lab.cpachecker.util.test.TestDataTools;
+
+public class CFACreatorTest {
+
+  /** Several functions with blank edges and branches, such that the simplification has work. */
+  private static final String[] PROGRAM = {
+    "int g = 0;",
+    "int f(int p) {",
+    "  int r = 0;",
+    "  if (p > 0) {",
+    "    r = p;",
+    "  } else {",
+    "    ;",
+    "  }",
+    "  return r;",
+    "}",
+    "void h(int p) {",
+    "  while (p > 0) {",
+    "    p--;",
+    "    if (p == g) {",
+    "      break;",
+    "    }",
+    "  }",
+    "}",
+    "int main() {",
+    "  int i;",
+    "  for (i = 0; i < 3; i++) {",
+    "    g += f(i);",
+    "    h(g);",
+    "  }",
+    "  return g;",
+    "}"
+  };
+
+  /** Several files with static variables of the same name and calls between the files. */
+  private static final ImmutableList<ImmutableList<String>> FILES =
+      ImmutableList.of(
+          ImmutableList.of(
+              "int f(int p);",
+              "int h(int p);",
+              "static int s = 1;",
+              "int main() {",
+              "  int r = f(s) + h(s);",
+              "  return r;",
+              "}"),
+          ImmutableList.of(
+              "static int s = 2;",
+              "int f(int p) {",
+              "  if (p > s) {",
+              "    return p;",
+              "  }",
+              "  return s;",
+              "}"),
+          ImmutableList.of(
+              "static int s = 3;",
+              "int h(int p) {",
+              "  while (p < s) {",
+              "    p++;",
+              "  }",
+              "  return p;",
+              "}"));
+
+  @Rule public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+  /**
+   * Describe all nodes and edges of the CFA. Node numbers are given relative to the smallest node
+   * number, because they are taken from a global counter.
+   */
+  private static ImmutableList<String> describeCfa(CFA pCfa) {
+    int offset =
+        Ordering.natural().min(from(pCfa.getAllNodes()).transform(CFANode::getNodeNumber));
+    return from(pCfa.getAllNodes())
+        .transformAndConcat(
+            node ->
+                from(CFAUtils.leavingEdges(node))
+                    .transform(
+                        (CFAEdge edge) ->
+                            (edge.getPredecessor().getNodeNumber() - offset)
+                                + " (rpo "
+                                + edge.getPredecessor().getReversePostorderId()
+                                + ") -> "
+                                + (edge.getSuccessor().getNodeNumber() - offset)
+                                + ": "
+                                + edge.getEdgeType()
+                                + " "
+                                + edge.getRawStatement()))
+        .toList();
+  }
+
+  private static CFA makeCfa(int pPostProcessingThreads) throws Exception {
+    Configuration config =
+        TestDataTools.configurationForTest()
+            .setOption("cfa.postProcessingThreads", Integer.toString(pPostProcessingThreads))
+            .build();
+    return TestDataTools.makeCFA(config, PROGRAM);
+  }
+
+  private static CFA makeCfaFromFiles(List<String> pFiles, int pParserThreads) throws Exception {
+    Configuration config =
+        TestDataTools.configurationForTest()
+            .setOption("parser.parserThreads", Integer.toString(pParserThreads))
+            .build();
+    CFACreator creator =
+        new CFACreator(config, LogManager.createTestLogManager(), ShutdownNotifier.createDummy());
+    return creator.parseFileAndCreateCFA(pFiles);
+  }
+
+  @Test
+  public void testParallelParsingGivesSameCfa() throws Exception {
+    List<String> files = new ArrayList<>();
+    for (int i = 0; i < FILES.size(); i++) {
+      Path file = tempFolder.getRoot().toPath().resolve("file" + i + ".c");
+      Files.write(file, FILES.get(i), StandardCharsets.UTF_8);
+      files.add(file.toString());
+    }
+
+    CFA sequential = makeCfaFromFiles(files, 1);
+    CFA parallel = makeCfaFromFiles(files, FILES.size());
+
+    assertThat(parallel.getAllFunctionNames())
+        .containsExactlyElementsIn(sequential.getAllFunctionNames())
+        .inOrder();
+    assertThat(describeCfa(parallel))
+        .containsExactlyElementsIn(describeCfa(sequential))
+        .inOrder();
+  }
+
+  @Test
+  public void testParallelPostProcessingGivesSameCfa() throws Exception {
+    CFA sequential = makeCfa(1);
+    CFA parallel = makeCfa(4);
+
+    assertThat(parallel.getAllFunctionNames())
+        .containsExactlyElementsIn(sequential.getAllFunctionNames())
+        .inOrder();
+    assertThat(parallel.getAllNodes()).hasSize(sequential.getAllNodes().size());
+    assertThat(describeCfa(parallel))
+        .containsExactlyElementsIn(describeCfa(sequential))
+        .inOrder();
+  }
+}
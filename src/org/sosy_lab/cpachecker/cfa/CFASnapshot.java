@@ -0,0 +1,96 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cfa;
+
+import com.google.common.io.MoreFiles;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamConstants;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Reading and writing of snapshots of a complete {@link CFA}, such that the same program can be
+ * analyzed several times without parsing it again.
+ *
+ * <p>A snapshot is the gzip-compressed Java serialization of the CFA, as written by earlier
+ * versions with option cfa.serialize, prefixed with a header that identifies the format version.
+ * The header allows to recognize outdated snapshots and files of the earlier format without a
+ * header, and to replace the encoding later.
+ */
+public final class CFASnapshot {
+
+  private static final String MAGIC = "CPAchecker CFA snapshot";
+
+  /** Increment this if the snapshot format or the serialized form of the CFA classes changes. */
+  private static final int VERSION = 1;
+
+  private CFASnapshot() {}
+
+  /** Write a snapshot of the given CFA to the given file. */
+  public static void write(CFA pCfa, Path pFile) throws IOException {
+    MoreFiles.createParentDirectories(pFile);
+    try (OutputStream outputStream = Files.newOutputStream(pFile);
+        OutputStream gzipOutputStream = new GZIPOutputStream(outputStream);
+        ObjectOutputStream oos = new ObjectOutputStream(gzipOutputStream)) {
+      oos.writeUTF(MAGIC);
+      oos.writeInt(VERSION);
+      oos.writeObject(pCfa);
+    }
+  }
+
+  /**
+   * Read a CFA from a snapshot file that was written by {@link #write(CFA, Path)}.
+   *
+   * @throws InvalidObjectException if the file is not a snapshot of the current version
+   */
+  public static CFA read(Path pFile) throws IOException, ClassNotFoundException {
+    try (InputStream inputStream =
+            new BufferedInputStream(new GZIPInputStream(Files.newInputStream(pFile)));
+        ObjectInputStream ois = new ObjectInputStream(inputStream)) {
+      checkHeader(pFile, inputStream, ois);
+      return (CFA) ois.readObject();
+    }
+  }
+
+  private static void checkHeader(Path pFile, InputStream pInputStream, ObjectInputStream pOis)
+      throws IOException {
+    // The header is written as block data, whereas files of the earlier format without header
+    // start directly with the serialized CFA object. The ObjectInputStream has consumed only the
+    // stream header so far, so the next byte tells the formats apart.
+    pInputStream.mark(1);
+    int firstTag = pInputStream.read();
+    pInputStream.reset();
+    if (firstTag == ObjectStreamConstants.TC_OBJECT) {
+      throw new InvalidObjectException(
+          String.format(
+              "%s is a serialized CFA of the format without version header written by an earlier"
+                  + " version of CPAchecker, please create the snapshot again",
+              pFile));
+    }
+    if (firstTag != ObjectStreamConstants.TC_BLOCKDATA || !MAGIC.equals(pOis.readUTF())) {
+      throw new InvalidObjectException(pFile + " is not a CFA snapshot");
+    }
+    int version = pOis.readInt();
+    if (version != VERSION) {
+      throw new InvalidObjectException(
+          String.format(
+              "CFA snapshot %s has version %d, but only version %d is supported,"
+                  + " please create the snapshot again",
+              pFile, version, VERSION));
+    }
+  }
+}
@@ -0,0 +1,120 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cfa;
+
+import static com.google.common.collect.FluentIterable.from;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sosy_lab.cpachecker.cfa.model.CFAEdge;
+import org.sosy_lab.cpachecker.cfa.model.CFANode;
+import org.sosy_lab.cpachecker.util.CFAUtils;
+import org.sosy_lab.cpachecker.util.test.TestDataTools;
+
+public class CFASnapshotTest {
+
+  @Rule public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+  private static final String[] PROGRAM = {
+    "struct s { int x; char *name; };",
+    "int g = 1;",
+    "int f(struct s *p) {",
+    "  if (p->x > g) {",
+    "    return p->x;",
+    "  }",
+    "  return 0;",
+    "}",
+    "int main() {",
+    "  struct s v = { 5, \"name\" };",
+    "  int i;",
+    "  for (i = 0; i < 10; i++) {",
+    "    g += f(&v);",
+    "  }",
+    "  return g;",
+    "}"
+  };
+
+  private static ImmutableList<String> describeEdges(CFA pCfa) {
+    return from(pCfa.getAllNodes())
+        .transformAndConcat(CFAUtils::leavingEdges)
+        .transform(
+            (CFAEdge edge) ->
+                edge.getPredecessor().getNodeNumber()
+                    + " -> "
+                    + edge.getSuccessor().getNodeNumber()
+                    + ": "
+                    + edge.getEdgeType()
+                    + " "
+                    + edge.getRawStatement()
+                    + " @ "
+                    + edge.getFileLocation())
+        .toList();
+  }
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    CFA cfa = TestDataTools.makeCFA(PROGRAM);
+    Path file = tempFolder.getRoot().toPath().resolve("cfa.ser.gz");
+
+    CFASnapshot.write(cfa, file);
+    CFA readCfa = CFASnapshot.read(file);
+
+    assertThat(readCfa.getMachineModel()).isEqualTo(cfa.getMachineModel());
+    assertThat(readCfa.getLanguage()).isEqualTo(cfa.getLanguage());
+    assertThat(readCfa.getFileNames()).isEqualTo(cfa.getFileNames());
+    assertThat(readCfa.getAllFunctionNames())
+        .containsExactlyElementsIn(cfa.getAllFunctionNames())
+        .inOrder();
+    assertThat(readCfa.getMainFunction().getNodeNumber())
+        .isEqualTo(cfa.getMainFunction().getNodeNumber());
+    assertThat(from(readCfa.getAllNodes()).transform(CFANode::getNodeNumber))
+        .containsExactlyElementsIn(from(cfa.getAllNodes()).transform(CFANode::getNodeNumber))
+        .inOrder();
+    assertThat(describeEdges(readCfa)).containsExactlyElementsIn(describeEdges(cfa)).inOrder();
+    assertThat(CFACheck.check(readCfa.getMainFunction(), null, readCfa.getMachineModel()))
+        .isTrue();
+  }
+
+  @Test(expected = InvalidObjectException.class)
+  public void testRejectOtherFiles() throws IOException, ClassNotFoundException {
+    Path file = tempFolder.getRoot().toPath().resolve("other.ser.gz");
+    try (ObjectOutputStream oos =
+        new ObjectOutputStream(new GZIPOutputStream(Files.newOutputStream(file)))) {
+      oos.writeUTF("something else");
+      oos.writeInt(1);
+    }
+
+    CFASnapshot.read(file);
+  }
+
+  @Test
+  public void testRejectLegacyFormat() throws Exception {
+    CFA cfa = TestDataTools.makeCFA(PROGRAM);
+    Path file = tempFolder.getRoot().toPath().resolve("legacy.ser.gz");
+    // the format written by cfa.serialize before snapshots had a header
+    try (ObjectOutputStream oos =
+        new ObjectOutputStream(new GZIPOutputStream(Files.newOutputStream(file)))) {
+      oos.writeObject(cfa);
+    }
+
+    InvalidObjectException e =
+        assertThrows(InvalidObjectException.class, () -> CFASnapshot.read(file));
+    assertThat(e).hasMessageThat().contains("without version header");
+  }
+}
@@ -8,7 +8,9 @@
 
 package org.sosy_lab.cpachecker.cfa;
 
+import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
+import org.sosy_lab.common.time.TimeSpan;
 import org.sosy_lab.common.time.Timer;
 import org.sosy_lab.cpachecker.exceptions.ParserException;
 
@@ -54,4 +56,11 @@ public interface Parser {
    */
   Timer getCFAConstructionTime();
 
+  /**
+   * Return the time needed for parsing each file of the last program that was parsed, in the order
+   * in which the files were given. Optional method: may return an empty map.
+   */
+  default ImmutableMap<String, TimeSpan> getParseTimePerFile() {
+    return ImmutableMap.of();
+  }
 }
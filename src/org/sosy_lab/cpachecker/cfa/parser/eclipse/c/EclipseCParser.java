@@ -13,10 +13,12 @@ import static com.google.common.base.Preconditions.checkArgument;
 import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.io.MoreFiles;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
@@ -26,8 +28,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.eclipse.cdt.core.dom.ast.IASTCompoundStatement;
 import org.eclipse.cdt.core.dom.ast.IASTDeclaration;
 import org.eclipse.cdt.core.dom.ast.IASTFunctionDefinition;
@@ -48,9 +55,11 @@ import org.eclipse.cdt.internal.core.parser.InternalParserUtil;
 import org.eclipse.cdt.internal.core.parser.scanner.InternalFileContent;
 import org.eclipse.cdt.internal.core.parser.scanner.InternalFileContentProvider;
 import org.eclipse.core.runtime.CoreException;
+import org.sosy_lab.common.Classes.UnexpectedCheckedException;
 import org.sosy_lab.common.ShutdownNotifier;
 import org.sosy_lab.common.log.LogManager;
 import org.sosy_lab.common.log.LogManagerWithoutDuplicates;
+import org.sosy_lab.common.time.TimeSpan;
 import org.sosy_lab.common.time.Timer;
 import org.sosy_lab.cpachecker.cfa.CParser;
 import org.sosy_lab.cpachecker.cfa.CProgramScope;
@@ -79,6 +88,10 @@ class EclipseCParser implements CParser {
   private final Timer parseTimer = new Timer();
   private final Timer cfaTimer = new Timer();
 
+  // parse time of each file given to the last call of parseSomething(),
+  // in the order in which they were given
+  private final Map<String, TimeSpan> parseTimePerFile = new LinkedHashMap<>();
+
   public EclipseCParser(
       LogManager pLogger,
       EclipseCParserOptions pOptions,
@@ -90,16 +103,17 @@ class EclipseCParser implements CParser {
     options = pOptions;
     shutdownNotifier = pShutdownNotifier;
     parserLog = new ShutdownNotifierLogAdapter(pShutdownNotifier);
+    language = createLanguage(pOptions);
+  }
 
+  private static ILanguage createLanguage(EclipseCParserOptions pOptions) {
     switch (pOptions.getDialect()) {
-    case C99:
-      language = new CLanguage(new ANSICParserExtensionConfiguration());
-      break;
-    case GNUC:
-      language = GCCLanguage.getDefault();
-      break;
-    default:
-      throw new IllegalArgumentException("Unknown C dialect");
+      case C99:
+        return new CLanguage(new ANSICParserExtensionConfiguration());
+      case GNUC:
+        return new GCCLanguage();
+      default:
+        throw new IllegalArgumentException("Unknown C dialect");
     }
   }
 
@@ -146,24 +160,120 @@ class EclipseCParser implements CParser {
     }
     FixedPathSourceOriginMapping sourceOriginMapping =
         new FixedPathSourceOriginMapping(pSourceOriginMapping, fileNameMapping);
-    ParseContext parseContext =
-        new ParseContext(createNiceFileNameFunction(fileNameMapping.keySet()), sourceOriginMapping);
+    Function<String, String> niceFileNameFunction =
+        createNiceFileNameFunction(fileNameMapping.keySet());
+    ParseContext parseContext = new ParseContext(niceFileNameFunction, sourceOriginMapping);
 
-    List<IASTTranslationUnit> astUnits = new ArrayList<>(pInput.size());
+    parseTimePerFile.clear();
+    List<IASTTranslationUnit> astUnits;
+    if (options.getNumberOfParserThreads() > 1 && pInput.size() > 1) {
+      astUnits =
+          parseInParallel(pInput, niceFileNameFunction, sourceOriginMapping, pWrapperFunction);
 
-    for (FileToParse f : pInput) {
-      final String fileName = fixPath(f.getFileName());
+    } else {
+      astUnits = new ArrayList<>(pInput.size());
+      for (FileToParse f : pInput) {
+        final String fileName = fixPath(f.getFileName());
 
-      try {
-        astUnits.add(parse(pWrapperFunction.wrap(fileName, f), parseContext));
-      } catch (IOException e) {
-        throw new CParserException("IO failed!", e);
+        try {
+          astUnits.add(parse(pWrapperFunction.wrap(fileName, f), parseContext));
+        } catch (IOException e) {
+          throw new CParserException("IO failed!", e);
+        }
+        addParseTime(f.getFileName(), parseTimer.getLengthOfLastInterval());
       }
     }
 
     return buildCFA(astUnits, parseContext, scope);
   }
 
+  /**
+   * Parse the given files concurrently. The translation units are returned in the order of the
+   * input files, such that the CFA that is built from them is the same as for sequential parsing.
+   *
+   * <p>Each file is parsed with its own language instance, parser log, file-content provider, and
+   * parse context, such that the parsing tasks share no mutable state. CDT creates a new scanner
+   * and parser for each translation unit anyway. Only the scanner info is shared, because {@link
+   * StubScannerInfo} is immutable.
+   */
+  private List<IASTTranslationUnit> parseInParallel(
+      List<? extends FileToParse> pInput,
+      Function<String, String> pNiceFileNameFunction,
+      CSourceOriginMapping pSourceOriginMapping,
+      FileParseWrapper pWrapperFunction)
+      throws CParserException, InterruptedException {
+
+    int numberOfThreads = Math.min(options.getNumberOfParserThreads(), pInput.size());
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            numberOfThreads,
+            new ThreadFactoryBuilder().setNameFormat("parser-%d").setDaemon(true).build());
+
+    parseTimer.start();
+    try {
+      List<Future<ParsedFile>> futures = new ArrayList<>(pInput.size());
+      for (FileToParse f : pInput) {
+        final String fileName = fixPath(f.getFileName());
+        futures.add(
+            executor.submit(
+                () -> {
+                  FileContent content;
+                  try {
+                    content = pWrapperFunction.wrap(fileName, f);
+                  } catch (IOException e) {
+                    throw new CParserException("IO failed!", e);
+                  }
+                  Timer fileTimer = new Timer();
+                  fileTimer.start();
+                  IASTTranslationUnit ast;
+                  try {
+                    ast =
+                        parse0(
+                            content,
+                            new ParseContext(pNiceFileNameFunction, pSourceOriginMapping),
+                            createLanguage(options),
+                            new ShutdownNotifierLogAdapter(shutdownNotifier),
+                            new FileContentProvider());
+                  } finally {
+                    fileTimer.stop();
+                  }
+                  return new ParsedFile(ast, fileTimer.getLengthOfLastInterval());
+                }));
+      }
+
+      List<IASTTranslationUnit> astUnits = new ArrayList<>(pInput.size());
+      for (int i = 0; i < pInput.size(); i++) {
+        ParsedFile parsedFile = futures.get(i).get();
+        astUnits.add(parsedFile.ast);
+        addParseTime(pInput.get(i).getFileName(), parsedFile.parseTime);
+      }
+      return astUnits;
+
+    } catch (ExecutionException e) {
+      Throwable t = e.getCause();
+      Throwables.propagateIfPossible(t, CParserException.class, InterruptedException.class);
+
+      throw new UnexpectedCheckedException("parsing", t);
+    } finally {
+      executor.shutdownNow();
+      parseTimer.stop();
+    }
+  }
+
+  private static class ParsedFile {
+    private final IASTTranslationUnit ast;
+    private final TimeSpan parseTime;
+
+    private ParsedFile(IASTTranslationUnit pAst, TimeSpan pParseTime) {
+      ast = pAst;
+      parseTime = pParseTime;
+    }
+  }
+
+  private void addParseTime(String pFileName, TimeSpan pTime) {
+    parseTimePerFile.merge(pFileName, pTime, TimeSpan::sum);
+  }
+
   @Override
   public ParseResult parseFile(List<String> pFilenames)
       throws CParserException, InterruptedException {
@@ -304,7 +414,26 @@ class EclipseCParser implements CParser {
       throws CParserException, InterruptedException {
     parseTimer.start();
     try {
-      IASTTranslationUnit result = getASTTranslationUnit(codeReader);
+      return parse0(codeReader, parseContext, language, parserLog, FileContentProvider.instance);
+    } finally {
+      parseTimer.stop();
+    }
+  }
+
+  /**
+   * Parse without measuring the time, such that this method can be called concurrently with
+   * separate instances of the other parameters.
+   */
+  private IASTTranslationUnit parse0(
+      FileContent codeReader,
+      ParseContext parseContext,
+      ILanguage pLanguage,
+      IParserLogService pParserLog,
+      InternalFileContentProvider pFileContentProvider)
+      throws CParserException, InterruptedException {
+    try {
+      IASTTranslationUnit result =
+          getASTTranslationUnit(codeReader, pLanguage, pParserLog, pFileContentProvider);
 
       // Separate handling of include problems
       // so that we can give a better error message.
@@ -329,21 +458,23 @@ class EclipseCParser implements CParser {
 
     } catch (CFAGenerationRuntimeException | CoreException e) {
       throw new CParserException(e);
-    } finally {
-      parseTimer.stop();
     }
   }
 
-  private IASTTranslationUnit getASTTranslationUnit(FileContent pCode)
+  private IASTTranslationUnit getASTTranslationUnit(
+      FileContent pCode,
+      ILanguage pLanguage,
+      IParserLogService pParserLog,
+      InternalFileContentProvider pFileContentProvider)
       throws CFAGenerationRuntimeException, CoreException, InterruptedException {
     try {
-      return language.getASTTranslationUnit(
+      return pLanguage.getASTTranslationUnit(
           pCode,
           StubScannerInfo.instance,
-          FileContentProvider.instance,
+          pFileContentProvider,
           null,
           PARSER_OPTIONS,
-          parserLog);
+          pParserLog);
     } finally {
       shutdownNotifier.shutdownIfNecessary();
     }
@@ -451,6 +582,11 @@ class EclipseCParser implements CParser {
     return cfaTimer;
   }
 
+  @Override
+  public ImmutableMap<String, TimeSpan> getParseTimePerFile() {
+    return ImmutableMap.copyOf(parseTimePerFile);
+  }
+
 
   /**
    * Private class extending the Eclipse CDT class that is the starting point
@@ -20,11 +20,8 @@ import com.google.common.collect.Sets;
 import com.google.common.io.Resources;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.ObjectInputStream;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
@@ -34,7 +31,6 @@ import java.util.List;
 import java.util.Set;
 import java.util.StringJoiner;
 import java.util.logging.Level;
-import java.util.zip.GZIPInputStream;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.AbstractMBean;
 import org.sosy_lab.common.Optionals;
@@ -48,9 +44,11 @@ import org.sosy_lab.common.configuration.Option;
 import org.sosy_lab.common.configuration.Options;
 import org.sosy_lab.common.io.IO;
 import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.common.time.Timer;
 import org.sosy_lab.cpachecker.cfa.CFA;
 import org.sosy_lab.cpachecker.cfa.CFACheck;
 import org.sosy_lab.cpachecker.cfa.CFACreator;
+import org.sosy_lab.cpachecker.cfa.CFASnapshot;
 import org.sosy_lab.cpachecker.cfa.Language;
 import org.sosy_lab.cpachecker.cfa.model.CFANode;
 import org.sosy_lab.cpachecker.cfa.model.FunctionEntryNode;
@@ -201,8 +199,8 @@ public class CPAchecker {
     secure = true,
     name = "analysis.serializedCfaFile",
     description =
-        "if this option is used, the CFA will be loaded from the given file "
-            + "instead of parsed from sourcefile."
+        "if this option is used, the CFA will be loaded from the given snapshot file "
+            + "(cf. option cfa.serialize) instead of parsed from sourcefile."
   )
   @FileOption(FileOption.Type.OPTIONAL_INPUT_FILE)
   private @Nullable Path serializedCfaFile = null;
@@ -487,11 +485,14 @@ public class CPAchecker {
     } else {
       // load CFA from serialization file
       logger.logf(Level.INFO, "Reading CFA from file \"%s\"", serializedCfaFile);
-      try (InputStream inputStream = Files.newInputStream(serializedCfaFile);
-          InputStream gzipInputStream = new GZIPInputStream(inputStream);
-          ObjectInputStream ois = new ObjectInputStream(gzipInputStream)) {
-        cfa = (CFA) ois.readObject();
+      Timer readTimer = new Timer();
+      readTimer.start();
+      try {
+        cfa = CFASnapshot.read(serializedCfaFile);
+      } finally {
+        readTimer.stop();
       }
+      logger.log(Level.FINE, "Reading CFA took", readTimer);
 
       assert CFACheck.check(cfa.getMainFunction(), null, cfa.getMachineModel());
     }
@@ -33,6 +33,7 @@ import org.sosy_lab.cpachecker.core.CPAcheckerResult.Result;
 import org.sosy_lab.cpachecker.core.defaults.MergeSepOperator;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
 import org.sosy_lab.cpachecker.core.interfaces.ConfigurableProgramAnalysis;
+import org.sosy_lab.cpachecker.core.interfaces.CoverageIndexable;
 import org.sosy_lab.cpachecker.core.interfaces.ForcedCovering;
 import org.sosy_lab.cpachecker.core.interfaces.MergeOperator;
 import org.sosy_lab.cpachecker.core.interfaces.Precision;
@@ -76,6 +77,8 @@ public class CPAAlgorithm implements Algorithm, StatisticsProvider {
     private int   countMerge        = 0;
     private int   countStop         = 0;
     private int   countBreak        = 0;
+    private long  countCoverageChecks  = 0;
+    private long  countCoverageSkipped = 0;
 
     private Map<String, AbstractStatValue> reachedSetStatistics = new HashMap<>();
 
@@ -142,6 +145,10 @@ public class CPAAlgorithm implements Algorithm, StatisticsProvider {
       out.println("Number of times merged:          " + countMerge);
       out.println("Number of times stopped:         " + countStop);
       out.println("Number of times breaked:         " + countBreak);
+      if (countCoverageChecks + countCoverageSkipped > 0) {
+        out.println("Number of coverage checks:       " + countCoverageChecks);
+        out.println("Coverage checks skipped:         " + countCoverageSkipped);
+      }
       out.println();
       out.println("Total time for CPA algorithm:     " + totalTimer + " (Max: " + totalTimer.getMaxTime().formatAs(TimeUnit.SECONDS) + ")");
       out.println("  Time for choose from waitlist:  " + chooseTimer);
@@ -173,6 +180,16 @@ public class CPAAlgorithm implements Algorithm, StatisticsProvider {
         + " Useful for incomplete analysis with no counterexample checking.")
     private boolean reportFalseAsUnknown = false;
 
+    @Option(
+        secure = true,
+        name = "stop.useCoverageIndex",
+        description =
+            "Skip coverage checks against reached states whose coverage signature shows that they"
+                + " cannot cover the successor (cf. CoverageIndexable)."
+                + " This is intended for analyses with stop-sep, for other stop operators it may"
+                + " prevent coverage.")
+    private boolean useCoverageIndex = false;
+
     private final ForcedCovering forcedCovering;
 
     private final ConfigurableProgramAnalysis cpa;
@@ -197,7 +214,8 @@ public class CPAAlgorithm implements Algorithm, StatisticsProvider {
 
     @Override
     public CPAAlgorithm newInstance() {
-      return new CPAAlgorithm(cpa, logger, shutdownNotifier, forcedCovering, reportFalseAsUnknown);
+      return new CPAAlgorithm(
+          cpa, logger, shutdownNotifier, forcedCovering, reportFalseAsUnknown, useCoverageIndex);
     }
   }
 
@@ -223,10 +241,13 @@ public class CPAAlgorithm implements Algorithm, StatisticsProvider {
 
   private final AlgorithmStatus status;
 
+  private final boolean useCoverageIndex;
+
   private CPAAlgorithm(ConfigurableProgramAnalysis cpa, LogManager logger,
       ShutdownNotifier pShutdownNotifier,
       ForcedCovering pForcedCovering,
-      boolean pIsImprecise) {
+      boolean pIsImprecise,
+      boolean pUseCoverageIndex) {
 
     transferRelation = cpa.getTransferRelation();
     mergeOperator = cpa.getMergeOperator();
@@ -236,6 +257,7 @@ public class CPAAlgorithm implements Algorithm, StatisticsProvider {
     this.shutdownNotifier = pShutdownNotifier;
     this.forcedCovering = pForcedCovering;
     status = AlgorithmStatus.SOUND_AND_PRECISE.withPrecise(!pIsImprecise);
+    useCoverageIndex = pUseCoverageIndex;
   }
 
   @Override
@@ -355,7 +377,11 @@ public class CPAAlgorithm implements Algorithm, StatisticsProvider {
         stats.stopTimer.start();
         boolean stop;
         try {
-          stop = stopOperator.stop(successor, reachedSet.getReached(successor), successorPrecision);
+          stop =
+              stopOperator.stop(
+                  successor,
+                  getCoverageCandidates(successor, reachedSet.getReached(successor)),
+                  successorPrecision);
         } finally {
           stats.stopTimer.stop();
         }
@@ -432,7 +458,9 @@ public class CPAAlgorithm implements Algorithm, StatisticsProvider {
       stats.stopTimer.start();
       boolean stop;
       try {
-        stop = stopOperator.stop(successor, reached, successorPrecision);
+        stop =
+            stopOperator.stop(
+                successor, getCoverageCandidates(successor, reached), successorPrecision);
       } finally {
         stats.stopTimer.stop();
       }
@@ -453,6 +481,29 @@ public class CPAAlgorithm implements Algorithm, StatisticsProvider {
     return false;
   }
 
+  /**
+   * Return those of the given reached states that may cover the given state according to their
+   * coverage signatures, or all of them if the coverage index is not used.
+   */
+  private Collection<AbstractState> getCoverageCandidates(
+      AbstractState pState, Collection<AbstractState> pReached) {
+    if (!useCoverageIndex || !(pState instanceof CoverageIndexable) || pReached.isEmpty()) {
+      return pReached;
+    }
+    CoverageIndexable state = (CoverageIndexable) pState;
+    List<AbstractState> candidates = new ArrayList<>();
+    for (AbstractState reachedState : pReached) {
+      if (reachedState instanceof CoverageIndexable
+          && !CoverageIndexable.mayBeCoveredBy(state, (CoverageIndexable) reachedState)) {
+        stats.countCoverageSkipped++;
+      } else {
+        candidates.add(reachedState);
+      }
+    }
+    stats.countCoverageChecks += candidates.size();
+    return candidates;
+  }
+
   @Override
   public void collectStatistics(Collection<Statistics> pStatsCollection) {
     if (forcedCovering instanceof StatisticsProvider) {
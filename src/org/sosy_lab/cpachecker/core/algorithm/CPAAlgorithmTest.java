@@ -0,0 +1,90 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.algorithm;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.cpachecker.core.CPAcheckerResult.Result;
+import org.sosy_lab.cpachecker.util.test.CPATestRunner;
+import org.sosy_lab.cpachecker.util.test.TestDataTools;
+import org.sosy_lab.cpachecker.util.test.TestResults;
+
+public class CPAAlgorithmTest {
+
+  @Rule public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+  /**
+   * The branches assign different variables, such that the value analysis reaches states at the
+   * same location with different sets of assigned variables.
+   */
+  private static final ImmutableList<String> PROGRAM =
+      ImmutableList.of(
+          "extern int __VERIFIER_nondet_int(void);",
+          "int main() {",
+          "  int x;",
+          "  int y;",
+          "  int i;",
+          "  for (i = 0; i < 4; i++) {",
+          "    if (__VERIFIER_nondet_int()) {",
+          "      x = i;",
+          "    } else {",
+          "      y = i;",
+          "    }",
+          "  }",
+          "  if (i != 4) {",
+          "    ERROR: return 1;",
+          "  }",
+          "  return 0;",
+          "}");
+
+  private TestResults run(boolean pUseCoverageIndex) throws Exception {
+    Path program = tempFolder.newFolder().toPath().resolve("program.c");
+    Files.write(program, PROGRAM, StandardCharsets.UTF_8);
+    Configuration config =
+        TestDataTools.configurationForTest()
+            .loadFromFile("config/valueAnalysis.properties")
+            .setOption("specification", "config/specification/ErrorLabel.spc")
+            .setOption("cpa.stop.useCoverageIndex", Boolean.toString(pUseCoverageIndex))
+            .build();
+    return CPATestRunner.run(config, program.toString());
+  }
+
+  private static String getStatistics(TestResults pResults) {
+    ByteArrayOutputStream statistics = new ByteArrayOutputStream();
+    pResults
+        .getCheckerResult()
+        .printStatistics(new PrintStream(statistics, true, StandardCharsets.UTF_8));
+    return statistics.toString(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void testCoverageIndexGivesSameReachedSet() throws Exception {
+    TestResults withoutIndex = run(false);
+    TestResults withIndex = run(true);
+
+    withoutIndex.assertIs(Result.TRUE);
+    withIndex.assertIs(Result.TRUE);
+    assertThat(withIndex.getCheckerResult().getReached().size())
+        .isEqualTo(withoutIndex.getCheckerResult().getReached().size());
+
+    // make sure that the index skipped some coverage checks
+    assertThat(getStatistics(withoutIndex)).doesNotContain("Coverage checks skipped");
+    assertThat(getStatistics(withIndex)).containsMatch("Coverage checks skipped: +[1-9]");
+  }
+}
@@ -75,6 +75,7 @@ import org.sosy_lab.cpachecker.util.globalinfo.GlobalInfo;
 import org.sosy_lab.cpachecker.util.resources.ResourceLimitChecker;
 import org.sosy_lab.cpachecker.util.resources.ThreadCpuTimeLimit;
 import org.sosy_lab.cpachecker.util.statistics.StatisticsUtils;
+import org.sosy_lab.cpachecker.util.statistics.StatisticsWriter;
 
 @Options(prefix = "parallelAlgorithm")
 public class ParallelAlgorithm implements Algorithm, StatisticsProvider {
@@ -94,6 +95,16 @@ public class ParallelAlgorithm implements Algorithm, StatisticsProvider {
   @FileOption(FileOption.Type.OPTIONAL_INPUT_FILE)
   private List<AnnotatedValue<Path>> configFiles;
 
+  @Option(
+      secure = true,
+      description =
+          "Share intermediate results between the analyses while they are running: predicates"
+              + " from predicate refinements, invariants proven by k-induction, and precision"
+              + " increments of the value analysis. The analyses use the results of the other"
+              + " analyses at their next refinement. Predicates are exchanged as SMT-LIB formulas"
+              + " and can only be used by analyses with a compatible formula encoding.")
+  private boolean shareResults = false;
+
   private static final String SUCCESS_MESSAGE =
       "One of the parallel analyses has finished successfully, cancelling all other runs.";
 
@@ -107,6 +118,7 @@ public class ParallelAlgorithm implements Algorithm, StatisticsProvider {
   private ParallelAnalysisResult finalResult = null;
   private CFANode mainEntryNode = null;
   private final AggregatedReachedSetManager aggregatedReachedSetManager;
+  private final @Nullable SharedAnalysisResults sharedResults;
 
   private final List<ConditionAdjustmentEventSubscriber> conditionAdjustmentEventSubscribers =
       new CopyOnWriteArrayList<>();
@@ -123,7 +135,8 @@ public class ParallelAlgorithm implements Algorithm, StatisticsProvider {
       throws InvalidConfigurationException, CPAException, InterruptedException {
     config.inject(this);
 
-    stats = new ParallelAlgorithmStatistics(pLogger);
+    sharedResults = shareResults ? new SharedAnalysisResults() : null;
+    stats = new ParallelAlgorithmStatistics(pLogger, sharedResults);
     globalConfig = config;
     logger = checkNotNull(pLogger);
     shutdownManager = ShutdownManager.createWithParent(checkNotNull(pShutdownNotifier));
@@ -302,6 +315,15 @@ public class ParallelAlgorithm implements Algorithm, StatisticsProvider {
 
     final ReachedSet reached = coreComponents.createReachedSet();
     final ConfigurableProgramAnalysis cpa = coreComponents.createCPA(cfa, specification);
+    if (sharedResults != null) {
+      // connect before creating the algorithm, such that refiners can use the endpoint
+      SharedAnalysisResults.Endpoint endpoint =
+          sharedResults.connect(singleConfigFileName.toString());
+      for (SharedAnalysisResults.Participant participant :
+          CPAs.asIterable(cpa).filter(SharedAnalysisResults.Participant.class)) {
+        participant.connectSharedResults(endpoint);
+      }
+    }
     final Algorithm algorithm = coreComponents.createAlgorithm(cpa, cfa, specification);
 
     AtomicBoolean terminated = new AtomicBoolean(false);
@@ -563,12 +585,14 @@ public class ParallelAlgorithm implements Algorithm, StatisticsProvider {
   private static class ParallelAlgorithmStatistics implements Statistics {
 
     private final LogManager logger;
+    private final @Nullable SharedAnalysisResults sharedResults;
     private final List<StatisticsEntry> allAnalysesStats = new CopyOnWriteArrayList<>();
     private int noOfAlgorithmsUsed = 0;
     private String successfulAnalysisName = null;
 
-    ParallelAlgorithmStatistics(LogManager pLogger) {
+    ParallelAlgorithmStatistics(LogManager pLogger, @Nullable SharedAnalysisResults pSharedResults) {
       logger = checkNotNull(pLogger);
+      sharedResults = pSharedResults;
     }
 
     public synchronized StatisticsEntry getNewSubStatistics(
@@ -590,6 +614,11 @@ public class ParallelAlgorithm implements Algorithm, StatisticsProvider {
       if (successfulAnalysisName != null) {
         out.println("Successful analysis: " + successfulAnalysisName);
       }
+      if (sharedResults != null) {
+        StatisticsWriter.writingStatisticsTo(out)
+            .put(sharedResults.publishedResults)
+            .put(sharedResults.deliveredResults);
+      }
       printSubStatistics(out, result);
     }
 
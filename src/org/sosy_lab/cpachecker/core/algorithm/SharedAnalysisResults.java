@@ -0,0 +1,141 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.algorithm;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSetMultimap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.sosy_lab.cpachecker.cfa.model.CFANode;
+import org.sosy_lab.cpachecker.util.states.MemoryLocation;
+import org.sosy_lab.cpachecker.util.statistics.StatCounter;
+
+/**
+ * Publish/subscribe channel for intermediate results that the analyses of a {@link
+ * ParallelAlgorithm} share with each other while they are running, such that an analysis does not
+ * need to repeat the refinements that another analysis already did.
+ *
+ * <p>Each analysis connects with its own {@link Endpoint}, publishes results on this endpoint, and
+ * polls the results of the other analyses whenever it can make use of them (e.g., at the next
+ * refinement). Results are shared in a form that does not depend on the analysis that produced them,
+ * e.g., formulas are shared as SMT-LIB strings because each analysis has its own solver.
+ */
+public final class SharedAnalysisResults {
+
+  /** A kind of shared results, typed by the class of the published values. */
+  public static final class Topic<T> {
+
+    /**
+     * Predicates as SMT-LIB formulas without SSA indices and the locations where they are relevant,
+     * e.g., from predicate refinements or from invariants that were proven by k-induction.
+     */
+    public static final Topic<ImmutableSetMultimap<CFANode, String>> PREDICATES =
+        new Topic<>("predicates");
+
+    /** Variables that should be tracked by the value analysis at the given locations. */
+    public static final Topic<ImmutableSetMultimap<CFANode, MemoryLocation>>
+        VALUE_PRECISION_INCREMENTS = new Topic<>("value-analysis precision increments");
+
+    private final String name;
+
+    private Topic(String pName) {
+      name = pName;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+  /**
+   * Interface for CPAs that take part in sharing results, {@link ParallelAlgorithm} connects them
+   * before the algorithm of their analysis is created.
+   */
+  public interface Participant {
+
+    void connectSharedResults(Endpoint pEndpoint);
+  }
+
+  private final List<Endpoint> endpoints = new CopyOnWriteArrayList<>();
+
+  final StatCounter publishedResults = new StatCounter("Number of shared results");
+  final StatCounter deliveredResults = new StatCounter("Number of delivered shared results");
+
+  /** Create a new endpoint for one analysis. */
+  public Endpoint connect(String pAnalysisName) {
+    Endpoint endpoint = new Endpoint(pAnalysisName);
+    endpoints.add(endpoint);
+    return endpoint;
+  }
+
+  /** The connection of one analysis to the channel. This class is thread-safe. */
+  public final class Endpoint {
+
+    private final String analysisName;
+
+    /** received results for all subscribed topics, results of other topics are not stored */
+    private final Map<Topic<?>, Queue<Object>> inbox = new ConcurrentHashMap<>();
+
+    private Endpoint(String pAnalysisName) {
+      analysisName = pAnalysisName;
+    }
+
+    /**
+     * Receive results for the given topic from now on. Results that were published before are not
+     * delivered.
+     */
+    public void subscribe(Topic<?> pTopic) {
+      inbox.computeIfAbsent(pTopic, t -> new ConcurrentLinkedQueue<>());
+    }
+
+    /** Deliver the given result to all other analyses that subscribed to the given topic. */
+    public <T> void publish(Topic<T> pTopic, T pResult) {
+      checkNotNull(pResult);
+      publishedResults.inc();
+      for (Endpoint other : endpoints) {
+        if (other != this) {
+          Queue<Object> queue = other.inbox.get(pTopic);
+          if (queue != null) {
+            queue.add(pResult);
+            deliveredResults.inc();
+          }
+        }
+      }
+    }
+
+    /**
+     * Return all results for the given topic that were delivered since the last call, in the order
+     * in which they were published.
+     */
+    @SuppressWarnings("unchecked") // only results of type T are delivered for Topic<T>
+    public <T> ImmutableList<T> poll(Topic<T> pTopic) {
+      Queue<Object> queue = inbox.get(pTopic);
+      if (queue == null) {
+        return ImmutableList.of();
+      }
+      ImmutableList.Builder<T> results = ImmutableList.builder();
+      for (Object result = queue.poll(); result != null; result = queue.poll()) {
+        results.add((T) result);
+      }
+      return results.build();
+    }
+
+    @Override
+    public String toString() {
+      return "SharedAnalysisResults endpoint of " + analysisName;
+    }
+  }
+}
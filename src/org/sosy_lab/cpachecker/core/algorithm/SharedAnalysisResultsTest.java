@@ -0,0 +1,100 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.algorithm;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.sosy_lab.cpachecker.cfa.model.CFANode.newDummyCFANode;
+
+import com.google.common.collect.ImmutableSetMultimap;
+import org.junit.Before;
+import org.junit.Test;
+import org.sosy_lab.cpachecker.cfa.model.CFANode;
+import org.sosy_lab.cpachecker.core.algorithm.SharedAnalysisResults.Endpoint;
+import org.sosy_lab.cpachecker.core.algorithm.SharedAnalysisResults.Topic;
+import org.sosy_lab.cpachecker.util.states.MemoryLocation;
+
+public class SharedAnalysisResultsTest {
+
+  private static final CFANode NODE = newDummyCFANode("main");
+
+  private static final ImmutableSetMultimap<CFANode, String> PREDICATES1 =
+      ImmutableSetMultimap.of(NODE, "(> x 0)");
+  private static final ImmutableSetMultimap<CFANode, String> PREDICATES2 =
+      ImmutableSetMultimap.of(NODE, "(= y 1)");
+  private static final ImmutableSetMultimap<CFANode, MemoryLocation> INCREMENT =
+      ImmutableSetMultimap.of(NODE, MemoryLocation.valueOf("main::x"));
+
+  private SharedAnalysisResults sharedResults;
+  private Endpoint analysis1;
+  private Endpoint analysis2;
+  private Endpoint analysis3;
+
+  @Before
+  public void setUp() {
+    sharedResults = new SharedAnalysisResults();
+    analysis1 = sharedResults.connect("analysis1");
+    analysis2 = sharedResults.connect("analysis2");
+    analysis3 = sharedResults.connect("analysis3");
+  }
+
+  @Test
+  public void testPublishToSubscribers() {
+    analysis2.subscribe(Topic.PREDICATES);
+    analysis3.subscribe(Topic.PREDICATES);
+
+    analysis1.publish(Topic.PREDICATES, PREDICATES1);
+    analysis1.publish(Topic.PREDICATES, PREDICATES2);
+
+    assertThat(analysis2.poll(Topic.PREDICATES))
+        .containsExactly(PREDICATES1, PREDICATES2)
+        .inOrder();
+    assertThat(analysis3.poll(Topic.PREDICATES))
+        .containsExactly(PREDICATES1, PREDICATES2)
+        .inOrder();
+
+    // results are delivered only once
+    assertThat(analysis2.poll(Topic.PREDICATES)).isEmpty();
+    assertThat(sharedResults.publishedResults.getValue()).isEqualTo(2L);
+    assertThat(sharedResults.deliveredResults.getValue()).isEqualTo(4L);
+  }
+
+  @Test
+  public void testSkipOwnResults() {
+    analysis1.subscribe(Topic.PREDICATES);
+    analysis2.subscribe(Topic.PREDICATES);
+
+    analysis1.publish(Topic.PREDICATES, PREDICATES1);
+    analysis2.publish(Topic.PREDICATES, PREDICATES2);
+
+    assertThat(analysis1.poll(Topic.PREDICATES)).containsExactly(PREDICATES2);
+    assertThat(analysis2.poll(Topic.PREDICATES)).containsExactly(PREDICATES1);
+  }
+
+  @Test
+  public void testOnlySubscribedTopics() {
+    analysis2.subscribe(Topic.VALUE_PRECISION_INCREMENTS);
+
+    analysis1.publish(Topic.PREDICATES, PREDICATES1);
+    analysis1.publish(Topic.VALUE_PRECISION_INCREMENTS, INCREMENT);
+
+    assertThat(analysis2.poll(Topic.PREDICATES)).isEmpty();
+    assertThat(analysis2.poll(Topic.VALUE_PRECISION_INCREMENTS)).containsExactly(INCREMENT);
+    assertThat(analysis3.poll(Topic.VALUE_PRECISION_INCREMENTS)).isEmpty();
+    assertThat(sharedResults.deliveredResults.getValue()).isEqualTo(1L);
+  }
+
+  @Test
+  public void testNoResultsBeforeSubscription() {
+    analysis1.publish(Topic.PREDICATES, PREDICATES1);
+    analysis2.subscribe(Topic.PREDICATES);
+    analysis1.publish(Topic.PREDICATES, PREDICATES2);
+
+    assertThat(analysis2.poll(Topic.PREDICATES)).containsExactly(PREDICATES2);
+  }
+}
@@ -17,11 +17,15 @@ import static org.sosy_lab.cpachecker.util.AbstractStates.extractLocation;
 import com.google.common.base.Joiner;
 import com.google.common.base.Predicate;
 import com.google.common.base.Predicates;
+import com.google.common.base.Throwables;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -41,9 +45,14 @@ import java.util.TreeSet;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.ToIntFunction;
 import java.util.logging.Level;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sosy_lab.common.Classes.UnexpectedCheckedException;
 import org.sosy_lab.common.ShutdownManager;
 import org.sosy_lab.common.ShutdownNotifier;
 import org.sosy_lab.common.ShutdownNotifier.ShutdownRequestListener;
@@ -61,6 +70,8 @@ import org.sosy_lab.cpachecker.core.algorithm.Algorithm;
 import org.sosy_lab.cpachecker.core.algorithm.Algorithm.AlgorithmStatus;
 import org.sosy_lab.cpachecker.core.algorithm.CPAAlgorithm;
 import org.sosy_lab.cpachecker.core.algorithm.ParallelAlgorithm.ConditionAdjustmentEventSubscriber;
+import org.sosy_lab.cpachecker.core.algorithm.SharedAnalysisResults;
+import org.sosy_lab.cpachecker.core.algorithm.SharedAnalysisResults.Topic;
 import org.sosy_lab.cpachecker.core.algorithm.bmc.candidateinvariants.CandidateInvariant;
 import org.sosy_lab.cpachecker.core.algorithm.bmc.candidateinvariants.CandidateInvariantCombination;
 import org.sosy_lab.cpachecker.core.algorithm.bmc.candidateinvariants.SymbolicCandiateInvariant;
@@ -101,6 +112,7 @@ import org.sosy_lab.cpachecker.util.predicates.pathformula.PathFormulaManager;
 import org.sosy_lab.cpachecker.util.predicates.smt.BooleanFormulaManagerView;
 import org.sosy_lab.cpachecker.util.predicates.smt.FormulaManagerView;
 import org.sosy_lab.cpachecker.util.predicates.smt.Solver;
+import org.sosy_lab.java_smt.SolverContextFactory.Solvers;
 import org.sosy_lab.java_smt.api.BasicProverEnvironment;
 import org.sosy_lab.java_smt.api.BooleanFormula;
 import org.sosy_lab.java_smt.api.BooleanFormulaManager;
@@ -167,6 +179,33 @@ abstract class AbstractBMCAlgorithm
   )
   private boolean usePropertyDirection = false;
 
+  @Option(
+      secure = true,
+      description =
+          "Check the step case of k-induction for a bound k concurrently to the base case for the"
+              + " next bound. The step cases run on a separate thread with their own CPA and"
+              + " solver context and are cancelled if the base case finds a counterexample. If a"
+              + " step case proves the program safe, the base case is stopped. This is not"
+              + " supported for k-induction-based invariant generation, whose invariants refer to"
+              + " the step-case CPA.")
+  private boolean parallelStepCase = false;
+
+  @Option(
+      secure = true,
+      description =
+          "Assert the path formula of each target and stop state of the base case only once,"
+              + " defining a reachability literal for the state, and check the reachability of"
+              + " the target states and the bounding assertions for each bound as a disjunction"
+              + " of these literals guarded by a fresh activation literal, instead of pushing"
+              + " and popping the whole program formula for every bound. This allows the solver"
+              + " to keep its encoding of and the lemmas learned about the program formula"
+              + " across bounds. Requires a solver that supports solving with assumptions.")
+  private boolean incrementalQueries = false;
+
+  /** The solvers that do not support {@link BasicProverEnvironment#isUnsatWithAssumptions}. */
+  private static final ImmutableSet<Solvers> SOLVERS_WITHOUT_ASSUMPTIONS =
+      Sets.immutableEnumSet(Solvers.PRINCESS, Solvers.SMTINTERPOL, Solvers.CVC4);
+
   protected final BMCStatistics stats;
   private final Algorithm algorithm;
   private final ConfigurableProgramAnalysis cpa;
@@ -183,18 +222,37 @@ abstract class AbstractBMCAlgorithm
   private final Solver solver;
 
   protected final LogManager logger;
+  private final LogManager stepCaseLogger;
+  private final Configuration config;
   private final ReachedSetFactory reachedSetFactory;
   private final CFA cfa;
   private final Specification specification;
 
   protected final ShutdownNotifier shutdownNotifier;
 
+  /**
+   * The manager of {@link #shutdownNotifier}, which the algorithm of the base case also uses, such
+   * that a concurrent step case can stop the base case after it proved the program safe.
+   */
+  private final ShutdownManager shutdownManager;
+
   private final TargetLocationProvider targetLocationProvider;
 
   private final @Nullable ShutdownRequestListener propagateSafetyInterrupt;
 
   private final AbstractionStrategy abstractionStrategy;
 
+  /** endpoint for sharing confirmed invariants with other analyses that run in parallel, or null */
+  private final @Nullable SharedAnalysisResults.Endpoint sharedResults;
+
+  private int activationLiteralCounter = 0;
+
+  /**
+   * The literals that imply the path formulas of states of the base case with
+   * bmc.incrementalQueries, cf. {@link #getReachabilityLiteral}.
+   */
+  private final Map<AbstractState, BooleanFormula> reachabilityLiterals = new HashMap<>();
+
   /** The candidate invariants that have been proven to hold at the loop heads. */
   private final Set<CandidateInvariant> confirmedCandidates = new CopyOnWriteArraySet<>();
 
@@ -221,10 +279,13 @@ abstract class AbstractBMCAlgorithm
     algorithm = pAlgorithm;
     cpa = pCPA;
     logger = pLogger;
+    stepCaseLogger = logger.withComponentName("InductionStepCase");
+    config = pConfig;
     reachedSetFactory = pReachedSetFactory;
     cfa = pCFA;
     specification = checkNotNull(pSpecification);
 
+    shutdownManager = pShutdownManager;
     shutdownNotifier = pShutdownManager.getNotifier();
     TestTargetCPA testCPA = CPAs.retrieveCPA(pCPA, TestTargetCPA.class);
     if (testCPA != null) {
@@ -244,8 +305,17 @@ abstract class AbstractBMCAlgorithm
               && !getLoopHeads().isEmpty();
     }
 
+    if (pIsInvariantGenerator && parallelStepCase) {
+      // The invariants of BMCAlgorithmForInvariantGeneration are provided by the induction prover
+      // and its CPA, which need to stay open after the step case.
+      logger.log(
+          Level.INFO,
+          "Checking the step case concurrently is not supported for invariant generation,"
+              + " checking it sequentially.");
+      parallelStepCase = false;
+    }
+
     if (induction) {
-      LogManager stepCaseLogger = logger.withComponentName("InductionStepCase");
       CPABuilder builder =
           new CPABuilder(
               pConfig, stepCaseLogger, pShutdownManager.getNotifier(), pReachedSetFactory);
@@ -322,6 +392,14 @@ abstract class AbstractBMCAlgorithm
     bfmgr = fmgr.getBooleanFormulaManager();
     pmgr = predCpa.getPathFormulaManager();
     abstractionStrategy = new PredicateAbstractionStrategy(cfa.getVarClassification());
+    sharedResults = predCpa.getSharedResults();
+
+    if (incrementalQueries && SOLVERS_WITHOUT_ASSUMPTIONS.contains(solver.getSolverName())) {
+      throw new InvalidConfigurationException(
+          "Option bmc.incrementalQueries is not supported with solver "
+              + solver.getSolverName()
+              + ", which does not support solving with assumptions");
+    }
   }
 
   static boolean checkIfInductionIsPossible(CFA cfa, LogManager logger) {
@@ -354,16 +432,48 @@ abstract class AbstractBMCAlgorithm
 
     AlgorithmStatus status;
 
+    // the step case for the previous bound if it is checked concurrently to the base case
+    PendingStepCase pendingStepCase = null;
+    ExecutorService stepCaseExecutor = null;
+    // the step cases of this run are stopped together if their result is not needed anymore
+    ShutdownManager stepCaseShutdownManager = null;
+    Algorithm concurrentStepCaseAlgorithm = null;
+    if (induction && parallelStepCase) {
+      stepCaseShutdownManager = ShutdownManager.createWithParent(shutdownNotifier);
+      try {
+        concurrentStepCaseAlgorithm =
+            CPAAlgorithm.create(
+                stepCaseCPA, stepCaseLogger, config, stepCaseShutdownManager.getNotifier());
+      } catch (InvalidConfigurationException e) {
+        throw new CPAException("Invalid configuration for the step case of k-induction", e);
+      }
+      stepCaseExecutor =
+          Executors.newSingleThreadExecutor(
+              new ThreadFactoryBuilder()
+                  .setNameFormat("k-induction-step-case-%d")
+                  .setDaemon(true)
+                  .build());
+    }
+
     try (ProverEnvironment prover = solver.newProverEnvironment(ProverOptions.GENERATE_MODELS)) {
       invariantGeneratorHeadStart.waitForInvariantGenerator();
 
       do {
+        if (applyIfProvedProperty(pendingStepCase, candidateGenerator, ctiBlockingClauses)) {
+          return AlgorithmStatus.SOUND_AND_PRECISE;
+        }
         shutdownNotifier.shutdownIfNecessary();
 
         logger.log(Level.INFO, "Creating formula for program");
         stats.bmcPreparation.start();
-        status = BMCHelper.unroll(logger, reachedSet, algorithm, cpa);
-        stats.bmcPreparation.stop();
+        try {
+          status = BMCHelper.unroll(logger, reachedSet, algorithm, cpa);
+        } finally {
+          stats.bmcPreparation.stop();
+        }
+        if (applyIfProvedProperty(pendingStepCase, candidateGenerator, ctiBlockingClauses)) {
+          return AlgorithmStatus.SOUND_AND_PRECISE;
+        }
         if (from(reachedSet)
             .skip(1) // first state of reached is always an abstraction state, so skip it
             .filter(not(AbstractStates::isTargetState)) // target states may be abstraction states
@@ -386,7 +496,8 @@ abstract class AbstractBMCAlgorithm
           CandidateInvariant candidateInvariant = candidateInvariantIterator.next();
           // first check safety in k iterations
 
-          boolean safe = boundedModelCheck(reachedSet, prover, candidateInvariant);
+          boolean safe =
+              boundedModelCheck(reachedSet, prover, candidateInvariant, incrementalQueries);
           if (!safe) {
             if (candidateInvariant == TargetLocationCandidateInvariant.INSTANCE) {
               return AlgorithmStatus.UNSOUND_AND_PRECISE;
@@ -398,6 +509,10 @@ abstract class AbstractBMCAlgorithm
             TargetLocationCandidateInvariant.INSTANCE.assumeTruth(reachedSet);
             return AlgorithmStatus.SOUND_AND_PRECISE;
           }
+
+          if (applyIfProvedProperty(pendingStepCase, candidateGenerator, ctiBlockingClauses)) {
+            return AlgorithmStatus.SOUND_AND_PRECISE;
+          }
         }
 
         // second check soundness
@@ -407,7 +522,10 @@ abstract class AbstractBMCAlgorithm
         if (status.isSound()) {
 
           // check bounding assertions
-          sound = candidateGenerator.hasCandidatesAvailable() ? checkBoundingAssertions(reachedSet, prover) : true;
+          sound =
+              candidateGenerator.hasCandidatesAvailable()
+                  ? checkBoundingAssertions(reachedSet, prover, incrementalQueries)
+                  : true;
 
           if (invariantGenerator.isProgramSafe()) {
             return AlgorithmStatus.SOUND_AND_PRECISE;
@@ -415,6 +533,15 @@ abstract class AbstractBMCAlgorithm
 
           // try to prove program safety via induction
           if (induction && !sound) {
+            if (pendingStepCase != null) {
+              // the step case for the previous bound needs to finish before the blocking clauses
+              // are refined and the next step case is started
+              boolean safe = joinStepCase(pendingStepCase, candidateGenerator, ctiBlockingClauses);
+              pendingStepCase = null;
+              if (safe) {
+                return AlgorithmStatus.SOUND_AND_PRECISE;
+              }
+            }
             if (usePropertyDirection) {
               usePropertyDirection =
                   refineCtiBlockingClauses(reachedSet, prover, ctiBlockingClauses, checkedClauses);
@@ -422,10 +549,25 @@ abstract class AbstractBMCAlgorithm
                 ctiBlockingClauses.clear();
               }
             }
-            try (@SuppressWarnings("resource")
-                KInductionProver kInductionProver = createInductionProver()) {
-            sound =
-                checkStepCase(reachedSet, candidateGenerator, kInductionProver, ctiBlockingClauses);
+            StepCase stepCase = prepareStepCase(reachedSet, candidateGenerator, ctiBlockingClauses);
+            if (stepCaseExecutor != null) {
+              Algorithm stepCaseAlgorithmOfRun = concurrentStepCaseAlgorithm;
+              ShutdownNotifier stepCaseShutdownNotifier = stepCaseShutdownManager.getNotifier();
+              pendingStepCase =
+                  new PendingStepCase(
+                      stepCaseExecutor.submit(
+                          () ->
+                              checkStepCaseConcurrently(
+                                  stepCase, stepCaseAlgorithmOfRun, stepCaseShutdownNotifier)),
+                      stepCaseShutdownManager);
+            } else {
+              StepCaseResult stepCaseResult;
+              try (@SuppressWarnings("resource")
+                  KInductionProver kInductionProver =
+                      createInductionProver(stepCaseAlgorithm, stepCaseCPA, shutdownNotifier)) {
+                stepCaseResult = checkStepCase(stepCase, kInductionProver);
+              }
+              sound = applyStepCaseResult(stepCaseResult, candidateGenerator, ctiBlockingClauses);
             }
           }
           if (invariantGenerator.isProgramSafe()
@@ -435,23 +577,59 @@ abstract class AbstractBMCAlgorithm
         }
 
         if (!candidateGenerator.hasCandidatesAvailable()) {
+          if (pendingStepCase != null) {
+            boolean safe = joinStepCase(pendingStepCase, candidateGenerator, ctiBlockingClauses);
+            pendingStepCase = null;
+            if (safe) {
+              return AlgorithmStatus.SOUND_AND_PRECISE;
+            }
+          }
           // no remaining invariants to be proven
           return status;
         }
       }
       while (status.isSound() && adjustConditions());
+
+      if (pendingStepCase != null) {
+        boolean safe = joinStepCase(pendingStepCase, candidateGenerator, ctiBlockingClauses);
+        pendingStepCase = null;
+        if (safe) {
+          return AlgorithmStatus.SOUND_AND_PRECISE;
+        }
+      }
+    } catch (InterruptedException e) {
+      if (applyIfProvedProperty(pendingStepCase, candidateGenerator, ctiBlockingClauses)) {
+        // the step case stopped the base case, whose remaining states do not matter anymore
+        for (AbstractState state : ImmutableList.copyOf(reachedSet.getWaitlist())) {
+          reachedSet.removeOnlyFromWaitlist(state);
+        }
+        return AlgorithmStatus.SOUND_AND_PRECISE;
+      }
+      throw e;
+    } finally {
+      // the literals are defined only on the prover of this run
+      reachabilityLiterals.clear();
+      if (pendingStepCase != null) {
+        // the result of the step case is not needed anymore
+        pendingStepCase.shutdownManager.requestShutdown("result of step case not needed");
+        pendingStepCase.result.cancel(true);
+      }
+      if (stepCaseExecutor != null) {
+        stepCaseExecutor.shutdownNow();
+      }
     }
 
     return AlgorithmStatus.UNSOUND_AND_PRECISE;
   }
 
-  private boolean checkStepCase(
-      final ReachedSet reachedSet,
-      final CandidateGenerator candidateGenerator,
-      KInductionProver kInductionProver,
-      Set<Obligation> pCtiBlockingClauses)
-      throws InterruptedException, CPAException, SolverException {
-
+  /**
+   * Take the inputs of the step case from the current state of the base case, such that the base
+   * case can continue with the next bound while the step case is checked.
+   */
+  private StepCase prepareStepCase(
+      ReachedSet reachedSet,
+      CandidateGenerator candidateGenerator,
+      Set<Obligation> pCtiBlockingClauses) {
     final int k = CPAs.retrieveCPA(cpa, LoopIterationBounding.class).getMaxLoopIterations();
 
     Set<Object> checkedKeys = getCheckedKeys(reachedSet);
@@ -460,11 +638,119 @@ abstract class AbstractBMCAlgorithm
 
     Set<CandidateInvariant> candidates =
         FluentIterable.concat(pCtiBlockingClauses, candidateGenerator).filter(isApplicable).toSet();
+    return new StepCase(k, checkedKeys, candidates, new TreeSet<>(pCtiBlockingClauses));
+  }
+
+  /**
+   * Check the step case on the thread of the step cases, which is the only user of the step-case
+   * CPA while the step cases are checked concurrently to the base case. If the step case proves
+   * the program safe, the base case is stopped.
+   */
+  private StepCaseResult checkStepCaseConcurrently(
+      StepCase pStepCase, Algorithm pStepCaseAlgorithm, ShutdownNotifier pShutdownNotifier)
+      throws InterruptedException, CPAException, SolverException {
+    StepCaseResult result;
+    try (@SuppressWarnings("resource")
+        KInductionProver kInductionProver =
+            createInductionProver(pStepCaseAlgorithm, stepCaseCPA, pShutdownNotifier)) {
+      result = checkStepCase(pStepCase, kInductionProver);
+    }
+    if (result.provedProperty && !pShutdownNotifier.shouldShutdown()) {
+      shutdownManager.requestShutdown("step case of k-induction proved the program safe");
+    }
+    return result;
+  }
+
+  /**
+   * If the given step case has already finished and proved the program safe, apply its result.
+   *
+   * @return whether the program was proven safe by the given step case
+   */
+  private boolean applyIfProvedProperty(
+      @Nullable PendingStepCase pStepCase,
+      CandidateGenerator candidateGenerator,
+      Set<Obligation> pCtiBlockingClauses)
+      throws InterruptedException, CPAException, SolverException {
+    if (pStepCase == null || !pStepCase.result.isDone()) {
+      return false;
+    }
+    StepCaseResult result = awaitStepCase(pStepCase);
+    if (!result.provedProperty) {
+      return false;
+    }
+    // the base case already holds for the bound of the step case
+    applyStepCaseResult(result, candidateGenerator, pCtiBlockingClauses);
+    return true;
+  }
+
+  private StepCaseResult awaitStepCase(PendingStepCase pStepCase)
+      throws InterruptedException, CPAException, SolverException {
+    try {
+      return pStepCase.result.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      Throwables.throwIfInstanceOf(cause, CPAException.class);
+      Throwables.throwIfInstanceOf(cause, InterruptedException.class);
+      Throwables.throwIfInstanceOf(cause, SolverException.class);
+      Throwables.throwIfUnchecked(cause);
+      throw new UnexpectedCheckedException("step case of k-induction", cause);
+    }
+  }
+
+  /**
+   * Wait for the given step case and apply its result.
+   *
+   * @return whether the program was proven safe
+   */
+  private boolean joinStepCase(
+      PendingStepCase pStepCase,
+      CandidateGenerator candidateGenerator,
+      Set<Obligation> pCtiBlockingClauses)
+      throws InterruptedException, CPAException, SolverException {
+    boolean sound =
+        applyStepCaseResult(awaitStepCase(pStepCase), candidateGenerator, pCtiBlockingClauses);
+    return invariantGenerator.isProgramSafe()
+        || (sound && !candidateGenerator.produceMoreCandidates());
+  }
+
+  /**
+   * Confirm the candidates that the step case proved and update the blocking clauses.
+   *
+   * @return whether the step case was successful for all candidates
+   */
+  private boolean applyStepCaseResult(
+      StepCaseResult pResult,
+      CandidateGenerator candidateGenerator,
+      Set<Obligation> pCtiBlockingClauses)
+      throws CPATransferException, InterruptedException {
+    for (Iterable<CandidateInvariant> confirmed : pResult.confirmedCandidates) {
+      candidateGenerator.confirmCandidates(confirmed);
+      shareConfirmedCandidates(confirmed);
+    }
+    pCtiBlockingClauses.clear();
+    pCtiBlockingClauses.addAll(pResult.ctiBlockingClauses);
+    return pResult.sound;
+  }
+
+  /**
+   * Check the step case. This method does not modify the state of the base case (except for the
+   * thread-safe set of confirmed candidates), the result is applied by {@link
+   * #applyStepCaseResult}.
+   */
+  private StepCaseResult checkStepCase(StepCase pStepCase, KInductionProver kInductionProver)
+      throws InterruptedException, CPAException, SolverException {
+
+    final int k = pStepCase.k;
+    Set<Object> checkedKeys = pStepCase.checkedKeys;
+    Set<CandidateInvariant> candidates = pStepCase.candidates;
+    Set<Obligation> pCtiBlockingClauses = pStepCase.ctiBlockingClauses;
+    List<Iterable<CandidateInvariant>> newlyConfirmedCandidates = new ArrayList<>();
     Set<SymbolicCandiateInvariant> checked = new HashSet<>();
 
     shutdownNotifier.shutdownIfNecessary();
 
     boolean sound = true;
+    boolean provedProperty = false;
     Iterable<CandidateInvariant> candidatesToCheck = candidates;
     for (CandidateInvariant candidate : candidatesToCheck) {
       // No need to check the same clause twice
@@ -495,10 +781,10 @@ abstract class AbstractBMCAlgorithm
         Iterables.addAll(
             confirmedCandidates,
             CandidateInvariantCombination.getConjunctiveParts(candidate));
-        candidateGenerator.confirmCandidates(
-            CandidateInvariantCombination.getConjunctiveParts(candidate));
+        newlyConfirmedCandidates.add(CandidateInvariantCombination.getConjunctiveParts(candidate));
         if (candidate == TargetLocationCandidateInvariant.INSTANCE) {
           sound = true;
+          provedProperty = true;
           break;
         }
       } else {
@@ -520,7 +806,7 @@ abstract class AbstractBMCAlgorithm
               Iterables.addAll(
                   confirmedCandidates,
                   CandidateInvariantCombination.getConjunctiveParts(weakening));
-              candidateGenerator.confirmCandidates(
+              newlyConfirmedCandidates.add(
                   CandidateInvariantCombination.getConjunctiveParts(weakening));
               break;
             }
@@ -543,7 +829,8 @@ abstract class AbstractBMCAlgorithm
         }
       }
     }
-    return sound;
+    return new StepCaseResult(
+        sound, provedProperty, newlyConfirmedCandidates, pCtiBlockingClauses);
   }
 
   /**
@@ -589,24 +876,53 @@ abstract class AbstractBMCAlgorithm
     return adjusted;
   }
 
+  /**
+   * Check the given candidate invariant for the states in the given reached set.
+   *
+   * @param pUseActivationLiterals whether to check the reachability of the target states with
+   *     reachability and activation literals (cf. {@link #isUnsatWithActivationLiteral}) instead
+   *     of pushing and popping the program formula. Other candidate invariants are always checked
+   *     by pushing and popping them.
+   * @return whether the candidate invariant holds
+   */
   protected boolean boundedModelCheck(
       final ReachedSet pReachedSet,
       final BasicProverEnvironment<?> pProver,
-      CandidateInvariant pCandidateInvariant)
+      CandidateInvariant pCandidateInvariant,
+      boolean pUseActivationLiterals)
       throws CPATransferException, InterruptedException, SolverException {
-    return boundedModelCheck((Iterable<AbstractState>) pReachedSet, pProver, pCandidateInvariant);
+    return boundedModelCheck(
+        (Iterable<AbstractState>) pReachedSet,
+        pProver,
+        pCandidateInvariant,
+        pUseActivationLiterals);
   }
 
   private boolean boundedModelCheck(
       Iterable<AbstractState> pReachedSet,
       BasicProverEnvironment<?> pProver,
-      CandidateInvariant pCandidateInvariant)
+      CandidateInvariant pCandidateInvariant,
+      boolean pUseActivationLiterals)
       throws CPATransferException, InterruptedException, SolverException {
     BooleanFormula program = bfmgr.not(pCandidateInvariant.getAssertion(pReachedSet, fmgr, pmgr));
+    boolean incremental =
+        pUseActivationLiterals && pCandidateInvariant == TargetLocationCandidateInvariant.INSTANCE;
     logger.log(Level.INFO, "Starting satisfiability check...");
     stats.satCheck.start();
-    pProver.push(program);
-    boolean safe = pProver.isUnsat();
+    boolean safe;
+    if (incremental) {
+      safe =
+          isUnsatWithActivationLiteral(
+              pProver,
+              getReachabilityQuery(pProver, pCandidateInvariant.filterApplicable(pReachedSet)));
+      if (!safe) {
+        // the error path is created from the solver stack
+        pProver.push(program);
+      }
+    } else {
+      pProver.push(program);
+      safe = pProver.isUnsat();
+    }
     stats.satCheck.stop();
     // Leave program formula on solver stack until error path is created
 
@@ -619,11 +935,63 @@ abstract class AbstractBMCAlgorithm
       }
     }
 
-    pProver.pop();
+    if (!incremental || !safe) {
+      pProver.pop();
+    }
 
     return safe;
   }
 
+  /**
+   * Return the reachability literal of the given state, which implies the path formula of the
+   * state. The implication is asserted on the given prover when the literal is created, such that
+   * the path formula of each state is asserted only once, and the parts of it that are shared with
+   * the path formulas of other states and of later bounds are encoded only once by the solver.
+   * Because the literal is fresh, the implication does not restrict any other formula.
+   */
+  private BooleanFormula getReachabilityLiteral(
+      BasicProverEnvironment<?> pProver, AbstractState pState)
+      throws InterruptedException {
+    BooleanFormula literal = reachabilityLiterals.get(pState);
+    if (literal == null) {
+      literal = bfmgr.makeVariable("__bmc_reachability_" + reachabilityLiterals.size());
+      pProver.addConstraint(
+          bfmgr.implication(literal, BMCHelper.createFormulaFor(ImmutableList.of(pState), bfmgr)));
+      reachabilityLiterals.put(pState, literal);
+    }
+    return literal;
+  }
+
+  /** Return a query that is satisfiable if one of the given states is reachable. */
+  private BooleanFormula getReachabilityQuery(
+      BasicProverEnvironment<?> pProver, Iterable<AbstractState> pStates)
+      throws InterruptedException {
+    List<BooleanFormula> literals = new ArrayList<>();
+    for (AbstractState state : pStates) {
+      literals.add(getReachabilityLiteral(pProver, state));
+    }
+    return bfmgr.or(literals);
+  }
+
+  /**
+   * Check whether the given query is unsatisfiable together with the formulas asserted on the
+   * given prover. Instead of pushing and popping the query, it is asserted but guarded by a fresh
+   * activation literal, which is assumed for this check and disabled afterwards. The query should
+   * be small, e.g., a disjunction of reachability literals, because disabled queries stay on the
+   * solver.
+   */
+  private boolean isUnsatWithActivationLiteral(
+      BasicProverEnvironment<?> pProver, BooleanFormula pQuery)
+      throws SolverException, InterruptedException {
+    BooleanFormula activationLiteral =
+        bfmgr.makeVariable("__bmc_query_activation_" + activationLiteralCounter++);
+    pProver.addConstraint(bfmgr.implication(activationLiteral, pQuery));
+    boolean unsat = pProver.isUnsatWithAssumptions(ImmutableList.of(activationLiteral));
+    // the guarded query is trivially satisfied from now on, so the solver may drop it
+    pProver.addConstraint(bfmgr.not(activationLiteral));
+    return unsat;
+  }
+
   private boolean refineCtiBlockingClauses(
       ReachedSet pReachedSet,
       BasicProverEnvironment<?> pProver,
@@ -678,7 +1046,7 @@ abstract class AbstractBMCAlgorithm
           Iterable<AbstractState> applicableStates =
               newBlockingClause.filterApplicable(pReachedSet);
           applicableStates = clauseResult.filterUnchecked(applicableStates);
-          isUnsat = boundedModelCheck(applicableStates, pProver, newBlockingClause);
+          isUnsat = boundedModelCheck(applicableStates, pProver, newBlockingClause, false);
           if (isUnsat) {
             clauseResult.addSafeStates(applicableStates);
           } else {
@@ -746,12 +1114,16 @@ abstract class AbstractBMCAlgorithm
    * @param pReachedSet the reached set containing the frontier of the bounded model check, i.e.
    *     where the bounded model check stopped.
    * @param prover the prover to be used to prove that the stop states are unreachable.
+   * @param pUseActivationLiterals whether to check the reachability of the stop states with
+   *     reachability and activation literals instead of pushing and popping their formulas.
    * @return {@code true} if the bounded model check covered all reachable states and was thus
    *     sound, {@code false} otherwise.
    * @throws InterruptedException if the satisfiability check is interrupted.
    */
   private boolean checkBoundingAssertions(
-      final ReachedSet pReachedSet, final BasicProverEnvironment<?> prover)
+      final ReachedSet pReachedSet,
+      final BasicProverEnvironment<?> prover,
+      boolean pUseActivationLiterals)
       throws SolverException, InterruptedException {
     FluentIterable<AbstractState> stopStates =
         from(pReachedSet)
@@ -763,22 +1135,31 @@ abstract class AbstractBMCAlgorithm
       boolean sound = true;
 
       if (!boundingAssertionsSlicing) {
-        // create one formula for unwinding assertions
-        BooleanFormula assertions = BMCHelper.createFormulaFor(stopStates, bfmgr);
         stats.assertionsCheck.start();
-        prover.push(assertions);
-        sound = prover.isUnsat();
-        prover.pop();
+        if (pUseActivationLiterals) {
+          sound = isUnsatWithActivationLiteral(prover, getReachabilityQuery(prover, stopStates));
+        } else {
+          // create one formula for unwinding assertions
+          BooleanFormula assertions = BMCHelper.createFormulaFor(stopStates, bfmgr);
+          prover.push(assertions);
+          sound = prover.isUnsat();
+          prover.pop();
+        }
         stats.assertionsCheck.stop();
       } else {
         List<AbstractState> toRemove = new ArrayList<>();
         for (AbstractState s : stopStates) {
-          // create individual formula for unwinding assertions
-          BooleanFormula assertions = BMCHelper.createFormulaFor(ImmutableList.of(s), bfmgr);
           stats.assertionsCheck.start();
-          prover.push(assertions);
-          boolean result = prover.isUnsat();
-          prover.pop();
+          boolean result;
+          if (pUseActivationLiterals) {
+            result = isUnsatWithActivationLiteral(prover, getReachabilityLiteral(prover, s));
+          } else {
+            // create individual formula for unwinding assertions
+            BooleanFormula assertions = BMCHelper.createFormulaFor(ImmutableList.of(s), bfmgr);
+            prover.push(assertions);
+            result = prover.isUnsat();
+            prover.pop();
+          }
           stats.assertionsCheck.stop();
           sound &= result;
           if (result) {
@@ -807,22 +1188,28 @@ abstract class AbstractBMCAlgorithm
       ((StatisticsProvider)algorithm).collectStatistics(pStatsCollection);
     }
     pStatsCollection.add(stats);
+    if (stepCaseCPA instanceof StatisticsProvider) {
+      ((StatisticsProvider) stepCaseCPA).collectStatistics(pStatsCollection);
+    }
     if (invariantGenerator instanceof StatisticsProvider) {
       ((StatisticsProvider)invariantGenerator).collectStatistics(pStatsCollection);
     }
   }
 
-  protected KInductionProver createInductionProver() {
+  protected KInductionProver createInductionProver(
+      Algorithm pStepCaseAlgorithm,
+      ConfigurableProgramAnalysis pStepCaseCPA,
+      ShutdownNotifier pShutdownNotifier) {
     assert induction;
     return new KInductionProver(
         cfa,
         logger,
-        stepCaseAlgorithm,
-        stepCaseCPA,
+        pStepCaseAlgorithm,
+        pStepCaseCPA,
         invariantGenerator,
         stats,
         reachedSetFactory,
-        shutdownNotifier,
+        pShutdownNotifier,
         getLoopHeads(),
         usePropertyDirection);
   }
@@ -940,6 +1327,37 @@ abstract class AbstractBMCAlgorithm
         throws InvalidConfigurationException, CPAException, InterruptedException;
   }
 
+  /**
+   * Publish the atoms of the given confirmed candidates as predicates for the loop heads that the
+   * candidates apply to, such that other analyses that run in parallel can use them.
+   */
+  private void shareConfirmedCandidates(Iterable<? extends CandidateInvariant> pCandidates)
+      throws CPATransferException, InterruptedException {
+    if (sharedResults == null) {
+      return;
+    }
+    ImmutableSetMultimap.Builder<CFANode, String> predicates = ImmutableSetMultimap.builder();
+    for (CandidateInvariant candidate : pCandidates) {
+      if (candidate == TargetLocationCandidateInvariant.INSTANCE) {
+        continue;
+      }
+      BooleanFormula invariant = candidate.getFormula(fmgr, pmgr, pmgr.makeEmptyPathFormula());
+      List<String> atoms = new ArrayList<>();
+      for (BooleanFormula atom : fmgr.extractAtoms(invariant, false)) {
+        atoms.add(fmgr.dumpFormula(atom).toString());
+      }
+      for (CFANode loopHead : getLoopHeads()) {
+        if (candidate.appliesTo(loopHead)) {
+          predicates.putAll(loopHead, atoms);
+        }
+      }
+    }
+    ImmutableSetMultimap<CFANode, String> result = predicates.build();
+    if (!result.isEmpty()) {
+      sharedResults.publish(Topic.PREDICATES, result);
+    }
+  }
+
   protected FluentIterable<CandidateInvariant> getConfirmedCandidates(final CFANode pLocation) {
     return from(confirmedCandidates)
         .filter(pConfirmedCandidate -> pConfirmedCandidate.appliesTo(pLocation));
@@ -1170,6 +1588,64 @@ abstract class AbstractBMCAlgorithm
     }
   }
 
+  /** The inputs of a step case, which are taken from the base case. */
+  private static class StepCase {
+
+    private final int k;
+    private final Set<Object> checkedKeys;
+    private final Set<CandidateInvariant> candidates;
+    private final Set<Obligation> ctiBlockingClauses;
+
+    private StepCase(
+        int pK,
+        Set<Object> pCheckedKeys,
+        Set<CandidateInvariant> pCandidates,
+        Set<Obligation> pCtiBlockingClauses) {
+      k = pK;
+      checkedKeys = pCheckedKeys;
+      candidates = pCandidates;
+      ctiBlockingClauses = pCtiBlockingClauses;
+    }
+  }
+
+  private static class StepCaseResult {
+
+    /** whether the step case was successful for all candidates */
+    private final boolean sound;
+
+    /** whether the step case proved the safety property itself */
+    private final boolean provedProperty;
+
+    /** the conjunctive parts of the confirmed candidates, in the order of their confirmation */
+    private final List<Iterable<CandidateInvariant>> confirmedCandidates;
+
+    /** the new set of blocking clauses for counterexamples to induction */
+    private final Set<Obligation> ctiBlockingClauses;
+
+    private StepCaseResult(
+        boolean pSound,
+        boolean pProvedProperty,
+        List<Iterable<CandidateInvariant>> pConfirmedCandidates,
+        Set<Obligation> pCtiBlockingClauses) {
+      sound = pSound;
+      provedProperty = pProvedProperty;
+      confirmedCandidates = pConfirmedCandidates;
+      ctiBlockingClauses = pCtiBlockingClauses;
+    }
+  }
+
+  /** A step case that is checked concurrently to the base case. */
+  private static class PendingStepCase {
+
+    private final Future<StepCaseResult> result;
+    private final ShutdownManager shutdownManager;
+
+    private PendingStepCase(Future<StepCaseResult> pResult, ShutdownManager pShutdownManager) {
+      result = pResult;
+      shutdownManager = pShutdownManager;
+    }
+  }
+
   private static class BmcResult {
 
     private final Set<AbstractState> checkedStates = new HashSet<>();
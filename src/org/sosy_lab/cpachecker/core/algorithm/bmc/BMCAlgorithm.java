@@ -179,13 +179,15 @@ public class BMCAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
   protected boolean boundedModelCheck(
       final ReachedSet pReachedSet,
       final BasicProverEnvironment<?> pProver,
-      CandidateInvariant pInductionProblem)
+      CandidateInvariant pInductionProblem,
+      boolean pUseActivationLiterals)
       throws CPATransferException, InterruptedException, SolverException {
     if (!checkTargetStates) {
       return true;
     }
 
-    return super.boundedModelCheck(pReachedSet, pProver, pInductionProblem);
+    return super.boundedModelCheck(
+        pReachedSet, pProver, pInductionProblem, pUseActivationLiterals);
   }
 
   /**
@@ -0,0 +1,140 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.algorithm.bmc;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.cpachecker.core.CPAcheckerResult.Result;
+import org.sosy_lab.cpachecker.util.test.CPATestRunner;
+import org.sosy_lab.cpachecker.util.test.TestDataTools;
+import org.sosy_lab.cpachecker.util.test.TestResults;
+
+/**
+ * Tests that checking the step case of k-induction concurrently and keeping the queries of the base
+ * case on the solver yield the same results.
+ */
+public class BMCAlgorithmTest {
+
+  @Rule public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+  /** The assertion is 1-inductive, so the step case proves the program safe. */
+  private static final ImmutableList<String> SAFE_PROGRAM =
+      ImmutableList.of(
+          "extern int __VERIFIER_nondet_int(void);",
+          "int main() {",
+          "  int x = 0;",
+          "  while (__VERIFIER_nondet_int()) {",
+          "    if (x != 0) {",
+          "      ERROR: return 1;",
+          "    }",
+          "    x = 0;",
+          "  }",
+          "  return 0;",
+          "}");
+
+  /** The base case finds the counterexample in the second loop iteration. */
+  private static final ImmutableList<String> UNSAFE_PROGRAM =
+      ImmutableList.of(
+          "extern int __VERIFIER_nondet_int(void);",
+          "int main() {",
+          "  int x = 0;",
+          "  while (__VERIFIER_nondet_int()) {",
+          "    if (x != 0) {",
+          "      ERROR: return 1;",
+          "    }",
+          "    x = x + 1;",
+          "  }",
+          "  return 0;",
+          "}");
+
+  private TestResults run(ImmutableList<String> pProgram, Map<String, String> pOptions)
+      throws Exception {
+    Path program = tempFolder.newFolder().toPath().resolve("program.c");
+    Files.write(program, pProgram, StandardCharsets.UTF_8);
+    Configuration config =
+        TestDataTools.configurationForTest()
+            .loadFromFile("config/components/kInduction/kInduction.properties")
+            .setOption("specification", "config/specification/ErrorLabel.spc")
+            .setOptions(pOptions)
+            .build();
+    return CPATestRunner.run(config, program.toString());
+  }
+
+  private void assertSameResult(ImmutableList<String> pProgram, Result pExpected)
+      throws Exception {
+    TestResults sequential = run(pProgram, ImmutableMap.of("bmc.parallelStepCase", "false"));
+    TestResults concurrent = run(pProgram, ImmutableMap.of("bmc.parallelStepCase", "true"));
+
+    sequential.assertIs(pExpected);
+    concurrent.assertIs(pExpected);
+  }
+
+  private void assertResultWithIncrementalQueries(
+      ImmutableList<String> pProgram, Result pExpected) throws Exception {
+    TestResults incremental = run(pProgram, ImmutableMap.of("bmc.incrementalQueries", "true"));
+
+    incremental.assertIs(pExpected);
+  }
+
+  @Test(timeout = 90000)
+  public void testConcurrentStepCaseProvesSafety() throws Exception {
+    assertSameResult(SAFE_PROGRAM, Result.TRUE);
+  }
+
+  @Test(timeout = 90000)
+  public void testConcurrentStepCaseWithCounterexample() throws Exception {
+    assertSameResult(UNSAFE_PROGRAM, Result.FALSE);
+  }
+
+  @Test(timeout = 90000)
+  public void testNoConcurrentStepCaseForInvariantGeneration() throws Exception {
+    TestResults results =
+        run(
+            SAFE_PROGRAM,
+            ImmutableMap.of(
+                "bmc.parallelStepCase", "true",
+                "bmc.invariantGenerationStrategy", "INDUCTION"));
+
+    results.assertIsSafe();
+    assertThat(results.getLog()).contains("not supported for invariant generation");
+  }
+
+  @Test(timeout = 90000)
+  public void testIncrementalQueriesProveSafety() throws Exception {
+    assertResultWithIncrementalQueries(SAFE_PROGRAM, Result.TRUE);
+  }
+
+  @Test(timeout = 90000)
+  public void testIncrementalQueriesWithCounterexample() throws Exception {
+    assertResultWithIncrementalQueries(UNSAFE_PROGRAM, Result.FALSE);
+  }
+
+  @Test(timeout = 90000)
+  public void testNoIncrementalQueriesWithoutAssumptions() throws Exception {
+    TestResults results =
+        run(
+            SAFE_PROGRAM,
+            ImmutableMap.of(
+                "bmc.incrementalQueries", "true",
+                "solver.solver", "SMTINTERPOL"));
+
+    results.assertIs(Result.NOT_YET_STARTED);
+    assertThat(results.getLog()).contains("does not support solving with assumptions");
+  }
+}
@@ -29,6 +29,9 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -72,6 +75,18 @@ import org.sosy_lab.cpachecker.util.statistics.ThreadSafeTimerContainer;
 @Options(prefix="algorithm.parallelBam")
 public class ParallelBAMAlgorithm implements Algorithm, StatisticsProvider {
 
+  enum SchedulerType {
+    /** a fixed thread pool with one global FIFO queue for all jobs. */
+    FIXED_THREAD_POOL,
+
+    /**
+     * a work-stealing pool, where each thread has its own queue. Jobs scheduled by a thread (e.g.,
+     * the analysis of a missing block) are executed by the same thread, unless another idle thread
+     * steals them. Jobs of reached-sets with many depending reached-sets are scheduled first.
+     */
+    WORK_STEALING
+  }
+
   @Option(
     description =
         "number of threads, positive values match exactly, "
@@ -84,7 +99,19 @@ public class ParallelBAMAlgorithm implements Algorithm, StatisticsProvider {
   @FileOption(FileOption.Type.OUTPUT_FILE)
   private Path runningRSESeriesFile = Paths.get("RSESeries.csv");
 
-  private final ParallelBAMStatistics stats = new ParallelBAMStatistics();
+  @Option(
+      description = "which scheduler should be used for the jobs of the reached-sets",
+      secure = true)
+  private SchedulerType scheduler = SchedulerType.FIXED_THREAD_POOL;
+
+  @Option(
+      description =
+          "export queue depth and number of stolen jobs of the work-stealing scheduler as CSV",
+      secure = true)
+  @FileOption(FileOption.Type.OUTPUT_FILE)
+  private Path schedulerSeriesFile = Paths.get("SchedulerSeries.csv");
+
+  private final ParallelBAMStatistics stats;
   private final LogManager logger;
   private final LogManagerWithoutDuplicates oneTimeLogger;
   private final BAMCPAWithBreakOnMissingBlock bamcpa;
@@ -98,6 +125,8 @@ public class ParallelBAMAlgorithm implements Algorithm, StatisticsProvider {
       ShutdownNotifier pShutdownNotifier)
       throws InvalidConfigurationException {
     pConfig.inject(this);
+    // the statistics depend on the options for the output files
+    stats = new ParallelBAMStatistics();
     bamcpa = (BAMCPAWithBreakOnMissingBlock) pCpa;
     logger = pLogger;
     oneTimeLogger = new LogManagerWithoutDuplicates(pLogger);
@@ -124,12 +153,7 @@ public class ParallelBAMAlgorithm implements Algorithm, StatisticsProvider {
     final int numberOfCores = getNumberOfCores();
     oneTimeLogger.logfOnce(Level.INFO, "creating pool for %d threads", numberOfCores);
 
-    ThreadFactory threadFactory =
-        new ThreadFactoryBuilder()
-            .setDaemon(true) // for killing hanging threads at program exit
-            .setNameFormat("ParallelBAM-thread-%d")
-            .build();
-    final ExecutorService pool = Executors.newFixedThreadPool(numberOfCores, threadFactory);
+    final ExecutorService pool = createThreadPool(numberOfCores);
     final List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
     final AtomicBoolean terminateAnalysis = new AtomicBoolean(false);
     final AtomicInteger scheduledJobs = new AtomicInteger(0);
@@ -154,6 +178,7 @@ public class ParallelBAMAlgorithm implements Algorithm, StatisticsProvider {
             errors,
             terminateAnalysis,
             scheduledJobs,
+            scheduler == SchedulerType.WORK_STEALING,
             logger);
     reachedSetMapping.put(mainReachedSet, rse); // backwards reference
 
@@ -195,6 +220,10 @@ public class ParallelBAMAlgorithm implements Algorithm, StatisticsProvider {
       }
     }
 
+    if (pool instanceof ForkJoinPool) {
+      stats.stolenJobs = ((ForkJoinPool) pool).getStealCount();
+    }
+
     collectExceptions(reachedSetMapping, errors, mainReachedSet);
 
     //    assert targetStateFound
@@ -215,6 +244,31 @@ public class ParallelBAMAlgorithm implements Algorithm, StatisticsProvider {
     return AlgorithmStatus.SOUND_AND_PRECISE.withSound(isSound);
   }
 
+  private ExecutorService createThreadPool(int numberOfCores) {
+    switch (scheduler) {
+      case FIXED_THREAD_POOL:
+        ThreadFactory threadFactory =
+            new ThreadFactoryBuilder()
+                .setDaemon(true) // for killing hanging threads at program exit
+                .setNameFormat("ParallelBAM-thread-%d")
+                .build();
+        return Executors.newFixedThreadPool(numberOfCores, threadFactory);
+      case WORK_STEALING:
+        ForkJoinWorkerThreadFactory workerFactory =
+            forkJoinPool -> {
+              // worker threads of a ForkJoinPool are daemon threads by default
+              ForkJoinWorkerThread thread =
+                  ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+              thread.setName("ParallelBAM-thread-" + thread.getPoolIndex());
+              return thread;
+            };
+        // asyncMode: local jobs are executed in FIFO order, i.e., in the order of their priority
+        return new ForkJoinPool(numberOfCores, workerFactory, null, true);
+      default:
+        throw new AssertionError("unhandled scheduler " + scheduler);
+    }
+  }
+
   private int getNumberOfCores() {
     if (numberOfThreads > 0) {
       return numberOfThreads;
@@ -314,6 +368,23 @@ public class ParallelBAMAlgorithm implements Algorithm, StatisticsProvider {
     pStatsCollection.add(stats);
   }
 
+  /** The queue depth and the number of stolen jobs of the work-stealing scheduler. */
+  static final class SchedulerSample {
+
+    private final long queuedJobs;
+    private final long stolenJobs;
+
+    SchedulerSample(long pQueuedJobs, long pStolenJobs) {
+      queuedJobs = pQueuedJobs;
+      stolenJobs = pStolenJobs;
+    }
+
+    @Override
+    public String toString() {
+      return queuedJobs + ", " + stolenJobs;
+    }
+  }
+
   class ParallelBAMStatistics implements Statistics {
     final StatTimer wallTime = new StatTimer("Time for execution of algorithm");
     final ThreadSafeTimerContainer threadTime =
@@ -331,6 +402,15 @@ public class ParallelBAMAlgorithm implements Algorithm, StatisticsProvider {
     final StatisticsSeries<Integer> runningRSESeries =
         (runningRSESeriesFile == null) ? new NoopStatisticsSeries<>() : new StatisticsSeries<>();
 
+    final LongAccumulator maxQueueDepth = new LongAccumulator(Math::max, 0);
+    private long stolenJobs = 0;
+
+    /** only filled by the work-stealing scheduler and only if it is exported. */
+    final StatisticsSeries<SchedulerSample> schedulerSeries =
+        (schedulerSeriesFile == null || scheduler != SchedulerType.WORK_STEALING)
+            ? new NoopStatisticsSeries<>()
+            : new StatisticsSeries<>();
+
     @Override
     public void printStatistics(PrintStream pOut, Result pResult, UnmodifiableReachedSet pReached) {
       StatisticsUtils.write(pOut, 0, 50, "max number of executors", numMaxRSE);
@@ -341,6 +421,10 @@ public class ParallelBAMAlgorithm implements Algorithm, StatisticsProvider {
       StatisticsUtils.write(pOut, 0, 50, threadTime);
       StatisticsUtils.write(pOut, 1, 50, addingStatesTime);
       StatisticsUtils.write(pOut, 1, 50, terminationCheckTime);
+      if (scheduler == SchedulerType.WORK_STEALING) {
+        StatisticsUtils.write(pOut, 0, 50, "max number of queued jobs", maxQueueDepth);
+        StatisticsUtils.write(pOut, 0, 50, "number of stolen jobs", stolenJobs);
+      }
     }
 
     @Override
@@ -352,6 +436,14 @@ public class ParallelBAMAlgorithm implements Algorithm, StatisticsProvider {
           logger.logUserException(Level.WARNING, e, "Could not write data-series for RSEs to file");
         }
       }
+      if (schedulerSeriesFile != null && scheduler == SchedulerType.WORK_STEALING) {
+        try {
+          IO.writeFile(schedulerSeriesFile, Charset.defaultCharset(), schedulerSeries);
+        } catch (IOException e) {
+          logger.logUserException(
+              Level.WARNING, e, "Could not write data-series for scheduler to file");
+        }
+      }
     }
 
     @Override
@@ -18,18 +18,23 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
 import com.google.common.graph.Traverser;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
@@ -42,6 +47,7 @@ import org.sosy_lab.cpachecker.cfa.model.CFANode;
 import org.sosy_lab.cpachecker.core.algorithm.Algorithm;
 import org.sosy_lab.cpachecker.core.algorithm.Algorithm.AlgorithmFactory;
 import org.sosy_lab.cpachecker.core.algorithm.parallel_bam.ParallelBAMAlgorithm.ParallelBAMStatistics;
+import org.sosy_lab.cpachecker.core.algorithm.parallel_bam.ParallelBAMAlgorithm.SchedulerSample;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
 import org.sosy_lab.cpachecker.core.interfaces.Precision;
 import org.sosy_lab.cpachecker.core.reachedset.ReachedSet;
@@ -102,6 +108,9 @@ class ReachedSetExecutor {
    */
   private final AtomicInteger scheduledJobs;
 
+  /** whether jobs of reached-sets with many depending reached-sets should be scheduled first. */
+  private final boolean prioritizeJobs;
+
   int execCounter = 0; // statistics
   private final TimerWrapper threadTimer;
   private final TimerWrapper addingStatesTimer;
@@ -143,6 +152,7 @@ class ReachedSetExecutor {
       List<Throwable> pErrors,
       AtomicBoolean pTerminateAnalysis,
       AtomicInteger pScheduledJobs,
+      boolean pPrioritizeJobs,
       LogManager pLogger) {
     bamcpa = pBamCpa;
     rs = pRs;
@@ -156,6 +166,7 @@ class ReachedSetExecutor {
     errors = pErrors;
     terminateAnalysis = pTerminateAnalysis;
     scheduledJobs = pScheduledJobs;
+    prioritizeJobs = pPrioritizeJobs;
     logger = pLogger;
 
     algorithm = algorithmFactory.newInstance();
@@ -202,6 +213,12 @@ class ReachedSetExecutor {
     stats.histActiveThreads.insertValue(running);
     stats.numMaxRSE.accumulate(reachedSetMapping.size());
     stats.runningRSESeries.add(running);
+    if (pool instanceof ForkJoinPool) {
+      ForkJoinPool forkJoinPool = (ForkJoinPool) pool;
+      long queuedJobs = forkJoinPool.getQueuedTaskCount() + forkJoinPool.getQueuedSubmissionCount();
+      stats.maxQueueDepth.accumulate(queuedJobs);
+      stats.schedulerSeries.add(new SchedulerSample(queuedJobs, forkJoinPool.getStealCount()));
+    }
     execCounter++;
 
     scheduledJobs.decrementAndGet();
@@ -396,18 +413,45 @@ class ReachedSetExecutor {
   private void reAddStatesToDependingReachedSets() {
     // first lock is only against deadlock of locks for 'reachedSetMapping' and 'dependingFrom'.
     // TODO optimize lock/unlock behavior if performance is too bad
+    final List<Entry<ReachedSetExecutor, Collection<AbstractState>>> parents;
     synchronized (dependingFrom) {
       logger.logf(
           level,
           "%s :: -> %s",
           this,
           Iterables.transform(dependingFrom.entries(), e -> e.getKey() + "#" + id(e.getValue())));
+      parents = new ArrayList<>();
       for (Entry<ReachedSetExecutor, Collection<AbstractState>> parent :
           dependingFrom.asMap().entrySet()) {
-        registerJob(parent.getKey(), parent.getKey().asRunnable(parent.getValue()));
+        // copy needed, because the multimap is cleared below
+        parents.add(Maps.immutableEntry(parent.getKey(), ImmutableSet.copyOf(parent.getValue())));
       }
       dependingFrom.clear();
     }
+
+    if (prioritizeJobs) {
+      // parents with many depending reached-sets are scheduled first.
+      // Other threads can change the number of depending reached-sets while sorting,
+      // thus we sort by a snapshot to keep the comparator consistent.
+      // The sorting is stable, thus the order of parents with equal priority is kept.
+      final Map<ReachedSetExecutor, Integer> priorities = new HashMap<>();
+      for (Entry<ReachedSetExecutor, Collection<AbstractState>> parent : parents) {
+        priorities.put(parent.getKey(), parent.getKey().getNumberOfDependingReachedSets());
+      }
+      parents.sort(
+          Comparator.comparingInt((Entry<ReachedSetExecutor, ?> e) -> priorities.get(e.getKey()))
+              .reversed());
+    }
+    for (Entry<ReachedSetExecutor, Collection<AbstractState>> parent : parents) {
+      registerJob(parent.getKey(), parent.getKey().asRunnable(parent.getValue()));
+    }
+  }
+
+  /** Returns the number of reached-sets that wait for the current one. */
+  private int getNumberOfDependingReachedSets() {
+    synchronized (dependingFrom) {
+      return dependingFrom.keySet().size();
+    }
   }
 
   private void addDependencies(
@@ -531,6 +575,7 @@ class ReachedSetExecutor {
                     errors,
                     terminateAnalysis,
                     scheduledJobs,
+                    prioritizeJobs,
                     logger));
     logger.logf(level, "%s :: register sub%s", this, subRse);
     return subRse;
@@ -0,0 +1,45 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.interfaces;
+
+/**
+ * Interface for abstract states that provide a cheap necessary condition for being covered by
+ * another state, which allows to skip most of the expensive coverage checks of the stop operator.
+ *
+ * <p>Many abstract domains have a lattice key, e.g., the set of assigned variables or the set of
+ * held locks, such that a state can only be less or equal than another state if the key of the
+ * other state is a subset of its own key. The coverage signature is a 64-bit hash of such a key
+ * (cf. {@link #signatureBit(int)}), so a state {@code s} can only be less or equal than a state
+ * {@code r} if {@code (r.getCoverageSignature() & ~s.getCoverageSignature()) == 0}.
+ *
+ * <p>Returning the same signature for all states is always correct, but does not allow to skip
+ * any coverage checks.
+ */
+public interface CoverageIndexable {
+
+  /**
+   * Returns the coverage signature of this state. The result must not change while the state is in
+   * the reached set and should be cheap to compute (e.g., cached).
+   */
+  long getCoverageSignature();
+
+  /**
+   * Check whether the given state may be less or equal than the given other state according to
+   * their coverage signatures.
+   */
+  static boolean mayBeCoveredBy(CoverageIndexable pState, CoverageIndexable pOtherState) {
+    return (pOtherState.getCoverageSignature() & ~pState.getCoverageSignature()) == 0;
+  }
+
+  /** Returns the signature for a key that consists of a single element with the given hash. */
+  static long signatureBit(int pHash) {
+    // spread higher bits, the shift uses only the lowest 6 bits
+    return 1L << (pHash ^ (pHash >>> 6) ^ (pHash >>> 12) ^ (pHash >>> 18) ^ (pHash >>> 24));
+  }
+}
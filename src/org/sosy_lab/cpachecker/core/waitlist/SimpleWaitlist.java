@@ -9,13 +9,22 @@
 package org.sosy_lab.cpachecker.core.waitlist;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Multiset;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.Iterator;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
 
 /**
  * Waitlist implementation that supports either a breadth-first (BFS) or
  * depth-first (DFS) strategy for pop().
+ *
+ * <p>In addition to the deque that defines the order, this class keeps a hash index of the
+ * contained states, so contains() and remove() take amortized constant time. States that are
+ * removed are not deleted from the deque immediately, but only marked as removed and skipped
+ * later by pop(). The deque is cleaned up as soon as it contains more removed than waiting states.
  */
 public class SimpleWaitlist extends AbstractWaitlist<Deque<AbstractState>> {
 
@@ -23,23 +32,104 @@ public class SimpleWaitlist extends AbstractWaitlist<Deque<AbstractState>> {
 
   private final TraversalMethod traversal;
 
+  // invariant: the deque contains exactly the elements of containedStates and removedStates
+  private final Multiset<AbstractState> containedStates = HashMultiset.create();
+  private final Multiset<AbstractState> removedStates = HashMultiset.create();
+
   protected SimpleWaitlist(TraversalMethod pTraversal) {
     super(new ArrayDeque<>());
     Preconditions.checkArgument(pTraversal == TraversalMethod.BFS || pTraversal == TraversalMethod.DFS);
     traversal = pTraversal;
   }
 
+  @Override
+  public void add(AbstractState pState) {
+    if (removedStates.contains(pState)) {
+      // otherwise pop() could skip the new element instead of the removed one
+      purgeRemovedStates();
+    }
+    waitlist.add(pState);
+    containedStates.add(pState);
+  }
+
+  @Override
+  public void clear() {
+    waitlist.clear();
+    containedStates.clear();
+    removedStates.clear();
+  }
+
+  @Override
+  public boolean contains(AbstractState pState) {
+    return containedStates.contains(pState);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return containedStates.isEmpty();
+  }
+
+  @Override
+  public Iterator<AbstractState> iterator() {
+    purgeRemovedStates();
+    // removing through the iterator would bypass the index of contained states
+    return Iterators.unmodifiableIterator(super.iterator());
+  }
+
   @Override
   public AbstractState pop() {
-    switch (traversal) {
-    case BFS:
-      return waitlist.removeFirst();
+    while (true) {
+      AbstractState state;
+      switch (traversal) {
+      case BFS:
+        state = waitlist.removeFirst();
+        break;
+
+      case DFS:
+        state = waitlist.removeLast();
+        break;
+
+      default:
+        throw new AssertionError();
+      }
+
+      if (!removedStates.remove(state)) {
+        containedStates.remove(state);
+        return state;
+      }
+    }
+  }
+
+  @Override
+  public boolean remove(AbstractState pState) {
+    if (!containedStates.remove(pState)) {
+      return false;
+    }
+    removedStates.add(pState);
+    if (removedStates.size() > containedStates.size()) {
+      // amortized constant time, because each removed state is purged only once
+      purgeRemovedStates();
+    }
+    return true;
+  }
+
+  @Override
+  public int size() {
+    return containedStates.size();
+  }
 
-    case DFS:
-      return waitlist.removeLast();
+  @Override
+  public String toString() {
+    purgeRemovedStates();
+    return super.toString();
+  }
 
-    default:
-      throw new AssertionError();
+  /** Delete all states that are marked as removed from the deque in a single pass. */
+  private void purgeRemovedStates() {
+    if (!removedStates.isEmpty()) {
+      waitlist.removeIf(removedStates::remove);
+      assert removedStates.isEmpty();
+      assert waitlist.size() == containedStates.size();
     }
   }
 }
\ No newline at end of file
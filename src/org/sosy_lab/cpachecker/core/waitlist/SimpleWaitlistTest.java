@@ -0,0 +1,137 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.waitlist;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.Test;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.waitlist.Waitlist.TraversalMethod;
+
+public class SimpleWaitlistTest {
+
+  private static final class DummyState implements AbstractState {
+
+    private final int id;
+
+    private DummyState(int pId) {
+      id = pId;
+    }
+
+    @Override
+    public boolean equals(Object pObj) {
+      return pObj instanceof DummyState && ((DummyState) pObj).id == id;
+    }
+
+    @Override
+    public int hashCode() {
+      return id;
+    }
+
+    @Override
+    public String toString() {
+      return "s" + id;
+    }
+  }
+
+  private static final AbstractState S1 = new DummyState(1);
+  private static final AbstractState S2 = new DummyState(2);
+  private static final AbstractState S3 = new DummyState(3);
+  private static final AbstractState S4 = new DummyState(4);
+
+  private static Waitlist createWaitlist(TraversalMethod pTraversal, AbstractState... pStates) {
+    Waitlist waitlist = pTraversal.createWaitlistInstance();
+    for (AbstractState state : pStates) {
+      waitlist.add(state);
+    }
+    return waitlist;
+  }
+
+  private static List<AbstractState> popAll(Waitlist pWaitlist) {
+    List<AbstractState> result = new ArrayList<>();
+    while (!pWaitlist.isEmpty()) {
+      result.add(pWaitlist.pop());
+    }
+    return result;
+  }
+
+  @Test
+  public void testRemoveBFS() {
+    Waitlist waitlist = createWaitlist(TraversalMethod.BFS, S1, S2, S3, S4);
+    assertThat(waitlist.remove(S2)).isTrue();
+    assertThat(waitlist.remove(S2)).isFalse();
+
+    assertThat(waitlist.size()).isEqualTo(3);
+    assertThat(waitlist.contains(S2)).isFalse();
+    assertThat(waitlist.contains(S3)).isTrue();
+    assertThat(waitlist).containsExactly(S1, S3, S4).inOrder();
+    assertThat(popAll(waitlist)).containsExactly(S1, S3, S4).inOrder();
+  }
+
+  @Test
+  public void testRemoveDFS() {
+    Waitlist waitlist = createWaitlist(TraversalMethod.DFS, S1, S2, S3, S4);
+    assertThat(waitlist.remove(S4)).isTrue();
+    assertThat(waitlist.remove(S2)).isTrue();
+
+    assertThat(waitlist.size()).isEqualTo(2);
+    assertThat(popAll(waitlist)).containsExactly(S3, S1).inOrder();
+  }
+
+  @Test
+  public void testReAddAfterRemove() {
+    Waitlist waitlist = createWaitlist(TraversalMethod.DFS, S1, S2, S3);
+    waitlist.remove(S1);
+    waitlist.add(S1);
+
+    assertThat(waitlist.size()).isEqualTo(3);
+    assertThat(popAll(waitlist)).containsExactly(S1, S3, S2).inOrder();
+  }
+
+  @Test
+  public void testRemoveAll() {
+    Waitlist waitlist = createWaitlist(TraversalMethod.BFS, S1, S2, S3);
+    waitlist.remove(S3);
+    waitlist.remove(S1);
+    waitlist.remove(S2);
+
+    assertThat(waitlist.isEmpty()).isTrue();
+    assertThat(waitlist).isEmpty();
+
+    waitlist.add(S4);
+    assertThat(popAll(waitlist)).containsExactly(S4);
+  }
+
+  @Test
+  public void testClear() {
+    Waitlist waitlist = createWaitlist(TraversalMethod.BFS, S1, S2, S3);
+    waitlist.remove(S2);
+    waitlist.clear();
+
+    assertThat(waitlist.isEmpty()).isTrue();
+    assertThat(waitlist.contains(S1)).isFalse();
+
+    waitlist.add(S2);
+    assertThat(popAll(waitlist)).containsExactly(S2);
+  }
+
+  @Test
+  public void testIteratorIsUnmodifiable() {
+    Waitlist waitlist = createWaitlist(TraversalMethod.BFS, S1, S2);
+    Iterator<AbstractState> it = waitlist.iterator();
+    it.next();
+
+    assertThrows(UnsupportedOperationException.class, it::remove);
+    assertThat(waitlist.size()).isEqualTo(2);
+  }
+}
@@ -21,6 +21,7 @@ import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
  *
  * All methods of this interface should be fast (O(1) or O(log n) preferably),
  * except contains() and remove().
+ * The standard BFS and DFS implementations support these two methods efficiently, too.
  *
  * The iterators provided by implementations may be unmodifiable.
  */
@@ -14,10 +14,18 @@ import static org.sosy_lab.cpachecker.util.AbstractStates.getOutgoingEdges;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Predicates;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Multimap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.IntegerOption;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
 import org.sosy_lab.common.configuration.Option;
 import org.sosy_lab.common.configuration.Options;
@@ -45,12 +53,19 @@ import org.sosy_lab.cpachecker.core.interfaces.Statistics;
 import org.sosy_lab.cpachecker.core.interfaces.TransferRelation;
 import org.sosy_lab.cpachecker.core.interfaces.pcc.ProofChecker;
 import org.sosy_lab.cpachecker.core.specification.Specification;
+import org.sosy_lab.cpachecker.cpa.automaton.ControlAutomatonCPA;
+import org.sosy_lab.cpachecker.cpa.callstack.CallstackCPA;
+import org.sosy_lab.cpachecker.cpa.composite.CompositeCPA;
+import org.sosy_lab.cpachecker.cpa.functionpointer.FunctionPointerCPA;
+import org.sosy_lab.cpachecker.cpa.location.LocationCPA;
+import org.sosy_lab.cpachecker.cpa.smg.SMGCPA;
 import org.sosy_lab.cpachecker.exceptions.CPAException;
 import org.sosy_lab.cpachecker.exceptions.CPATransferException;
+import org.sosy_lab.cpachecker.util.CPAs;
 
 @Options(prefix = "cpa.arg")
 public class ARGCPA extends AbstractSingleWrapperCPA
-    implements ConfigurableProgramAnalysisWithBAM, ProofChecker {
+    implements ConfigurableProgramAnalysisWithBAM, ProofChecker, AutoCloseable {
 
   public static CPAFactory factory() {
     return AutomaticCPAFactory.forType(ARGCPA.class);
@@ -90,8 +105,33 @@ public class ARGCPA extends AbstractSingleWrapperCPA
     "prevent the stop-operator from aborting the stop-check early when it crosses a target state")
   private boolean coverTargetStates = false;
 
+  @Option(
+      secure = true,
+      description =
+          "number of threads for checking whether a new state is covered by one of the states in"
+              + " its partition of the reached set. With more than one thread, the coverage checks"
+              + " of the wrapped stop operator against the candidates are run concurrently, which"
+              + " only pays off for expensive checks (e.g., SMGCPA). This is supported only if"
+              + " all wrapped CPAs are known to have thread-safe stop operators (composite,"
+              + " location, callstack, automaton, function-pointer, and SMG CPAs).")
+  @IntegerOption(min = 1)
+  private int coverageCheckThreads = 1;
+
+  /** The CPAs whose stop operators can be called concurrently. */
+  private static final ImmutableSet<Class<? extends ConfigurableProgramAnalysis>>
+      THREAD_SAFE_STOP_CPAS =
+          ImmutableSet.of(
+              CompositeCPA.class,
+              LocationCPA.class,
+              CallstackCPA.class,
+              ControlAutomatonCPA.class,
+              FunctionPointerCPA.class,
+              SMGCPA.class);
+
   private final LogManager logger;
 
+  private final @Nullable ExecutorService coverageCheckExecutor;
+
   private final ARGStatistics stats;
 
   private ARGCPA(
@@ -105,6 +145,33 @@ public class ARGCPA extends AbstractSingleWrapperCPA
     config.inject(this);
     this.logger = logger;
     stats = new ARGStatistics(config, logger, this, pSpecification, cfa);
+
+    if (coverageCheckThreads > 1) {
+      for (ConfigurableProgramAnalysis wrappedCpa : CPAs.asIterable(cpa)) {
+        if (!THREAD_SAFE_STOP_CPAS.contains(wrappedCpa.getClass())) {
+          throw new InvalidConfigurationException(
+              "Option cpa.arg.coverageCheckThreads is not supported with "
+                  + wrappedCpa.getClass().getSimpleName()
+                  + ", whose stop operator is not known to be thread-safe");
+        }
+      }
+      ThreadPoolExecutor executor =
+          new ThreadPoolExecutor(
+              coverageCheckThreads,
+              coverageCheckThreads,
+              1,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              new ThreadFactoryBuilder()
+                  .setNameFormat("arg-coverage-check-%d")
+                  .setDaemon(true)
+                  .build());
+      // idle threads terminate also if this CPA is never closed (like the CPA of the main analysis)
+      executor.allowCoreThreadTimeOut(true);
+      coverageCheckExecutor = executor;
+    } else {
+      coverageCheckExecutor = null;
+    }
   }
 
   @Override
@@ -137,7 +204,8 @@ public class ARGCPA extends AbstractSingleWrapperCPA
         logger,
         inCPAEnabledAnalysis,
         keepCoveredStatesInReached,
-        coverTargetStates);
+        coverTargetStates,
+        coverageCheckExecutor);
   }
 
   @Override
@@ -243,4 +311,11 @@ public class ARGCPA extends AbstractSingleWrapperCPA
         .isCoveredByRecursiveState(
             ((ARGState) state1).getWrappedState(), ((ARGState) state2).getWrappedState());
   }
+
+  @Override
+  public void close() {
+    if (coverageCheckExecutor != null) {
+      coverageCheckExecutor.shutdownNow();
+    }
+  }
 }
@@ -17,11 +17,14 @@ import static org.sosy_lab.cpachecker.util.AbstractStates.extractStateByType;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Sets;
 import com.google.common.graph.Traverser;
-import java.util.ArrayList;
+import java.util.AbstractCollection;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
@@ -44,12 +47,13 @@ public class ARGState extends AbstractSingleWrapperState
 
   private static final long serialVersionUID = 2608287648397165040L;
 
-  // We use a List here although we would like to have a Set
-  // because ArrayList is much more memory efficient than e.g. LinkedHashSet.
-  // Also these collections are small and so a slow contains() method won't hurt.
+  // The children and parents are stored compactly, because most states have exactly one parent
+  // and one or two children: null if there is none, the ARGState itself if there is exactly one,
+  // and an ARGState[] without duplicates otherwise (cf. the methods link*() below).
+  // These collections are small and so a slow contains() method won't hurt.
   // To enforce set semantics, do not add elements except through addparent()!
-  private final Collection<ARGState> children = new ArrayList<>(1);
-  private final Collection<ARGState> parents = new ArrayList<>(1);
+  private @Nullable Object children = null;
+  private @Nullable Object parents = null;
 
   private ARGState mCoveredBy = null;
   private Set<ARGState> mCoveredByThis = null; // lazy initialization because rarely needed
@@ -84,7 +88,7 @@ public class ARGState extends AbstractSingleWrapperState
    * @return A unmodifiable collection of ARGStates without duplicates.
    */
   public Collection<ARGState> getParents() {
-    return Collections.unmodifiableCollection(parents);
+    return new LinkView(false);
   }
 
   public void addParent(ARGState pOtherParent) {
@@ -92,12 +96,12 @@ public class ARGState extends AbstractSingleWrapperState
     assert !destroyed : "Don't use destroyed ARGState " + this;
 
     // Manually enforce set semantics.
-    if (!parents.contains(pOtherParent)) {
-      assert !pOtherParent.children.contains(this);
-      parents.add(pOtherParent);
-      pOtherParent.children.add(this);
+    if (!linksContain(parents, pOtherParent)) {
+      assert !linksContain(pOtherParent.children, this);
+      parents = linkAdd(parents, pOtherParent);
+      pOtherParent.children = linkAdd(pOtherParent.children, this);
     } else {
-      assert pOtherParent.children.contains(this);
+      assert linksContain(pOtherParent.children, this);
     }
   }
 
@@ -107,7 +111,7 @@ public class ARGState extends AbstractSingleWrapperState
    */
   public Collection<ARGState> getChildren() {
     assert !destroyed : "Don't use destroyed ARGState " + this;
-    return Collections.unmodifiableCollection(children);
+    return new LinkView(true);
   }
 
   /**
@@ -292,10 +296,10 @@ public class ARGState extends AbstractSingleWrapperState
   }
 
   void deleteChild(ARGState child) {
-    assert (children.contains(child));
-    assert (child.parents.contains(this));
-    children.remove(child);
-    child.parents.remove(this);
+    assert (linksContain(children, child));
+    assert (linksContain(child.parents, this));
+    children = linkRemove(children, child);
+    child.parents = linkRemove(child.parents, this);
   }
 
   // counterexample
@@ -383,9 +387,9 @@ public class ARGState extends AbstractSingleWrapperState
     sb.append(stateId);
     if (!destroyed) {
       sb.append(", Parents: ");
-      sb.append(stateIdsOf(parents));
+      sb.append(stateIdsOf(getParents()));
       sb.append(", Children: ");
-      sb.append(stateIdsOf(children));
+      sb.append(stateIdsOf(getChildren()));
 
       if (mCoveredBy != null) {
         sb.append(", Covered by: ");
@@ -470,18 +474,18 @@ public class ARGState extends AbstractSingleWrapperState
     assert !destroyed : "Don't use destroyed ARGState " + this;
 
     // clear children
-    for (ARGState child : children) {
-      assert (child.parents.contains(this));
-      child.parents.remove(this);
+    for (ARGState child : getChildren()) {
+      assert (linksContain(child.parents, this));
+      child.parents = linkRemove(child.parents, this);
     }
-    children.clear();
+    children = null;
 
     // clear parents
-    for (ARGState parent : parents) {
-      assert (parent.children.contains(this));
-      parent.children.remove(this);
+    for (ARGState parent : getParents()) {
+      assert (linksContain(parent.children, this));
+      parent.children = linkRemove(parent.children, this);
     }
-    parents.clear();
+    parents = null;
   }
 
   /**
@@ -501,19 +505,19 @@ public class ARGState extends AbstractSingleWrapperState
     assert !this.equals(replacement) : "Don't replace ARGState " + this + " with itself";
 
     // copy children
-    for (ARGState child : children) {
-      assert child.parents.contains(this) : "Inconsistent ARG at " + this;
-      child.parents.remove(this);
+    for (ARGState child : getChildren()) {
+      assert linksContain(child.parents, this) : "Inconsistent ARG at " + this;
+      child.parents = linkRemove(child.parents, this);
       child.addParent(replacement);
     }
-    children.clear();
+    children = null;
 
-    for (ARGState parent : parents) {
-      assert parent.children.contains(this) : "Inconsistent ARG at " + this;
-      parent.children.remove(this);
+    for (ARGState parent : getParents()) {
+      assert linksContain(parent.children, this) : "Inconsistent ARG at " + this;
+      parent.children = linkRemove(parent.children, this);
       replacement.addParent(parent);
     }
-    parents.clear();
+    parents = null;
 
     if (mCoveredByThis != null) {
       if (replacement.mCoveredByThis == null) {
@@ -567,12 +571,114 @@ public class ARGState extends AbstractSingleWrapperState
     assert !destroyed : "Don't use destroyed ARGState " + this;
 
     // Manually enforce set semantics.
-    if (parents.contains(pOtherParent)) {
-      assert pOtherParent.children.contains(this);
-      parents.remove(pOtherParent);
-      pOtherParent.children.remove(this);
+    if (linksContain(parents, pOtherParent)) {
+      assert linksContain(pOtherParent.children, this);
+      parents = linkRemove(parents, pOtherParent);
+      pOtherParent.children = linkRemove(pOtherParent.children, this);
     } else {
-      assert !pOtherParent.children.contains(this) : "Problem detected!";
+      assert !linksContain(pOtherParent.children, this) : "Problem detected!";
+    }
+  }
+
+  // compact storage of parents and children
+
+  private static int linkCount(@Nullable Object pLinks) {
+    if (pLinks == null) {
+      return 0;
+    } else if (pLinks instanceof ARGState) {
+      return 1;
+    } else {
+      return ((ARGState[]) pLinks).length;
+    }
+  }
+
+  private static Iterator<ARGState> linkIterator(@Nullable Object pLinks) {
+    if (pLinks == null) {
+      return Collections.emptyIterator();
+    } else if (pLinks instanceof ARGState) {
+      return Iterators.singletonIterator((ARGState) pLinks);
+    } else {
+      return Iterators.forArray((ARGState[]) pLinks);
+    }
+  }
+
+  private static boolean linksContain(@Nullable Object pLinks, @Nullable Object pState) {
+    if (pLinks instanceof ARGState[]) {
+      return linkIndex((ARGState[]) pLinks, pState) >= 0;
+    }
+    return pLinks != null && pLinks == pState;
+  }
+
+  private static int linkIndex(ARGState[] pLinks, @Nullable Object pState) {
+    for (int i = 0; i < pLinks.length; i++) {
+      if (pLinks[i] == pState) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static Object linkAdd(@Nullable Object pLinks, ARGState pState) {
+    if (pLinks == null) {
+      return pState;
+    } else if (pLinks instanceof ARGState) {
+      return new ARGState[] {(ARGState) pLinks, pState};
+    } else {
+      ARGState[] links = (ARGState[]) pLinks;
+      ARGState[] newLinks = Arrays.copyOf(links, links.length + 1);
+      newLinks[links.length] = pState;
+      return newLinks;
+    }
+  }
+
+  private static @Nullable Object linkRemove(@Nullable Object pLinks, ARGState pState) {
+    if (!(pLinks instanceof ARGState[])) {
+      return pLinks == pState ? null : pLinks;
+    }
+    ARGState[] links = (ARGState[]) pLinks;
+    int index = linkIndex(links, pState);
+    if (index < 0) {
+      return links;
+    } else if (links.length == 2) {
+      return links[1 - index];
+    }
+    ARGState[] newLinks = new ARGState[links.length - 1];
+    System.arraycopy(links, 0, newLinks, 0, index);
+    System.arraycopy(links, index + 1, newLinks, index, newLinks.length - index);
+    return newLinks;
+  }
+
+  /** Unmodifiable view of the current parents or children of this state. */
+  private final class LinkView extends AbstractCollection<ARGState> {
+
+    private final boolean ofChildren;
+
+    private LinkView(boolean pOfChildren) {
+      ofChildren = pOfChildren;
+    }
+
+    private @Nullable Object links() {
+      return ofChildren ? children : parents;
+    }
+
+    @Override
+    public Iterator<ARGState> iterator() {
+      return linkIterator(links());
+    }
+
+    @Override
+    public int size() {
+      return linkCount(links());
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return links() == null;
+    }
+
+    @Override
+    public boolean contains(@Nullable Object pState) {
+      return linksContain(links(), pState);
     }
   }
 }
@@ -8,11 +8,20 @@
 
 package org.sosy_lab.cpachecker.cpa.arg;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.Iterables;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sosy_lab.common.Classes.UnexpectedCheckedException;
 import org.sosy_lab.common.log.LogManager;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
 import org.sosy_lab.cpachecker.core.interfaces.ForcedCoveringStopOperator;
@@ -28,17 +37,42 @@ public class ARGStopSep implements StopOperator, ForcedCoveringStopOperator {
   private final StopOperator wrappedStop;
   private final LogManager logger;
 
+  /** executor for concurrent checks against all candidates, or null for sequential checks */
+  private final @Nullable ExecutorService coverageCheckExecutor;
+
   public ARGStopSep(
       StopOperator pWrappedStop,
       LogManager pLogger,
       boolean pInCPAEnabledAnalysis,
       boolean pKeepCoveredStatesInReached,
       boolean pCoverTargetStates) {
+    this(
+        pWrappedStop,
+        pLogger,
+        pInCPAEnabledAnalysis,
+        pKeepCoveredStatesInReached,
+        pCoverTargetStates,
+        null);
+  }
+
+  /**
+   * Create a stop operator that checks the given state against all candidates from the reached
+   * set concurrently using the given executor. The wrapped stop operator needs to be thread-safe,
+   * which {@link ARGCPA} ensures for option cpa.arg.coverageCheckThreads.
+   */
+  public ARGStopSep(
+      StopOperator pWrappedStop,
+      LogManager pLogger,
+      boolean pInCPAEnabledAnalysis,
+      boolean pKeepCoveredStatesInReached,
+      boolean pCoverTargetStates,
+      @Nullable ExecutorService pCoverageCheckExecutor) {
     wrappedStop = pWrappedStop;
     logger = pLogger;
     keepCoveredStatesInReached = pKeepCoveredStatesInReached;
     inCPAEnabledAnalysis = pInCPAEnabledAnalysis;
     coverTargetStates = pCoverTargetStates;
+    coverageCheckExecutor = pCoverageCheckExecutor;
   }
 
   @Override
@@ -97,28 +131,98 @@ public class ARGStopSep implements StopOperator, ForcedCoveringStopOperator {
       parent = Iterables.get(argElement.getParents(), 0);
     }
 
-    for (AbstractState reachedState : pReached) {
-      ARGState argReachedState = (ARGState)reachedState;
-      if (stop(argElement, argReachedState, pPrecision)) {
-        if (parent != null && argReachedState.getParents().contains(parent)) {
-          // if the covering state has the same parent as the covered state
-          // and if the covered state has no other parents,
-          // it should always be safe to remove the covered state:
-          argElement.removeFromARG();
-          return true;
-        } else {
-          // if this option is true, we always return false here on purpose
-          return !keepCoveredStatesInReached;
-        }
+    ARGState argReachedState = getCoveringState(argElement, pReached, pPrecision);
+    if (argReachedState != null) {
+      argElement.setCovered(argReachedState);
+      if (parent != null && argReachedState.getParents().contains(parent)) {
+        // if the covering state has the same parent as the covered state
+        // and if the covered state has no other parents,
+        // it should always be safe to remove the covered state:
+        argElement.removeFromARG();
+        return true;
+      } else {
+        // if this option is true, we always return false here on purpose
+        return !keepCoveredStatesInReached;
       }
     }
     return false;
 
   }
 
-  private boolean stop(ARGState pElement, ARGState pReachedState, Precision pPrecision)
-                                                      throws CPAException, InterruptedException {
+  /** Return the first of the reached states that covers the given state, or null. */
+  private @Nullable ARGState getCoveringState(
+      ARGState pElement, Collection<AbstractState> pReached, Precision pPrecision)
+      throws CPAException, InterruptedException {
+    if (coverageCheckExecutor == null) {
+      for (AbstractState reachedState : pReached) {
+        ARGState argReachedState = (ARGState) reachedState;
+        if (mayCover(pElement, argReachedState)
+            && isCoveredBy(pElement, argReachedState, pPrecision)) {
+          return argReachedState;
+        }
+      }
+      return null;
+    }
 
+    List<ARGState> candidates = new ArrayList<>();
+    for (AbstractState reachedState : pReached) {
+      if (mayCover(pElement, (ARGState) reachedState)) {
+        candidates.add((ARGState) reachedState);
+      }
+    }
+    if (candidates.size() <= 1) {
+      return candidates.isEmpty() || !isCoveredBy(pElement, candidates.get(0), pPrecision)
+          ? null
+          : candidates.get(0);
+    }
+
+    // Check all candidates concurrently, but take the first covering one in the order of the
+    // reached set, which is the same state that the sequential check would find. Checks of
+    // candidates after a known covering one are skipped, because the sequential check would never
+    // reach them. Running checks are not interrupted, because the wrapped stop operator might not
+    // be able to recover from an interrupt, instead checks that have not started are skipped.
+    AtomicInteger firstCovering = new AtomicInteger(candidates.size());
+    List<Future<Boolean>> results = new ArrayList<>(candidates.size());
+    for (int i = 0; i < candidates.size(); i++) {
+      final int index = i;
+      final ARGState candidate = candidates.get(i);
+      results.add(
+          coverageCheckExecutor.submit(
+              () -> {
+                if (index > firstCovering.get()) {
+                  return false;
+                }
+                if (isCoveredBy(pElement, candidate, pPrecision)) {
+                  firstCovering.accumulateAndGet(index, Math::min);
+                  return true;
+                }
+                return false;
+              }));
+    }
+    try {
+      for (int i = 0; i < candidates.size(); i++) {
+        if (results.get(i).get()) {
+          return candidates.get(i);
+        }
+      }
+      return null;
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      Throwables.throwIfInstanceOf(cause, CPAException.class);
+      Throwables.throwIfInstanceOf(cause, InterruptedException.class);
+      Throwables.throwIfUnchecked(cause);
+      throw new UnexpectedCheckedException("coverage check", cause);
+    } finally {
+      // results of later candidates are not needed
+      firstCovering.set(-1);
+      for (Future<Boolean> result : results) {
+        result.cancel(false);
+      }
+    }
+  }
+
+  /** Cheap checks whether the given reached state may cover the given state at all. */
+  private boolean mayCover(ARGState pElement, ARGState pReachedState) {
     if (!pReachedState.mayCover()) {
       return false;
     }
@@ -133,15 +237,16 @@ public class ARGStopSep implements StopOperator, ForcedCoveringStopOperator {
       return false;
     }
 
+    return true;
+  }
+
+  /** Check whether the wrapped stop operator considers the given state covered. */
+  private boolean isCoveredBy(ARGState pElement, ARGState pReachedState, Precision pPrecision)
+      throws CPAException, InterruptedException {
     AbstractState wrappedState = pElement.getWrappedState();
     AbstractState wrappedReachedState = pReachedState.getWrappedState();
-
-    boolean stop = wrappedStop.stop(wrappedState, Collections.singleton(wrappedReachedState), pPrecision);
-
-    if (stop) {
-      pElement.setCovered(pReachedState);
-    }
-    return stop;
+    return wrappedStop.stop(
+        wrappedState, Collections.singleton(wrappedReachedState), pPrecision);
   }
 
   @Override
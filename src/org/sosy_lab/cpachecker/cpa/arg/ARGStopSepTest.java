@@ -0,0 +1,154 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.arg;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.cpachecker.core.CPAcheckerResult.Result;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.interfaces.Precision;
+import org.sosy_lab.cpachecker.core.interfaces.StopOperator;
+import org.sosy_lab.cpachecker.util.test.CPATestRunner;
+import org.sosy_lab.cpachecker.util.test.TestDataTools;
+import org.sosy_lab.cpachecker.util.test.TestResults;
+
+public class ARGStopSepTest {
+
+  private static final int CANDIDATES = 8;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @After
+  public void shutdownExecutor() {
+    executor.shutdownNow();
+  }
+
+  /** Create a reached set with the given number of states wrapping mocked states. */
+  private static List<AbstractState> createReached(List<AbstractState> pWrappedReached) {
+    List<AbstractState> reached = new ArrayList<>();
+    for (int i = 0; i < CANDIDATES; i++) {
+      AbstractState wrappedState = Mockito.mock(AbstractState.class);
+      pWrappedReached.add(wrappedState);
+      reached.add(new ARGState(wrappedState, null));
+    }
+    return reached;
+  }
+
+  /**
+   * Create a reached set with the given number of states and return the covering state that the
+   * stop operator chooses for a new state that is covered by the reached states with the given
+   * indices, or null.
+   */
+  private @Nullable Integer getCoveringIndex(
+      @Nullable ExecutorService pExecutor, Set<Integer> pCoveringIndices) throws Exception {
+    List<AbstractState> wrappedReached = new ArrayList<>();
+    List<AbstractState> reached = createReached(wrappedReached);
+    ARGState state = new ARGState(Mockito.mock(AbstractState.class), null);
+
+    StopOperator wrappedStop =
+        (pState, pReached, pPrecision) -> {
+          int index = wrappedReached.indexOf(Iterables.getOnlyElement(pReached));
+          // let the checks of earlier candidates take longer, such that later ones finish first
+          Thread.sleep(CANDIDATES - index);
+          return pCoveringIndices.contains(index);
+        };
+    ARGStopSep stop =
+        new ARGStopSep(
+            wrappedStop, LogManager.createTestLogManager(), false, false, false, pExecutor);
+
+    boolean stopped = stop.stop(state, reached, Mockito.mock(Precision.class));
+    assertThat(stopped).isEqualTo(!pCoveringIndices.isEmpty());
+    return stopped ? reached.indexOf(state.getCoveringState()) : null;
+  }
+
+  @Test
+  public void testConcurrentCheckFindsSameCoveringState() throws Exception {
+    for (Set<Integer> coveringIndices :
+        ImmutableList.<Set<Integer>>of(
+            ImmutableSet.of(),
+            ImmutableSet.of(0),
+            ImmutableSet.of(CANDIDATES - 1),
+            ImmutableSet.of(2, 5, 7),
+            ImmutableSet.of(6, 3))) {
+      Integer sequential = getCoveringIndex(null, coveringIndices);
+      Integer concurrent = getCoveringIndex(executor, coveringIndices);
+
+      assertThat(concurrent).isEqualTo(sequential);
+      if (!coveringIndices.isEmpty()) {
+        // the first covering state in the order of the reached set
+        assertThat(sequential).isEqualTo(Collections.min(coveringIndices));
+      }
+    }
+  }
+
+  @Test
+  public void testNoChecksAfterCoveringState() throws Exception {
+    List<AbstractState> wrappedReached = new ArrayList<>();
+    List<AbstractState> reached = createReached(wrappedReached);
+    ARGState state = new ARGState(Mockito.mock(AbstractState.class), null);
+    AtomicInteger checks = new AtomicInteger();
+    StopOperator wrappedStop =
+        (pState, pReached, pPrecision) -> {
+          checks.incrementAndGet();
+          return true;
+        };
+    // with a single thread the checks are started in the order of the reached set
+    ExecutorService singleThreadExecutor = Executors.newSingleThreadExecutor();
+    try {
+      ARGStopSep stop =
+          new ARGStopSep(
+              wrappedStop,
+              LogManager.createTestLogManager(),
+              false,
+              false,
+              false,
+              singleThreadExecutor);
+
+      assertThat(stop.stop(state, reached, Mockito.mock(Precision.class))).isTrue();
+    } finally {
+      singleThreadExecutor.shutdown();
+      singleThreadExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    assertThat(state.getCoveringState()).isSameInstanceAs(reached.get(0));
+    // like the sequential check, only the first candidate is checked
+    assertThat(checks.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void testRejectCoverageCheckThreadsForUnknownCPA() throws Exception {
+    Configuration config =
+        TestDataTools.configurationForTest()
+            .loadFromFile("config/valueAnalysis.properties")
+            .setOption("cpa.arg.coverageCheckThreads", "2")
+            .build();
+
+    TestResults results = CPATestRunner.run(config, "test/programs/simple/functionCall.c");
+
+    results.assertIs(Result.NOT_YET_STARTED);
+    assertThat(results.getLog()).contains("cpa.arg.coverageCheckThreads is not supported");
+  }
+}
@@ -9,9 +9,11 @@
 package org.sosy_lab.cpachecker.cpa.automaton;
 
 import com.google.common.collect.ImmutableList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.UniqueIdGenerator;
 import org.sosy_lab.common.log.LogManager;
 import org.sosy_lab.cpachecker.cfa.model.CFAEdge;
@@ -66,6 +68,9 @@ public class AutomatonInternalState {
   /** Outgoing transitions of this state. */
   private final ImmutableList<AutomatonTransition> transitions;
 
+  /** Index for looking up the transitions that may match an edge, if there are such. */
+  private final @Nullable AutomatonTransitionIndex transitionIndex;
+
   private final boolean mIsTarget;
 
   /**
@@ -83,6 +88,7 @@ public class AutomatonInternalState {
       boolean pIsCycleStart) {
     this.name = pName;
     this.transitions = ImmutableList.copyOf(pTransitions);
+    this.transitionIndex = AutomatonTransitionIndex.create(transitions);
     this.mIsTarget = pIsTarget;
     this.mAllTransitions = pAllTransitions;
     this.isCycleStart = pIsCycleStart;
@@ -145,6 +151,26 @@ public class AutomatonInternalState {
     return transitions;
   }
 
+  /**
+   * Returns the outgoing transitions whose triggers may match the given edge, in the same order as
+   * {@link #getTransitions()}. The triggers of all other transitions do not match the edge.
+   */
+  public ImmutableList<AutomatonTransition> getTransitionsForEdge(CFAEdge pEdge) {
+    if (transitionIndex == null) {
+      return transitions;
+    }
+    BitSet candidates = transitionIndex.getCandidates(pEdge);
+    if (candidates.cardinality() == transitions.size()) {
+      return transitions;
+    }
+    ImmutableList.Builder<AutomatonTransition> result =
+        ImmutableList.builderWithExpectedSize(candidates.cardinality());
+    for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+      result.add(transitions.get(i));
+    }
+    return result.build();
+  }
+
   @Override
   public String toString() {
     return this.name;
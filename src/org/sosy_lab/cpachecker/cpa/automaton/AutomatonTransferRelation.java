@@ -165,9 +165,14 @@ public class AutomatonTransferRelation implements TransferRelation {
     ImmutableSet.Builder<AutomatonState> lSuccessors = ImmutableSet.builderWithExpectedSize(2);
     AutomatonExpressionArguments exprArgs = new AutomatonExpressionArguments(state, state.getVars(), otherElements, edge, logger);
     boolean edgeMatched = false;
-    int failedMatches = 0;
     boolean nonDetState = state.getInternalState().isNonDetState();
 
+    matchTime.start();
+    List<AutomatonTransition> transitions = state.getInternalState().getTransitionsForEdge(edge);
+    matchTime.stop();
+    // the transitions that were filtered out do not match the edge
+    int failedMatches = state.getInternalState().getTransitions().size() - transitions.size();
+
     // these transitions cannot be evaluated until last, because they might have sideeffects on
     // other CPAs (dont want to execute them twice)
     // the transitionVariables have to be cached (produced during the match operation)
@@ -175,7 +180,7 @@ public class AutomatonTransferRelation implements TransferRelation {
     List<Pair<AutomatonTransition, Map<Integer, AAstNode>>> transitionsToBeTaken =
         new ArrayList<>(2);
 
-    for (AutomatonTransition t : state.getInternalState().getTransitions()) {
+    for (AutomatonTransition t : transitions) {
       exprArgs.clearTransitionVariables();
 
       matchTime.start();
@@ -0,0 +1,163 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.automaton;
+
+import com.google.common.collect.ContiguousSet;
+import com.google.common.collect.DiscreteDomain;
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.Range;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sosy_lab.cpachecker.cfa.ast.FileLocation;
+import org.sosy_lab.cpachecker.cfa.model.CFAEdge;
+import org.sosy_lab.cpachecker.cfa.model.FunctionEntryNode;
+import org.sosy_lab.cpachecker.cpa.automaton.AutomatonBoolExpr.And;
+import org.sosy_lab.cpachecker.cpa.automaton.AutomatonBoolExpr.MatchLocationDescriptor;
+import org.sosy_lab.cpachecker.cpa.automaton.AutomatonBoolExpr.Or;
+import org.sosy_lab.cpachecker.cpa.automaton.SourceLocationMatcher.LineMatcher;
+import org.sosy_lab.cpachecker.util.automaton.AutomatonGraphmlCommon;
+
+/**
+ * Index of the outgoing transitions of an {@link AutomatonInternalState} by the source lines that
+ * their triggers are restricted to. States of witness automata can have thousands of transitions
+ * that each match only CFA edges of a few lines, so looking up the candidates for an edge is much
+ * cheaper than evaluating all triggers.
+ *
+ * <p>The index is conservative: the trigger of a transition that is not a candidate for an edge
+ * evaluates to false for this edge. Transitions with triggers that are not restricted to certain
+ * lines are candidates for all edges.
+ */
+final class AutomatonTransitionIndex {
+
+  /** Transitions whose triggers allow more lines than this are not indexed. */
+  private static final int MAX_LINES_PER_TRANSITION = 64;
+
+  private final FunctionEntryNode mainEntry;
+
+  private final BitSet unindexedTransitions;
+
+  // maps each line to the transitions whose triggers may match an edge at this line
+  private final ImmutableSortedMap<Integer, BitSet> transitionsByLine;
+
+  private AutomatonTransitionIndex(
+      FunctionEntryNode pMainEntry,
+      BitSet pUnindexedTransitions,
+      SortedMap<Integer, BitSet> pTransitionsByLine) {
+    mainEntry = pMainEntry;
+    unindexedTransitions = pUnindexedTransitions;
+    transitionsByLine = ImmutableSortedMap.copyOfSorted(pTransitionsByLine);
+  }
+
+  /**
+   * Create an index for the given transitions, or return null if none of them can be indexed and
+   * an index would thus be useless.
+   */
+  static @Nullable AutomatonTransitionIndex create(List<AutomatonTransition> pTransitions) {
+    Set<FunctionEntryNode> mainEntries = new HashSet<>(1);
+    BitSet unindexedTransitions = new BitSet(pTransitions.size());
+    SortedMap<Integer, BitSet> transitionsByLine = new TreeMap<>();
+
+    for (int i = 0; i < pTransitions.size(); i++) {
+      ImmutableRangeSet<Integer> lines =
+          getRequiredLines(pTransitions.get(i).getTrigger(), mainEntries);
+      if (lines == null || countLines(lines) > MAX_LINES_PER_TRANSITION) {
+        unindexedTransitions.set(i);
+        continue;
+      }
+      for (Range<Integer> range : lines.asRanges()) {
+        for (int line : ContiguousSet.create(range, DiscreteDomain.integers())) {
+          transitionsByLine.computeIfAbsent(line, k -> new BitSet()).set(i);
+        }
+      }
+    }
+
+    if (mainEntries.size() != 1 || unindexedTransitions.cardinality() == pTransitions.size()) {
+      // nothing to index, or the file locations of edges would differ between transitions
+      return null;
+    }
+    return new AutomatonTransitionIndex(
+        mainEntries.iterator().next(), unindexedTransitions, transitionsByLine);
+  }
+
+  /**
+   * Compute the lines in the original source file such that the given trigger can only match edges
+   * with a file location that overlaps these lines, or null if the trigger is not restricted.
+   * The main-function entries used by the location matchers of the trigger are added to the given
+   * set.
+   */
+  private static @Nullable ImmutableRangeSet<Integer> getRequiredLines(
+      AutomatonBoolExpr pTrigger, Set<FunctionEntryNode> pMainEntries) {
+    if (pTrigger instanceof MatchLocationDescriptor) {
+      MatchLocationDescriptor locationDescriptor = (MatchLocationDescriptor) pTrigger;
+      if (locationDescriptor.getDescriptor() instanceof LineMatcher) {
+        LineMatcher lineMatcher = (LineMatcher) locationDescriptor.getDescriptor();
+        if (lineMatcher.isOrigin()) {
+          pMainEntries.add(locationDescriptor.getMainEntry());
+          return ImmutableRangeSet.of(
+              Range.closed(lineMatcher.getStartLineNumber(), lineMatcher.getEndLineNumber()));
+        }
+      }
+
+    } else if (pTrigger instanceof And) {
+      // false && _ and _ && false are false, so both operands restrict the lines
+      And and = (And) pTrigger;
+      ImmutableRangeSet<Integer> linesA = getRequiredLines(and.a, pMainEntries);
+      ImmutableRangeSet<Integer> linesB = getRequiredLines(and.b, pMainEntries);
+      if (linesA == null) {
+        return linesB;
+      } else if (linesB == null) {
+        return linesA;
+      }
+      return linesA.intersection(linesB);
+
+    } else if (pTrigger instanceof Or) {
+      Or or = (Or) pTrigger;
+      ImmutableRangeSet<Integer> linesA = getRequiredLines(or.a, pMainEntries);
+      ImmutableRangeSet<Integer> linesB = getRequiredLines(or.b, pMainEntries);
+      if (linesA != null && linesB != null) {
+        return linesA.union(linesB);
+      }
+    }
+    return null;
+  }
+
+  private static long countLines(ImmutableRangeSet<Integer> pLines) {
+    long count = 0;
+    for (Range<Integer> range : pLines.asRanges()) {
+      count += ContiguousSet.create(range, DiscreteDomain.integers()).size();
+    }
+    return count;
+  }
+
+  /**
+   * Return the indices (with respect to the list of transitions this index was created for) of
+   * those transitions that may match the given edge.
+   */
+  BitSet getCandidates(CFAEdge pEdge) {
+    BitSet candidates = (BitSet) unindexedTransitions.clone();
+    for (FileLocation location :
+        AutomatonGraphmlCommon.getFileLocationsFromCfaEdge(pEdge, mainEntry)) {
+      int startLine = location.getStartingLineInOrigin();
+      int endLine = location.getEndingLineInOrigin();
+      if (startLine <= endLine) {
+        for (BitSet transitions :
+            transitionsByLine.subMap(startLine, true, endLine, true).values()) {
+          candidates.or(transitions);
+        }
+      }
+    }
+    return candidates;
+  }
+}
@@ -114,6 +114,19 @@ class SourceLocationMatcher {
           && compStartingLine <= endLineNumber;
     }
 
+    int getStartLineNumber() {
+      return startLineNumber;
+    }
+
+    int getEndLineNumber() {
+      return endLineNumber;
+    }
+
+    /** Whether the line numbers refer to the original source file (before preprocessing). */
+    boolean isOrigin() {
+      return origin;
+    }
+
     @Override
     public String toString() {
       String prefix = "LINE ";
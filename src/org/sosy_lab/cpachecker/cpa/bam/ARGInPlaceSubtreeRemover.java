@@ -224,7 +224,9 @@ public class ARGInPlaceSubtreeRemover extends ARGSubtreeRemover {
     Precision reducedRootPrecision = reachedSet.getPrecision(reachedSet.getFirstState());
     BAMCacheEntry entry = bamCache.get(reducedRootState, reducedRootPrecision, rootSubtree);
     if (entry != null) {
-      // TODO do we need this check? Maybe there is a bug, if the entry is not available?
+      // the entry is not available, if it was evicted from a bounded cache.
+      // In this case the reached-set is still registered in the data manager and
+      // the block will be recomputed on the next cache miss.
       entry.deleteInfo();
     }
 
@@ -19,6 +19,7 @@ import org.sosy_lab.common.configuration.Options;
 import org.sosy_lab.common.log.LogManager;
 import org.sosy_lab.cpachecker.cfa.CFA;
 import org.sosy_lab.cpachecker.cfa.model.CFAEdge;
+import org.sosy_lab.cpachecker.cfa.model.CFANode;
 import org.sosy_lab.cpachecker.core.algorithm.Algorithm.AlgorithmFactory;
 import org.sosy_lab.cpachecker.core.algorithm.CEGARAlgorithm.CEGARAlgorithmFactory;
 import org.sosy_lab.cpachecker.core.algorithm.CPAAlgorithm.CPAAlgorithmFactory;
@@ -26,15 +27,17 @@ import org.sosy_lab.cpachecker.core.defaults.AutomaticCPAFactory;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
 import org.sosy_lab.cpachecker.core.interfaces.CPAFactory;
 import org.sosy_lab.cpachecker.core.interfaces.ConfigurableProgramAnalysis;
+import org.sosy_lab.cpachecker.core.interfaces.StateSpacePartition;
+import org.sosy_lab.cpachecker.core.interfaces.Statistics;
 import org.sosy_lab.cpachecker.core.interfaces.StatisticsProvider;
 import org.sosy_lab.cpachecker.core.interfaces.StopOperator;
 import org.sosy_lab.cpachecker.core.interfaces.pcc.ProofChecker;
 import org.sosy_lab.cpachecker.core.reachedset.ReachedSetFactory;
 import org.sosy_lab.cpachecker.core.specification.Specification;
 import org.sosy_lab.cpachecker.cpa.arg.ARGState;
-import org.sosy_lab.cpachecker.cpa.bam.cache.BAMCache;
 import org.sosy_lab.cpachecker.cpa.bam.cache.BAMCacheAggressiveImpl;
 import org.sosy_lab.cpachecker.cpa.bam.cache.BAMCacheImpl;
+import org.sosy_lab.cpachecker.cpa.bam.cache.BAMCachePersistence;
 import org.sosy_lab.cpachecker.cpa.bam.cache.BAMDataManager;
 import org.sosy_lab.cpachecker.cpa.bam.cache.BAMDataManagerImpl;
 import org.sosy_lab.cpachecker.exceptions.CPAException;
@@ -51,6 +54,7 @@ public class BAMCPA extends AbstractBAMCPA implements StatisticsProvider, ProofC
   private final ProofChecker wrappedProofChecker;
   private final BAMDataManager data;
   private final BAMPCCManager bamPccManager;
+  private final BAMCachePersistence cachePersistence;
 
   @Option(name = "handleRecursiveProcedures", secure = true,
       description = "BAM allows to analyse recursive procedures. This strongly depends on the underlying CPA. "
@@ -86,14 +90,22 @@ public class BAMCPA extends AbstractBAMCPA implements StatisticsProvider, ProofC
       this.wrappedProofChecker = null;
     }
 
-    final BAMCache cache;
+    final BAMCacheImpl cache;
     if (aggressiveCaching) {
       cache = new BAMCacheAggressiveImpl(config, getReducer(), logger);
     } else {
       cache = new BAMCacheImpl(config, getReducer(), logger);
     }
+    if (handleRecursiveProcedures && cache.isBounded()) {
+      // the fixpoint iteration for recursion needs all reached-sets of the cache
+      throw new InvalidConfigurationException(
+          "BAM with recursion handling does not support a bounded cache, "
+              + "please disable cpa.bam.cacheMaxEntries and cpa.bam.cacheMaxStates.");
+    }
     data = new BAMDataManagerImpl(cache, pReachedSetFactory, pLogger);
 
+    cachePersistence = new BAMCachePersistence(config, logger, blockPartitioning, data);
+
     bamPccManager = new BAMPCCManager(
         wrappedProofChecker,
         config,
@@ -121,6 +133,14 @@ public class BAMCPA extends AbstractBAMCPA implements StatisticsProvider, ProofC
     }
   }
 
+  @Override
+  public AbstractState getInitialState(CFANode pNode, StateSpacePartition pPartition)
+      throws InterruptedException {
+    // stored block summaries can only be deserialized after the CPA is set up in GlobalInfo
+    cachePersistence.loadIfNecessary();
+    return super.getInitialState(pNode, pPartition);
+  }
+
   @Override
   public BAMMergeOperator getMergeOperator() {
     return super.getMergeOperator().withBAMPCCManager(bamPccManager);
@@ -145,6 +165,12 @@ public class BAMCPA extends AbstractBAMCPA implements StatisticsProvider, ProofC
     return transfer;
   }
 
+  @Override
+  public void collectStatistics(Collection<Statistics> pStatsCollection) {
+    pStatsCollection.add(cachePersistence);
+    super.collectStatistics(pStatsCollection);
+  }
+
   @Override
   public BAMDataManager getData() {
     Preconditions.checkNotNull(data);
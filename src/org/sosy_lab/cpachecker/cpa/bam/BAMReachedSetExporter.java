@@ -96,6 +96,8 @@ class BAMReachedSetExporter implements Statistics {
 
       final Set<UnmodifiableReachedSet> allReachedSets =
           new LinkedHashSet<>(bamcpa.getData().getCache().getAllCachedReachedStates());
+      // reached-sets evicted from a bounded cache are still reachable from the main reached-set
+      allReachedSets.addAll(getUsedReachedSets(mainReachedSet, LinkedHashMultimap.create()));
       allReachedSets.add(mainReachedSet);
 
       final Set<ARGState> rootStates = new LinkedHashSet<>();
@@ -152,6 +154,15 @@ class BAMReachedSetExporter implements Statistics {
 
   private Set<ARGState> getUsedRootStates(
       final UnmodifiableReachedSet mainReachedSet, final Multimap<ARGState, ARGState> connections) {
+    final Set<ARGState> rootStates = new LinkedHashSet<>();
+    for (UnmodifiableReachedSet reachedSet : getUsedReachedSets(mainReachedSet, connections)) {
+      rootStates.add((ARGState) reachedSet.getFirstState());
+    }
+    return rootStates;
+  }
+
+  private Set<UnmodifiableReachedSet> getUsedReachedSets(
+      final UnmodifiableReachedSet mainReachedSet, final Multimap<ARGState, ARGState> connections) {
     final Set<UnmodifiableReachedSet> finished = new LinkedHashSet<>();
     final Deque<UnmodifiableReachedSet> waitlist = new ArrayDeque<>();
     waitlist.add(mainReachedSet);
@@ -164,12 +175,7 @@ class BAMReachedSetExporter implements Statistics {
       final Set<ReachedSet> referencedReachedSets = getConnections(rootState, connections);
       waitlist.addAll(referencedReachedSets);
     }
-
-    final Set<ARGState> rootStates = new LinkedHashSet<>();
-    for (UnmodifiableReachedSet reachedSet : finished) {
-      rootStates.add((ARGState) reachedSet.getFirstState());
-    }
-    return rootStates;
+    return finished;
   }
 
   /**
@@ -9,7 +9,10 @@
 package org.sosy_lab.cpachecker.cpa.bam;
 
 import com.google.common.collect.Iterables;
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.Set;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.cpachecker.cfa.blocks.BlockPartitioning;
@@ -40,20 +43,28 @@ public class BAMReachedSetValidator {
 
     Collection<ReachedSet> reachedSets = data.getCache().getAllCachedReachedStates();
 
+    // reached-sets evicted from a bounded cache are not cached, but still referenced by the ARG
+    Deque<ReachedSet> waitlist = new ArrayDeque<>(reachedSets);
     assert validateReachedSet(
         mainEntry.getSubgraph().toSet(),
         mainReachedSet.asReachedSet(),
         data,
         partitioning,
-        reachedSets);
+        reachedSets,
+        waitlist);
     assert !reachedSets.contains(mainReachedSet.asReachedSet());
-    for (ReachedSet rs : reachedSets) {
-      assert validateReachedSet(
-          ((ARGState) rs.getFirstState()).getSubgraph().toSet(),
-          rs,
-          data,
-          partitioning,
-          reachedSets);
+    Set<ReachedSet> finished = new HashSet<>();
+    while (!waitlist.isEmpty()) {
+      ReachedSet rs = waitlist.pop();
+      if (finished.add(rs)) {
+        assert validateReachedSet(
+            ((ARGState) rs.getFirstState()).getSubgraph().toSet(),
+            rs,
+            data,
+            partitioning,
+            reachedSets,
+            waitlist);
+      }
     }
 
     return true;
@@ -65,7 +76,8 @@ public class BAMReachedSetValidator {
       UnmodifiableReachedSet reachedSet,
       BAMDataManager data,
       BlockPartitioning partitioning,
-      @Nullable Collection<ReachedSet> reachedSets) {
+      @Nullable Collection<ReachedSet> reachedSets,
+      Collection<ReachedSet> referencedReachedSets) {
     assert subgraph.containsAll(reachedSet.asCollection());
 
     // check containment
@@ -100,6 +112,7 @@ public class BAMReachedSetValidator {
             } else {
               // there are assertions inside the call
               ReachedSet subRs = data.getReachedSetForInitialState(state, reducedChild);
+              referencedReachedSets.add(subRs);
               // if (reachedSets != null) {
               // assert reachedSets.contains(subRs)
               // : "Reached-set not found: " + subRs.getFirstState();
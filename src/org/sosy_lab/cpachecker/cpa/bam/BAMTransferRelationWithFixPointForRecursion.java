@@ -377,6 +377,8 @@ public class BAMTransferRelationWithFixPointForRecursion extends BAMTransferRela
         // argCache.get(reducedInitialState, reducedInitialPrecision, currentBlock);
         data.getCache()
             .get(pCoveringLevel.getFirst(), pCoveringLevel.getSecond(), pCoveringLevel.getThird());
+    // entries are never evicted, because BAMCPA rejects a bounded cache for recursion handling
+    assert entry != null : "missing cache entry for covering level " + pCoveringLevel;
     final ReachedSet reached = entry.getReachedSet();
     final Collection<AbstractState> previousResult = entry.getExitStates();
     final Collection<AbstractState> reducedResult;
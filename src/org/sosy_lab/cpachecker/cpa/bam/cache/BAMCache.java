@@ -55,6 +55,9 @@ public interface BAMCache extends Statistics {
   /** Return all cached reached-sets. Useful for statistics. */
   Collection<ReachedSet> getAllCachedReachedStates();
 
+  /** Return all precise cache entries. Useful for exporting the cache. */
+  Collection<BAMCacheEntry> getAllCacheEntries();
+
   /** Some benchmarks are complicated and
    *  all intermediate cache entries can not be stored due to large memory consumption,
    *  then there is a way to clear all caches and to restore ARG completely. */
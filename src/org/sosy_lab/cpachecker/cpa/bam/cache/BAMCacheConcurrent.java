@@ -0,0 +1,302 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.bam.cache;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.Collections2;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.InvalidConfigurationException;
+import org.sosy_lab.common.configuration.Option;
+import org.sosy_lab.common.configuration.Options;
+import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.cpachecker.cfa.blocks.Block;
+import org.sosy_lab.cpachecker.core.CPAcheckerResult.Result;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.interfaces.Precision;
+import org.sosy_lab.cpachecker.core.interfaces.Reducer;
+import org.sosy_lab.cpachecker.core.reachedset.ReachedSet;
+import org.sosy_lab.cpachecker.core.reachedset.UnmodifiableReachedSet;
+import org.sosy_lab.cpachecker.cpa.arg.ARGState;
+import org.sosy_lab.cpachecker.util.statistics.StatCounter;
+import org.sosy_lab.cpachecker.util.statistics.StatisticsUtils;
+import org.sosy_lab.cpachecker.util.statistics.ThreadSafeTimerContainer;
+import org.sosy_lab.cpachecker.util.statistics.ThreadSafeTimerContainer.TimerWrapper;
+
+/**
+ * A thread-safe implementation of {@link BAMCache} that uses lock striping instead of one global
+ * monitor. Each key (block, reduced state, precision) is assigned to one of several stripes based on
+ * its hash code, and each stripe is protected by its own read-write lock. The expensive computation
+ * of the reduced hash code via {@link Reducer#getHashCodeForState} happens outside of any lock.
+ *
+ * <p>To provide a deterministic iteration order for {@link #getAllCachedReachedStates()}, each
+ * entry is tagged with a global insertion index, and the entries of all stripes are sorted by this
+ * index when they are collected.
+ */
+@Options(prefix = "cpa.bam")
+public class BAMCacheConcurrent implements BAMCache {
+
+  @Option(
+      secure = true,
+      description =
+          "number of independently locked stripes of the concurrent BAM cache. "
+              + "More stripes reduce lock contention between threads of parallel BAM.")
+  private int cacheStripes = 64;
+
+  private final Stripe[] stripes;
+  private final AtomicLong insertionCounter = new AtomicLong(0);
+
+  private final Reducer reducer;
+  private final LogManager logger;
+
+  /** Last accessed entry, not deterministic in a parallel context. */
+  private volatile BAMCacheEntry lastAnalyzedEntry = null;
+
+  private final StatCounter cacheMisses = new StatCounter("Number of cache misses");
+  private final StatCounter partialCacheHits = new StatCounter("Number of partial cache hits");
+  private final StatCounter fullCacheHits = new StatCounter("Number of full cache hits");
+  private final ThreadSafeTimerContainer hashingTime =
+      new ThreadSafeTimerContainer("Time for computing the hashCode of abstract states");
+  private final ThreadSafeTimerContainer accessTime =
+      new ThreadSafeTimerContainer("Time for cache-access");
+  private final ThreadLocal<TimerWrapper> hashingTimer =
+      ThreadLocal.withInitial(hashingTime::getNewTimer);
+  private final ThreadLocal<TimerWrapper> accessTimer =
+      ThreadLocal.withInitial(accessTime::getNewTimer);
+
+  public BAMCacheConcurrent(Configuration pConfig, Reducer pReducer, LogManager pLogger)
+      throws InvalidConfigurationException {
+    pConfig.inject(this);
+    if (cacheStripes <= 0) {
+      throw new InvalidConfigurationException(
+          "Number of stripes for BAM cache must be positive, but is " + cacheStripes);
+    }
+    reducer = pReducer;
+    logger = pLogger;
+    stripes = new Stripe[cacheStripes];
+    for (int i = 0; i < stripes.length; i++) {
+      stripes[i] = new Stripe();
+    }
+  }
+
+  private CacheKey getHashCode(AbstractState stateKey, Precision precisionKey, Block context) {
+    TimerWrapper timer = hashingTimer.get();
+    timer.start();
+    try {
+      return new CacheKey(reducer.getHashCodeForState(stateKey, precisionKey), context);
+    } finally {
+      timer.stop();
+    }
+  }
+
+  private Stripe getStripe(CacheKey key) {
+    return stripes[Math.floorMod(key.hashCode(), stripes.length)];
+  }
+
+  @Override
+  public BAMCacheEntry put(
+      AbstractState stateKey, Precision precisionKey, Block context, ReachedSet rs) {
+    CacheKey key = getHashCode(stateKey, precisionKey, context);
+    BAMCacheEntry entry = new BAMCacheEntry(rs);
+    Stripe stripe = getStripe(key);
+    TimerWrapper timer = accessTimer.get();
+    timer.start();
+    stripe.lock.writeLock().lock();
+    try {
+      IndexedEntry old = stripe.entries.get(key);
+      // like a LinkedHashMap, we keep the original insertion position when replacing an entry
+      long index = old == null ? insertionCounter.getAndIncrement() : old.index;
+      stripe.entries.put(key, new IndexedEntry(index, entry));
+    } finally {
+      stripe.lock.writeLock().unlock();
+      timer.stop();
+    }
+    return entry;
+  }
+
+  @Override
+  public BAMCacheEntry get(AbstractState stateKey, Precision precisionKey, Block context) {
+    CacheKey key = getHashCode(stateKey, precisionKey, context);
+    IndexedEntry result = getIndexedEntry(key);
+
+    if (result == null) {
+      cacheMisses.inc();
+      logger.log(Level.FINEST, "CACHE_ACCESS: entry not available");
+      lastAnalyzedEntry = null;
+      return null;
+    }
+
+    if (result.entry.getExitStates() == null) {
+      // we have cached a partly computed reached-set
+      partialCacheHits.inc();
+    } else {
+      // we have a full cache hit
+      fullCacheHits.inc();
+    }
+    logger.log(Level.FINEST, "CACHE_ACCESS: precise entry");
+    lastAnalyzedEntry = result.entry;
+    return result.entry;
+  }
+
+  private IndexedEntry getIndexedEntry(CacheKey key) {
+    Stripe stripe = getStripe(key);
+    TimerWrapper timer = accessTimer.get();
+    timer.start();
+    stripe.lock.readLock().lock();
+    try {
+      return stripe.entries.get(key);
+    } finally {
+      stripe.lock.readLock().unlock();
+      timer.stop();
+    }
+  }
+
+  @Override
+  @Deprecated
+  public ARGState getLastAnalyzedBlock() {
+    return lastAnalyzedEntry.getRootOfBlock();
+  }
+
+  @Override
+  public boolean containsPreciseKey(AbstractState stateKey, Precision precisionKey, Block context) {
+    return getIndexedEntry(getHashCode(stateKey, precisionKey, context)) != null;
+  }
+
+  @Override
+  public Collection<ReachedSet> getAllCachedReachedStates() {
+    return Collections2.transform(getAllCacheEntries(), BAMCacheEntry::getReachedSet);
+  }
+
+  @Override
+  public Collection<BAMCacheEntry> getAllCacheEntries() {
+    List<IndexedEntry> entries = new ArrayList<>();
+    for (Stripe stripe : stripes) {
+      stripe.lock.readLock().lock();
+      try {
+        entries.addAll(stripe.entries.values());
+      } finally {
+        stripe.lock.readLock().unlock();
+      }
+    }
+    entries.sort(Comparator.comparingLong(e -> e.index));
+    List<BAMCacheEntry> result = new ArrayList<>(entries.size());
+    for (IndexedEntry e : entries) {
+      result.add(e.entry);
+    }
+    return result;
+  }
+
+  @Override
+  public void clear() {
+    for (Stripe stripe : stripes) {
+      stripe.lock.writeLock().lock();
+      try {
+        stripe.entries.clear();
+      } finally {
+        stripe.lock.writeLock().unlock();
+      }
+    }
+    lastAnalyzedEntry = null;
+  }
+
+  @Override
+  public void printStatistics(PrintStream out, Result pResult, UnmodifiableReachedSet pReached) {
+    long sumCalls = cacheMisses.getValue() + partialCacheHits.getValue() + fullCacheHits.getValue();
+    int maxStripeSize = 0;
+    for (Stripe stripe : stripes) {
+      stripe.lock.readLock().lock();
+      try {
+        maxStripeSize = Math.max(maxStripeSize, stripe.entries.size());
+      } finally {
+        stripe.lock.readLock().unlock();
+      }
+    }
+    StatisticsUtils.write(out, 0, 50, "Number of cache stripes", stripes.length);
+    StatisticsUtils.write(out, 1, 50, "Maximal number of entries per stripe", maxStripeSize);
+    StatisticsUtils.write(out, 0, 50, "Total number of recursive CPA calls", sumCalls);
+    StatisticsUtils.write(out, 1, 50, cacheMisses);
+    StatisticsUtils.write(out, 1, 50, partialCacheHits);
+    StatisticsUtils.write(out, 1, 50, fullCacheHits);
+    StatisticsUtils.write(out, 0, 50, hashingTime);
+    StatisticsUtils.write(out, 0, 50, accessTime);
+  }
+
+  @Override
+  public String getName() {
+    return "BAMCache (concurrent)";
+  }
+
+  /** A part of the cache that is guarded by its own lock. */
+  private static class Stripe {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // we use LinkedHashMaps to avoid non-determinism
+    private final Map<CacheKey, IndexedEntry> entries = new LinkedHashMap<>();
+  }
+
+  /** A cache entry together with its global insertion index. */
+  private static class IndexedEntry {
+    private final long index;
+    private final BAMCacheEntry entry;
+
+    private IndexedEntry(long pIndex, BAMCacheEntry pEntry) {
+      index = pIndex;
+      entry = checkNotNull(pEntry);
+    }
+  }
+
+  /** The key of the cache: the reduced state and precision, combined with the block. */
+  private static class CacheKey {
+    private final Object wrappedHash;
+    private final Block context;
+    private final int hashCode;
+
+    private CacheKey(Object pWrappedHash, Block pContext) {
+      wrappedHash = checkNotNull(pWrappedHash);
+      context = checkNotNull(pContext);
+      hashCode = wrappedHash.hashCode() * 17 + context.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object pObj) {
+      if (pObj == this) {
+        return true;
+      }
+      if (!(pObj instanceof CacheKey)) {
+        return false;
+      }
+      CacheKey other = (CacheKey) pObj;
+      return hashCode == other.hashCode
+          && context.equals(other.context)
+          && wrappedHash.equals(other.wrappedHash);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public String toString() {
+      return "CacheKey [hash=" + hashCode + ", wrappedHash=" + wrappedHash + ", context=" + context
+          + "]";
+    }
+  }
+}
@@ -14,10 +14,17 @@ import static org.sosy_lab.cpachecker.util.statistics.StatisticsUtils.toPercent;
 import com.google.common.collect.Collections2;
 import java.io.PrintStream;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.logging.Level;
 import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.IntegerOption;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
 import org.sosy_lab.common.configuration.Option;
 import org.sosy_lab.common.configuration.Options;
@@ -40,6 +47,27 @@ public class BAMCacheImpl implements BAMCache {
       + "for each cache miss to find the cause of the miss.")
   private boolean gatherCacheMissStatistics = false;
 
+  @Option(
+      secure = true,
+      description =
+          "maximal number of reached-sets stored in the cache (0 for unbounded). "
+              + "If the limit is exceeded, the least recently used fully computed reached-sets "
+              + "are evicted from the cache and recomputed on the next cache miss. "
+              + "Not supported with cpa.bam.handleRecursiveProcedures.")
+  @IntegerOption(min = 0)
+  private int cacheMaxEntries = 0;
+
+  @Option(
+      secure = true,
+      description =
+          "maximal number of abstract states in all reached-sets stored in the cache "
+              + "(0 for unbounded). The size of a reached-set is measured when it is inserted "
+              + "and when its analysis is finished. If the limit is exceeded, the least recently "
+              + "used fully computed reached-sets are evicted from the cache. "
+              + "Not supported with cpa.bam.handleRecursiveProcedures.")
+  @IntegerOption(min = 0)
+  private long cacheMaxStates = 0;
+
   private final Timer hashingTimer = new Timer();
   private final Timer equalsTimer = new Timer();
 
@@ -51,9 +79,30 @@ public class BAMCacheImpl implements BAMCache {
   private int precisionCausedMisses = 0;
   private int noSimilarCausedMisses = 0;
 
+  private int evictedEntries = 0;
+  private long evictedStates = 0;
+  private int maxCachedEntries = 0;
+  private long maxCachedStates = 0;
+
   // we use LinkedHashMaps to avoid non-determinism
   protected final Map<AbstractStateHash, BAMCacheEntry> preciseReachedCache = new LinkedHashMap<>();
 
+  /**
+   * Access order of cache entries with the last measured size of their reached-sets. The eldest
+   * entry is the least recently used one. This map is only maintained for a bounded cache.
+   */
+  private final Map<AbstractStateHash, Integer> recentlyUsed =
+      new LinkedHashMap<>(16, 0.75f, true);
+
+  /**
+   * Entries whose analysis was finished since the last cache access. We measure their size lazily,
+   * because exit states can be set from outside of a synchronized cache access.
+   */
+  private final Queue<MeasuredCacheEntry> finishedEntries = new ConcurrentLinkedQueue<>();
+
+  /** Sum of the last measured sizes of all cached reached-sets. */
+  private long cachedStates = 0;
+
   protected BAMCacheEntry lastAnalyzedEntry = null;
   protected final Reducer reducer;
   protected final LogManager logger;
@@ -75,12 +124,80 @@ public class BAMCacheImpl implements BAMCache {
   public BAMCacheEntry put(
       AbstractState stateKey, Precision precisionKey, Block context, ReachedSet rs) {
     AbstractStateHash hash = getHashCode(stateKey, precisionKey, context);
-    BAMCacheEntry entry = new BAMCacheEntry(rs);
+    BAMCacheEntry entry = isBounded() ? new MeasuredCacheEntry(rs, hash) : new BAMCacheEntry(rs);
     // assert !preciseReachedCache.containsKey(hash);
     preciseReachedCache.put(hash, entry);
+    if (isBounded()) {
+      updateSize(hash, rs.size());
+      evictIfNecessary();
+    }
+    maxCachedEntries = Math.max(maxCachedEntries, preciseReachedCache.size());
     return entry;
   }
 
+  /** Returns whether entries may be evicted from this cache. */
+  public boolean isBounded() {
+    return cacheMaxEntries > 0 || cacheMaxStates > 0;
+  }
+
+  private boolean isOverBudget() {
+    return (cacheMaxEntries > 0 && preciseReachedCache.size() > cacheMaxEntries)
+        || (cacheMaxStates > 0 && cachedStates > cacheMaxStates);
+  }
+
+  /** Store the new size of a cached reached-set and mark the entry as recently used. */
+  private void updateSize(AbstractStateHash hash, int size) {
+    Integer oldSize = recentlyUsed.put(hash, size);
+    cachedStates += size - (oldSize == null ? 0 : oldSize);
+    maxCachedStates = Math.max(maxCachedStates, cachedStates);
+  }
+
+  /** Measure all entries whose analysis was finished since the last cache access. */
+  private void measureFinishedEntries() {
+    MeasuredCacheEntry entry;
+    while ((entry = finishedEntries.poll()) != null) {
+      if (preciseReachedCache.get(entry.hash) == entry) {
+        updateSize(entry.hash, entry.getReachedSet().size());
+      }
+    }
+  }
+
+  /**
+   * Remove the least recently used entries until the cache fits into the configured budget. We
+   * only evict entries whose analysis is finished, because the other entries might currently be
+   * analyzed or be needed for a re-exploration after a refinement. An evicted entry is recomputed
+   * on the next cache miss. The reached-set of an evicted entry is still available through the
+   * {@link BAMDataManager} as long as the ARG references it.
+   */
+  private void evictIfNecessary() {
+    measureFinishedEntries();
+    Iterator<Entry<AbstractStateHash, Integer>> it = recentlyUsed.entrySet().iterator();
+    while (isOverBudget() && it.hasNext()) {
+      Entry<AbstractStateHash, Integer> candidate = it.next();
+      AbstractStateHash hash = candidate.getKey();
+      BAMCacheEntry entry = preciseReachedCache.get(hash);
+      if (entry == null) {
+        // entry was already removed
+        it.remove();
+        continue;
+      }
+      if (entry.getExitStates() == null || entry == lastAnalyzedEntry) {
+        continue;
+      }
+      it.remove();
+      preciseReachedCache.remove(hash);
+      cachedStates -= candidate.getValue();
+      evictedEntries++;
+      evictedStates += candidate.getValue();
+      onEviction(hash, entry);
+      logger.log(Level.FINEST, "CACHE_EVICTION:", entry);
+    }
+  }
+
+  /** Called whenever an entry was evicted from the cache. Subclasses can clean up own data. */
+  @SuppressWarnings("unused") /* parameters used in subclass */
+  protected void onEviction(AbstractStateHash hash, BAMCacheEntry entry) {}
+
   protected static boolean allStatesContainedInReachedSet(Collection<AbstractState> pElements, ReachedSet reached) {
     return reached.asCollection().containsAll(pElements);
   }
@@ -116,6 +233,11 @@ public class BAMCacheImpl implements BAMCache {
     AbstractStateHash hash = getHashCode(stateKey, precisionKey, context);
     BAMCacheEntry result = preciseReachedCache.get(hash);
     if (result != null) {
+      if (isBounded()) {
+        // access the entry to update the order for eviction
+        Integer size = recentlyUsed.get(hash);
+        assert size != null : "missing size for cached entry " + hash;
+      }
       lastAnalyzedEntry = result;
       logger.log(Level.FINEST, "CACHE_ACCESS: precise entry");
       return result;
@@ -175,6 +297,11 @@ public class BAMCacheImpl implements BAMCache {
     return Collections2.transform(preciseReachedCache.values(), BAMCacheEntry::getReachedSet);
   }
 
+  @Override
+  public Collection<BAMCacheEntry> getAllCacheEntries() {
+    return Collections.unmodifiableCollection(preciseReachedCache.values());
+  }
+
   class AbstractStateHash {
 
     private final Object wrappedHash;
@@ -252,6 +379,12 @@ public class BAMCacheImpl implements BAMCache {
       out.println("  Number of precision caused misses:                 " + precisionCausedMisses + " (" + toPercent(precisionCausedMisses, cacheMisses) + " of all misses)");
       out.println("  Number of misses with no similar elements:         " + noSimilarCausedMisses + " (" + toPercent(noSimilarCausedMisses, cacheMisses) + " of all misses)");
     }
+    if (isBounded()) {
+      out.println("Maximal number of cached reached-sets:               " + maxCachedEntries);
+      out.println("Maximal number of states in cached reached-sets:     " + maxCachedStates);
+      out.println("Number of evicted cache entries:                     " + evictedEntries);
+      out.println("Number of states in evicted reached-sets:            " + evictedStates);
+    }
     out.println("Time for checking equality of abstract states:       " + equalsTimer + " (Calls: " + equalsTimer.getNumberOfIntervals() + ")");
     out.println("Time for computing the hashCode of abstract states:  " + hashingTimer + " (Calls: " + hashingTimer.getNumberOfIntervals() + ")");
   }
@@ -264,6 +397,29 @@ public class BAMCacheImpl implements BAMCache {
   @Override
   public void clear() {
     preciseReachedCache.clear();
+    recentlyUsed.clear();
+    finishedEntries.clear();
+    cachedStates = 0;
     lastAnalyzedEntry = null;
   }
+
+  /**
+   * A cache entry for a bounded cache. When the analysis of its reached-set is finished, the entry
+   * is scheduled for measuring the size of its reached-set.
+   */
+  private class MeasuredCacheEntry extends BAMCacheEntry {
+
+    private final AbstractStateHash hash;
+
+    private MeasuredCacheEntry(ReachedSet pRs, AbstractStateHash pHash) {
+      super(pRs);
+      hash = pHash;
+    }
+
+    @Override
+    public void setExitStates(Set<AbstractState> pExitStates) {
+      super.setExitStates(pExitStates);
+      finishedEntries.add(this);
+    }
+  }
 }
@@ -0,0 +1,106 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.bam.cache;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.InvalidConfigurationException;
+import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.cpachecker.cfa.blocks.Block;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.interfaces.Precision;
+import org.sosy_lab.cpachecker.core.interfaces.Reducer;
+import org.sosy_lab.cpachecker.core.reachedset.ReachedSet;
+import org.sosy_lab.cpachecker.cpa.bam.cache.BAMCache.BAMCacheEntry;
+
+public class BAMCacheImplTest {
+
+  private Reducer reducer;
+  private Block block;
+  private Precision precision;
+
+  @Before
+  public void setUp() {
+    reducer = Mockito.mock(Reducer.class);
+    Mockito.when(reducer.getHashCodeForState(Mockito.any(), Mockito.any()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    block = new Block(ImmutableSet.of(), ImmutableSet.of(), ImmutableSet.of(), ImmutableSet.of());
+    precision = Mockito.mock(Precision.class);
+  }
+
+  private BAMCacheImpl createCache(String maxEntries) throws InvalidConfigurationException {
+    Configuration config =
+        Configuration.builder().setOption("cpa.bam.cacheMaxEntries", maxEntries).build();
+    return new BAMCacheImpl(config, reducer, LogManager.createTestLogManager());
+  }
+
+  private static ReachedSet reachedSetOfSize(int size) {
+    ReachedSet reached = Mockito.mock(ReachedSet.class);
+    Mockito.when(reached.size()).thenReturn(size);
+    return reached;
+  }
+
+  @Test
+  public void testUnboundedCacheKeepsEntries() throws InvalidConfigurationException {
+    BAMCacheImpl cache = createCache("0");
+    assertThat(cache.isBounded()).isFalse();
+
+    AbstractState state1 = Mockito.mock(AbstractState.class);
+    AbstractState state2 = Mockito.mock(AbstractState.class);
+    BAMCacheEntry entry1 = cache.put(state1, precision, block, reachedSetOfSize(1));
+    entry1.setExitStates(ImmutableSet.of());
+    cache.put(state2, precision, block, reachedSetOfSize(1));
+
+    assertThat(cache.get(state1, precision, block)).isSameInstanceAs(entry1);
+    assertThat(cache.getAllCachedReachedStates()).hasSize(2);
+  }
+
+  @Test
+  public void testLookupAfterEviction() throws InvalidConfigurationException {
+    BAMCacheImpl cache = createCache("1");
+    assertThat(cache.isBounded()).isTrue();
+
+    AbstractState state1 = Mockito.mock(AbstractState.class);
+    AbstractState state2 = Mockito.mock(AbstractState.class);
+    BAMCacheEntry entry1 = cache.put(state1, precision, block, reachedSetOfSize(1));
+    entry1.setExitStates(ImmutableSet.of());
+    BAMCacheEntry entry2 = cache.put(state2, precision, block, reachedSetOfSize(1));
+
+    // the finished entry is evicted, a lookup is a cache miss
+    assertThat(cache.containsPreciseKey(state1, precision, block)).isFalse();
+    assertThat(cache.get(state1, precision, block)).isNull();
+    assertThat(cache.get(state2, precision, block)).isSameInstanceAs(entry2);
+
+    // the block is recomputed and cached again
+    entry2.setExitStates(ImmutableSet.of());
+    ReachedSet recomputed = reachedSetOfSize(1);
+    BAMCacheEntry newEntry1 = cache.put(state1, precision, block, recomputed);
+    assertThat(cache.get(state1, precision, block)).isSameInstanceAs(newEntry1);
+    assertThat(cache.get(state1, precision, block).getReachedSet()).isSameInstanceAs(recomputed);
+  }
+
+  @Test
+  public void testUnfinishedEntriesAreNotEvicted() throws InvalidConfigurationException {
+    BAMCacheImpl cache = createCache("1");
+
+    AbstractState state1 = Mockito.mock(AbstractState.class);
+    AbstractState state2 = Mockito.mock(AbstractState.class);
+    BAMCacheEntry entry1 = cache.put(state1, precision, block, reachedSetOfSize(1));
+    BAMCacheEntry entry2 = cache.put(state2, precision, block, reachedSetOfSize(1));
+
+    // no exit states were set, so both entries might still be analyzed
+    assertThat(cache.get(state1, precision, block)).isSameInstanceAs(entry1);
+    assertThat(cache.get(state2, precision, block)).isSameInstanceAs(entry2);
+  }
+}
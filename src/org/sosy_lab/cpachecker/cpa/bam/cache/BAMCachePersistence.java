@@ -0,0 +1,452 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.bam.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.sosy_lab.cpachecker.util.AbstractStates.extractLocation;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.FileOption;
+import org.sosy_lab.common.configuration.InvalidConfigurationException;
+import org.sosy_lab.common.configuration.Option;
+import org.sosy_lab.common.configuration.Options;
+import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.cpachecker.cfa.blocks.Block;
+import org.sosy_lab.cpachecker.cfa.blocks.BlockPartitioning;
+import org.sosy_lab.cpachecker.cfa.model.CFAEdge;
+import org.sosy_lab.cpachecker.cfa.model.CFANode;
+import org.sosy_lab.cpachecker.core.CPAcheckerResult.Result;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.interfaces.Precision;
+import org.sosy_lab.cpachecker.core.interfaces.Statistics;
+import org.sosy_lab.cpachecker.core.reachedset.ReachedSet;
+import org.sosy_lab.cpachecker.core.reachedset.UnmodifiableReachedSet;
+import org.sosy_lab.cpachecker.cpa.arg.ARGState;
+import org.sosy_lab.cpachecker.cpa.bam.cache.BAMCache.BAMCacheEntry;
+import org.sosy_lab.cpachecker.util.CFAUtils;
+import org.sosy_lab.cpachecker.util.globalinfo.CFAInfo;
+import org.sosy_lab.cpachecker.util.globalinfo.GlobalInfo;
+import org.sosy_lab.cpachecker.util.statistics.StatCounter;
+import org.sosy_lab.cpachecker.util.statistics.StatTimer;
+import org.sosy_lab.cpachecker.util.statistics.StatisticsUtils;
+
+/**
+ * Persistent storage for block summaries of BAM. The cache entries of a finished analysis can be
+ * written to a file and loaded into the {@link BAMCache} of a later analysis of the same (or a
+ * slightly modified) program.
+ *
+ * <p>Each stored entry contains the reached-set of a block and its exit states, and a fingerprint
+ * of the block, computed from the nodes and edges of the block. The fingerprint does not depend on
+ * the global node numbers, which change for most nodes whenever the program is modified, but only
+ * on the position of each node within its block. When loading the file, only entries whose
+ * fingerprint matches a block of the current program are inserted into the cache, all other entries
+ * are invalidated. Node numbers in the stored states are translated to the nodes at the same
+ * position in the current block, and entries that refer to nodes outside of their block are
+ * invalidated. The cache key is computed again with the current {@link
+ * org.sosy_lab.cpachecker.core.interfaces.Reducer}, i.e., an entry is only used for reduced states
+ * and precisions that are equal to the stored ones.
+ *
+ * <p>The abstract states are stored with Java serialization, thus only analyses with serializable
+ * states and precisions are supported. We only store entries of blocks that are fully analyzed,
+ * contain no target state, and contain no nested block call, because the information for
+ * reconstructing the ARG of nested blocks is not stored in the cache. Deserializing states requires
+ * the {@link GlobalInfo} of the analysis, thus the file is loaded when the analysis starts.
+ */
+@Options(prefix = "cpa.bam.persistentCache")
+public class BAMCachePersistence implements Statistics {
+
+  /** Version of the file format, increment this on incompatible changes. */
+  private static final int FORMAT_VERSION = 2;
+
+  @Option(
+      secure = true,
+      description =
+          "load block summaries from this file into the BAM cache before the analysis starts. "
+              + "Summaries of blocks that changed since the file was written are ignored.")
+  @FileOption(FileOption.Type.OPTIONAL_INPUT_FILE)
+  private @Nullable Path inputFile = null;
+
+  @Option(
+      secure = true,
+      description =
+          "write the block summaries of the BAM cache into this file after the analysis, "
+              + "such that a later analysis can load them.")
+  @FileOption(FileOption.Type.OUTPUT_FILE)
+  private @Nullable Path outputFile = null;
+
+  private final LogManager logger;
+  private final BlockPartitioning partitioning;
+  private final BAMDataManager data;
+
+  private boolean loaded = false;
+
+  private final StatTimer loadTimer = new StatTimer("Time for loading block summaries");
+  private final StatTimer storeTimer = new StatTimer("Time for storing block summaries");
+  private final StatCounter loadedEntries = new StatCounter("Number of loaded block summaries");
+  private final StatCounter invalidatedEntries =
+      new StatCounter("Number of invalidated block summaries");
+  private final StatCounter storedEntries = new StatCounter("Number of stored block summaries");
+  private final StatCounter skippedEntries =
+      new StatCounter("Number of block summaries not stored");
+
+  public BAMCachePersistence(
+      Configuration pConfig,
+      LogManager pLogger,
+      BlockPartitioning pPartitioning,
+      BAMDataManager pData)
+      throws InvalidConfigurationException {
+    pConfig.inject(this);
+    logger = pLogger;
+    partitioning = pPartitioning;
+    data = pData;
+  }
+
+  /**
+   * Load all valid block summaries from the input file into the cache, if this was not done before.
+   * This must only be called after the CPA was set up in the {@link GlobalInfo}.
+   */
+  public void loadIfNecessary() {
+    if (loaded || inputFile == null || !Files.isRegularFile(inputFile)) {
+      return;
+    }
+    loaded = true;
+    Optional<CFAInfo> cfaInfo = GlobalInfo.getInstance().getCFAInfo();
+    if (!cfaInfo.isPresent()) {
+      logger.log(Level.WARNING, "Ignoring BAM cache file, because the CFA is not available.");
+      return;
+    }
+    loadTimer.start();
+    try {
+      load(cfaInfo.orElseThrow());
+    } catch (IOException e) {
+      logger.logUserException(Level.WARNING, e, "Could not read BAM cache from file.");
+    } catch (RuntimeException e) {
+      // a broken entry must not stop the analysis, we continue without any stored summaries
+      logger.logUserException(Level.WARNING, e, "Could not load BAM cache from file.");
+      data.getCache().clear();
+    } finally {
+      loadTimer.stop();
+    }
+  }
+
+  private void load(CFAInfo cfaInfo) throws IOException {
+    Map<String, Block> blocksByFingerprint = new HashMap<>();
+    for (Block block : partitioning.getBlocks()) {
+      blocksByFingerprint.put(fingerprint(block), block);
+    }
+    try (InputStream inputStream = Files.newInputStream(inputFile);
+        InputStream gzipInputStream = new GZIPInputStream(inputStream);
+        DataInputStream in = new DataInputStream(gzipInputStream)) {
+      int version = in.readInt();
+      if (version != FORMAT_VERSION) {
+        logger.logf(
+            Level.WARNING,
+            "Ignoring BAM cache file %s with unsupported version %d.",
+            inputFile,
+            version);
+        return;
+      }
+      while (true) {
+        String blockFingerprint;
+        try {
+          blockFingerprint = in.readUTF();
+        } catch (EOFException e) {
+          break;
+        }
+        int[] nodeNumbers = new int[in.readInt()];
+        for (int i = 0; i < nodeNumbers.length; i++) {
+          nodeNumbers[i] = in.readInt();
+        }
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        Block block = blocksByFingerprint.get(blockFingerprint);
+        BlockSummary summary =
+            block == null ? null : deserialize(bytes, cfaInfo, translate(nodeNumbers, block));
+        if (summary == null) {
+          invalidatedEntries.inc();
+        } else {
+          insertIntoCache(summary, block);
+          loadedEntries.inc();
+        }
+      }
+    }
+  }
+
+  /**
+   * Map the stored node numbers of a block to the nodes at the same position in the given block.
+   * The fingerprint of both blocks is equal, so they have the same number of nodes.
+   */
+  private static Map<Integer, CFANode> translate(int[] nodeNumbers, Block block) {
+    List<CFANode> nodes = ImmutableSortedSet.copyOf(block.getNodes()).asList();
+    Map<Integer, CFANode> translation = new HashMap<>();
+    for (int i = 0; i < nodeNumbers.length; i++) {
+      translation.put(nodeNumbers[i], nodes.get(i));
+    }
+    return translation;
+  }
+
+  private @Nullable BlockSummary deserialize(
+      byte[] bytes, CFAInfo cfaInfo, Map<Integer, CFANode> nodeNumberTranslation) {
+    cfaInfo.setNodeNumberTranslation(nodeNumberTranslation);
+    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return (BlockSummary) ois.readObject();
+    } catch (IOException | ClassNotFoundException | RuntimeException e) {
+      // the analysis might have changed or the entry refers to a node outside of its block,
+      // we ignore this entry
+      logger.logDebugException(e, "Could not read block summary from BAM cache file.");
+      return null;
+    } finally {
+      cfaInfo.setNodeNumberTranslation(null);
+    }
+  }
+
+  /** Rebuild the ARG and the reached-set of a stored block summary and insert it into the cache. */
+  private void insertIntoCache(BlockSummary summary, Block block) {
+    List<ARGState> states = new ArrayList<>(summary.states.size());
+    for (AbstractState state : summary.states) {
+      ARGState argState = new ARGState(state, null);
+      argState.markExpanded();
+      states.add(argState);
+    }
+    ReachedSet reached = data.getReachedSetFactory().create();
+    for (int i = 0; i < states.size(); i++) {
+      for (int parent : summary.parents.get(i)) {
+        states.get(i).addParent(states.get(parent));
+      }
+      reached.add(states.get(i), summary.precisions.get(i));
+      reached.removeOnlyFromWaitlist(states.get(i));
+    }
+    Set<AbstractState> exitStates = new LinkedHashSet<>();
+    for (int exit : summary.exitStates) {
+      exitStates.add(states.get(exit));
+    }
+    ARGState root = states.get(0);
+    BAMCacheEntry entry =
+        data.getCache().put(root, summary.precisions.get(0), block, reached);
+    entry.setExitStates(exitStates);
+  }
+
+  @Override
+  public void writeOutputFiles(Result pResult, UnmodifiableReachedSet pReached) {
+    if (outputFile == null) {
+      return;
+    }
+    storeTimer.start();
+    try {
+      MoreFiles.createParentDirectories(outputFile);
+      try (OutputStream outputStream = Files.newOutputStream(outputFile);
+          OutputStream gzipOutputStream = new GZIPOutputStream(outputStream);
+          DataOutputStream out = new DataOutputStream(gzipOutputStream)) {
+        out.writeInt(FORMAT_VERSION);
+        for (BAMCacheEntry entry : data.getCache().getAllCacheEntries()) {
+          Block block = getBlockOfStorableEntry(entry);
+          byte[] bytes = block == null ? null : serialize(entry);
+          if (bytes == null) {
+            skippedEntries.inc();
+          } else {
+            out.writeUTF(fingerprint(block));
+            ImmutableSortedSet<CFANode> nodes = ImmutableSortedSet.copyOf(block.getNodes());
+            out.writeInt(nodes.size());
+            for (CFANode node : nodes) {
+              out.writeInt(node.getNodeNumber());
+            }
+            out.writeInt(bytes.length);
+            out.write(bytes);
+            storedEntries.inc();
+          }
+        }
+      }
+    } catch (IOException e) {
+      logger.logUserException(Level.WARNING, e, "Could not write BAM cache to file.");
+    } finally {
+      storeTimer.stop();
+    }
+  }
+
+  /**
+   * Serialize a cache entry into a byte array. Each entry is serialized on its own, such that a
+   * non-serializable state does not corrupt the whole file.
+   *
+   * @return the serialized entry, or NULL if the entry can not be stored.
+   */
+  private byte @Nullable [] serialize(BAMCacheEntry entry) throws IOException {
+    BlockSummary summary = createSummary(entry);
+    if (summary == null) {
+      return null;
+    }
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+      oos.writeObject(summary);
+    } catch (NotSerializableException e) {
+      logger.logf(
+          Level.FINE, "Block summary can not be stored, class %s is not serializable.", e.getMessage());
+      return null;
+    }
+    return bytes.toByteArray();
+  }
+
+  /** Return the block of a fully analyzed cache entry, or NULL if the entry is not finished. */
+  private @Nullable Block getBlockOfStorableEntry(BAMCacheEntry entry) {
+    ReachedSet reached = entry.getReachedSet();
+    if (entry.getExitStates() == null || reached.hasWaitingState()) {
+      return null; // incomplete analysis of the block
+    }
+    CFANode entryNode = extractLocation(reached.getFirstState());
+    if (entryNode == null || !partitioning.isCallNode(entryNode)) {
+      return null;
+    }
+    return partitioning.getBlockForCallNode(entryNode);
+  }
+
+  private @Nullable BlockSummary createSummary(BAMCacheEntry entry) {
+    ReachedSet reached = entry.getReachedSet();
+    Set<AbstractState> exitStates = entry.getExitStates();
+    Map<AbstractState, Integer> indices = new HashMap<>();
+    for (AbstractState state : reached) {
+      ARGState argState = (ARGState) state;
+      if (argState.isTarget() || data.hasInitialState(argState)) {
+        return null; // target states and nested blocks are not supported
+      }
+      indices.put(argState, indices.size());
+    }
+
+    List<AbstractState> states = new ArrayList<>(indices.size());
+    List<Precision> precisions = new ArrayList<>(indices.size());
+    List<int[]> parents = new ArrayList<>(indices.size());
+    for (AbstractState state : reached) {
+      ARGState argState = (ARGState) state;
+      states.add(argState.getWrappedState());
+      precisions.add(reached.getPrecision(argState));
+      parents.add(
+          argState.getParents().stream()
+              .filter(indices::containsKey)
+              .mapToInt(indices::get)
+              .toArray());
+    }
+    int[] exits = exitStates.stream().mapToInt(indices::get).toArray();
+    return new BlockSummary(states, precisions, parents, exits);
+  }
+
+  /**
+   * Compute a fingerprint for the code of a block. Instead of node numbers, the fingerprint covers
+   * the position of each node in the block (ordered by node number), which does not change if code
+   * outside of the block is modified. Edges to nodes outside of the block are represented by the
+   * function of their successor.
+   */
+  @VisibleForTesting
+  static String fingerprint(Block block) {
+    ImmutableSortedSet<CFANode> nodes = ImmutableSortedSet.copyOf(block.getNodes());
+    Map<CFANode, Integer> positions = new HashMap<>();
+    for (CFANode node : nodes) {
+      positions.put(node, positions.size());
+    }
+    Hasher hasher = Hashing.sha256().newHasher();
+    hasher.putInt(nodes.size());
+    for (CFANode node : nodes) {
+      hasher.putString(node.getClass().getSimpleName(), UTF_8);
+      hasher.putString(node.getFunctionName(), UTF_8);
+      hasher.putBoolean(block.isCallNode(node));
+      hasher.putBoolean(block.isReturnNode(node));
+      for (CFAEdge edge : CFAUtils.leavingEdges(node)) {
+        CFANode successor = edge.getSuccessor();
+        Integer position = positions.get(successor);
+        if (position == null) {
+          hasher.putInt(-1);
+          hasher.putString(successor.getFunctionName(), UTF_8);
+        } else {
+          hasher.putInt(position);
+        }
+        hasher.putString(edge.getEdgeType().name(), UTF_8);
+        hasher.putString(edge.getCode(), UTF_8);
+        hasher.putString(edge.getDescription(), UTF_8);
+      }
+    }
+    for (String variable : ImmutableSortedSet.copyOf(block.getVariables())) {
+      hasher.putString(variable, UTF_8);
+    }
+    return hasher.hash().toString();
+  }
+
+  @Override
+  public void printStatistics(PrintStream pOut, Result pResult, UnmodifiableReachedSet pReached) {
+    if (inputFile != null) {
+      StatisticsUtils.write(pOut, 0, 50, loadTimer);
+      StatisticsUtils.write(pOut, 1, 50, loadedEntries);
+      StatisticsUtils.write(pOut, 1, 50, invalidatedEntries);
+    }
+    if (outputFile != null) {
+      StatisticsUtils.write(pOut, 0, 50, storeTimer);
+      StatisticsUtils.write(pOut, 1, 50, storedEntries);
+      StatisticsUtils.write(pOut, 1, 50, skippedEntries);
+    }
+  }
+
+  @Override
+  public @Nullable String getName() {
+    return "BAM persistent cache";
+  }
+
+  /**
+   * The stored summary of a block: the wrapped states of all ARG states of the reached-set (the
+   * first one is the root), their precisions, the ARG edges as indices of the parents, and the
+   * indices of the exit states.
+   */
+  private static class BlockSummary implements Serializable {
+
+    private static final long serialVersionUID = 2L;
+
+    private final ImmutableList<AbstractState> states;
+    private final ImmutableList<Precision> precisions;
+    private final ImmutableList<int[]> parents;
+    private final int[] exitStates;
+
+    private BlockSummary(
+        List<AbstractState> pStates,
+        List<Precision> pPrecisions,
+        List<int[]> pParents,
+        int[] pExitStates) {
+      states = ImmutableList.copyOf(pStates);
+      precisions = ImmutableList.copyOf(pPrecisions);
+      parents = ImmutableList.copyOf(pParents);
+      exitStates = pExitStates;
+    }
+  }
+}
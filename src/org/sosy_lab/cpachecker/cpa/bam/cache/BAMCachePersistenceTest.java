@@ -0,0 +1,72 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.bam.cache;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.sosy_lab.cpachecker.cfa.model.CFANode.newDummyCFANode;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.sosy_lab.cpachecker.cfa.ast.FileLocation;
+import org.sosy_lab.cpachecker.cfa.blocks.Block;
+import org.sosy_lab.cpachecker.cfa.model.BlankEdge;
+import org.sosy_lab.cpachecker.cfa.model.CFAEdge;
+import org.sosy_lab.cpachecker.cfa.model.CFANode;
+
+public class BAMCachePersistenceTest {
+
+  /** Create a block with a chain of nodes, whose edges have the given descriptions. */
+  private static Block createChainBlock(List<String> edgeDescriptions) {
+    List<CFANode> nodes = new ArrayList<>();
+    nodes.add(newDummyCFANode("f"));
+    for (String description : edgeDescriptions) {
+      CFANode predecessor = nodes.get(nodes.size() - 1);
+      CFANode successor = newDummyCFANode("f");
+      CFAEdge edge =
+          new BlankEdge(description, FileLocation.DUMMY, predecessor, successor, description);
+      predecessor.addLeavingEdge(edge);
+      successor.addEnteringEdge(edge);
+      nodes.add(successor);
+    }
+    return new Block(
+        ImmutableSet.of(),
+        ImmutableSet.of(nodes.get(0)),
+        ImmutableSet.of(nodes.get(nodes.size() - 1)),
+        nodes);
+  }
+
+  @Test
+  public void testFingerprintIndependentOfNodeNumbers() {
+    Block block = createChainBlock(ImmutableList.of("a", "b"));
+    // shift the node numbers of the next block, like a modification earlier in the program
+    for (int i = 0; i < 10; i++) {
+      newDummyCFANode("g");
+    }
+    Block sameCode = createChainBlock(ImmutableList.of("a", "b"));
+
+    assertThat(sameCode.getNodes()).isNotEqualTo(block.getNodes());
+    assertThat(BAMCachePersistence.fingerprint(sameCode))
+        .isEqualTo(BAMCachePersistence.fingerprint(block));
+  }
+
+  @Test
+  public void testFingerprintDependsOnCode() {
+    Block block = createChainBlock(ImmutableList.of("a", "b"));
+    Block otherCode = createChainBlock(ImmutableList.of("a", "c"));
+    Block moreCode = createChainBlock(ImmutableList.of("a", "b", "c"));
+
+    assertThat(BAMCachePersistence.fingerprint(otherCode))
+        .isNotEqualTo(BAMCachePersistence.fingerprint(block));
+    assertThat(BAMCachePersistence.fingerprint(moreCode))
+        .isNotEqualTo(BAMCachePersistence.fingerprint(block));
+  }
+}
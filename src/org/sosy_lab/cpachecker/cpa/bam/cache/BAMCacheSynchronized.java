@@ -8,6 +8,7 @@
 
 package org.sosy_lab.cpachecker.cpa.bam.cache;
 
+import com.google.common.collect.ImmutableList;
 import java.io.PrintStream;
 import java.util.Collection;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -114,6 +115,13 @@ public class BAMCacheSynchronized implements BAMCache {
     }
   }
 
+  @Override
+  public Collection<BAMCacheEntry> getAllCacheEntries() {
+    synchronized (this) {
+      return ImmutableList.copyOf(cache.getAllCacheEntries());
+    }
+  }
+
   @Override
   public void clear() {
     synchronized (this) {
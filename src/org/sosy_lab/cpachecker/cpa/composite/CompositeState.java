@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Set;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractWrapperState;
+import org.sosy_lab.cpachecker.core.interfaces.CoverageIndexable;
 import org.sosy_lab.cpachecker.core.interfaces.Graphable;
 import org.sosy_lab.cpachecker.core.interfaces.Partitionable;
 import org.sosy_lab.cpachecker.core.interfaces.Property;
@@ -32,8 +33,8 @@ import org.sosy_lab.cpachecker.core.interfaces.Targetable;
 import org.sosy_lab.cpachecker.cpa.arg.Splitable;
 
 public class CompositeState
-    implements AbstractWrapperState, Targetable, Partitionable, PseudoPartitionable, Serializable,
-        Graphable, Splitable {
+    implements AbstractWrapperState, Targetable, Partitionable, PseudoPartitionable,
+        CoverageIndexable, Serializable, Graphable, Splitable {
   private static final long serialVersionUID = -5143296331663510680L;
   private final ImmutableList<AbstractState> states;
   private transient Object partitionKey; // lazily initialized
@@ -185,6 +186,21 @@ public class CompositeState
     return pseudoHashCode;
   }
 
+  @Override
+  public long getCoverageSignature() {
+    // A composite state is covered only if all components are covered, so the signatures of the
+    // components are combined. They are rotated differently to reduce collisions between them.
+    long signature = 0;
+    int i = 0;
+    for (AbstractState element : states) {
+      if (element instanceof CoverageIndexable) {
+        signature |= Long.rotateLeft(((CoverageIndexable) element).getCoverageSignature(), 17 * i);
+      }
+      i++;
+    }
+    return signature;
+  }
+
   private static final class CompositePartitionKey implements Serializable {
 
     private static final long serialVersionUID = 1L;
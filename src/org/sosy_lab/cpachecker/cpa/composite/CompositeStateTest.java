@@ -0,0 +1,60 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.composite;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import org.sosy_lab.cpachecker.cfa.types.MachineModel;
+import org.sosy_lab.cpachecker.cfa.types.c.CNumericTypes;
+import org.sosy_lab.cpachecker.core.defaults.DelegateAbstractDomain;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractDomain;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.cpa.value.ValueAnalysisState;
+import org.sosy_lab.cpachecker.cpa.value.type.NumericValue;
+import org.sosy_lab.cpachecker.util.states.MemoryLocation;
+import org.sosy_lab.cpachecker.util.test.CoverageIndexableTester;
+
+public class CompositeStateTest {
+
+  /** more components than fit into one rotation of the signature (17 * 4 > 64) */
+  private static final int COMPONENTS = 5;
+
+  private static final MemoryLocation X = MemoryLocation.valueOf("main::x");
+  private static final MemoryLocation Y = MemoryLocation.valueOf("main::y");
+
+  /** Create the states without assignments, with x=0, and with x=0 and y=1. */
+  private static List<AbstractState> createComponentStates() {
+    ValueAnalysisState empty = new ValueAnalysisState(MachineModel.LINUX32);
+    ValueAnalysisState x = ValueAnalysisState.copyOf(empty);
+    x.assignConstant(X, new NumericValue(0), CNumericTypes.INT);
+    ValueAnalysisState xy = ValueAnalysisState.copyOf(x);
+    xy.assignConstant(Y, new NumericValue(1), CNumericTypes.INT);
+    return ImmutableList.of(empty, x, xy);
+  }
+
+  @Test
+  public void testCoverageSignatureIsSound() throws Exception {
+    AbstractDomain domain =
+        new CompositeDomain(
+            ImmutableList.copyOf(
+                Collections.nCopies(
+                    COMPONENTS, DelegateAbstractDomain.<ValueAnalysisState>getInstance())));
+    List<CompositeState> states = new ArrayList<>();
+    for (List<AbstractState> components :
+        Lists.cartesianProduct(Collections.nCopies(COMPONENTS, createComponentStates()))) {
+      states.add(new CompositeState(components));
+    }
+
+    CoverageIndexableTester.assertCoverageSignatureIsSound(states, domain::isLessOrEqual);
+  }
+}
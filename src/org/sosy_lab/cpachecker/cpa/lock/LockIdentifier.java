@@ -8,9 +8,10 @@
 
 package org.sosy_lab.cpachecker.cpa.lock;
 
-import java.util.HashSet;
 import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class LockIdentifier implements Comparable<LockIdentifier> {
 
@@ -25,10 +26,15 @@ public class LockIdentifier implements Comparable<LockIdentifier> {
     }
   }
 
-  private static Set<LockIdentifier> createdIds;
+  // all created identifiers, mapped to themselves, so equal identifiers are shared
+  private static final ConcurrentMap<LockIdentifier, LockIdentifier> createdIds =
+      new ConcurrentHashMap<>();
+  private static final AtomicInteger nextIndex = new AtomicInteger(0);
 
   private final String name;
   private final LockType type;
+  // dense number of the identifier, is assigned once the identifier is registered
+  private int index = -1;
 
   LockIdentifier(String pName, LockType pType) {
     name = pName;
@@ -44,9 +50,6 @@ public class LockIdentifier implements Comparable<LockIdentifier> {
   }
 
   public static LockIdentifier of(String name, String var, LockType type) {
-    if (createdIds == null) {
-      createdIds = new HashSet<>();
-    }
     LockIdentifier newId;
     if (var.isEmpty()) {
       newId = new LockIdentifier(name, type);
@@ -55,14 +58,20 @@ public class LockIdentifier implements Comparable<LockIdentifier> {
       newId = new LockIdentifierWithVariable(name, varName, type);
     }
 
-    for (LockIdentifier id : createdIds) {
-      if (id.equals(newId)) {
-        return id;
-      }
-    }
+    return createdIds.computeIfAbsent(
+        newId,
+        id -> {
+          id.index = nextIndex.getAndIncrement();
+          return id;
+        });
+  }
 
-    createdIds.add(newId);
-    return newId;
+  /**
+   * Returns a unique number of the identifier. The numbers are assigned densely starting from 0 in
+   * the order of creation, so they can be used as positions in a bit set.
+   */
+  public int getIndex() {
+    return index;
   }
 
   public String getName() {
@@ -12,8 +12,11 @@ import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.common.collect.Multiset;
 import com.google.common.collect.Sets;
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -21,27 +24,32 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import org.sosy_lab.cpachecker.core.interfaces.CoverageIndexable;
 import org.sosy_lab.cpachecker.cpa.lock.effects.AcquireLockEffect;
 import org.sosy_lab.cpachecker.cpa.lock.effects.LockEffect;
 import org.sosy_lab.cpachecker.cpa.lock.effects.ReleaseLockEffect;
 import org.sosy_lab.cpachecker.cpa.usage.CompatibleNode;
 import org.sosy_lab.cpachecker.cpa.usage.CompatibleState;
 
-public final class LockState extends AbstractLockState {
+public final class LockState extends AbstractLockState implements CoverageIndexable {
 
   @SuppressWarnings("checkstyle:IllegalType") // TODO: use composition instead of inheritance
   public static class LockTreeNode extends TreeSet<LockIdentifier> implements CompatibleNode {
 
     private static final long serialVersionUID = 5757759799394605077L;
 
+    // the indices of the contained locks, the node is not modified after creation
+    private final BitSet lockBits;
+
     public LockTreeNode(Set<LockIdentifier> locks) {
       super(locks);
+      lockBits = toBitSet(locks);
     }
 
     @Override
     public boolean isCompatibleWith(CompatibleState pState) {
       Preconditions.checkArgument(pState instanceof LockTreeNode);
-      return Sets.intersection(this, (LockTreeNode) pState).isEmpty();
+      return !lockBits.intersects(((LockTreeNode) pState).lockBits);
     }
 
     @Override
@@ -175,7 +183,7 @@ public final class LockState extends AbstractLockState {
       if (locks.equals(mutableLocks) && mutableToRestore == toRestore) {
         return LockState.this;
       } else {
-        return new LockState(mutableLocks, (LockState) mutableToRestore);
+        return create(mutableLocks, (LockState) mutableToRestore);
       }
     }
 
@@ -253,16 +261,47 @@ public final class LockState extends AbstractLockState {
     }
   }
 
+  // Equal states are shared, this saves memory for analyses with many lock operations
+  private static final Interner<LockState> interner = Interners.newWeakInterner();
+
   private final ImmutableMap<LockIdentifier, Integer> locks;
+  // the indices of the held locks, allows cheap checks of the lock sets
+  private final BitSet lockBits;
+  // the lock bits folded into 64 bits, cf. getCoverageSignature()
+  private final long lockSignature;
+  // created lazily, the node depends only on the immutable set of locks;
+  // volatile, because the node is a TreeSet and interned states are shared between threads
+  private volatile LockTreeNode compatibleNode = null;
+
   // if we need restore state, we save it here
   // Used for function annotations like annotate.function_name.restore
   public LockState() {
     locks = ImmutableMap.of();
+    lockBits = new BitSet(0);
+    lockSignature = 0;
   }
 
-  LockState(Map<LockIdentifier, Integer> gLocks, LockState state) {
+  private LockState(Map<LockIdentifier, Integer> gLocks, LockState state) {
     super(state);
     this.locks = ImmutableMap.copyOf(gLocks);
+    lockBits = toBitSet(locks.keySet());
+    long signature = 0;
+    for (long word : lockBits.toLongArray()) {
+      signature |= word;
+    }
+    lockSignature = signature;
+  }
+
+  static LockState create(Map<LockIdentifier, Integer> gLocks, LockState state) {
+    return interner.intern(new LockState(gLocks, state));
+  }
+
+  private static BitSet toBitSet(Iterable<LockIdentifier> pLocks) {
+    BitSet result = new BitSet();
+    for (LockIdentifier lock : pLocks) {
+      result.set(lock.getIndex());
+    }
+    return result;
   }
 
   @Override
@@ -384,7 +423,19 @@ public final class LockState extends AbstractLockState {
 
   @Override
   public CompatibleNode getCompatibleNode() {
-    return new LockTreeNode(locks.keySet());
+    // a benign race: at worst two equal nodes are created, but each is published safely
+    LockTreeNode node = compatibleNode;
+    if (node == null) {
+      node = new LockTreeNode(locks.keySet());
+      compatibleNode = node;
+    }
+    return node;
+  }
+
+  @Override
+  public boolean isCompatibleWith(CompatibleState state) {
+    Preconditions.checkArgument(state instanceof LockState);
+    return !lockBits.intersects(((LockState) state).lockBits);
   }
 
   @Override
@@ -396,14 +447,26 @@ public final class LockState extends AbstractLockState {
   public boolean isLessOrEqual(AbstractLockState other) {
     // State is less, if it has the same locks as the other and may be some more
 
-    for (LockIdentifier lock : other.getLocks()) {
-      if (!locks.containsKey(lock)) {
+    BitSet otherBits = ((LockState) other).lockBits;
+    for (int i = otherBits.nextSetBit(0); i >= 0; i = otherBits.nextSetBit(i + 1)) {
+      if (!lockBits.get(i)) {
         return false;
       }
     }
     return true;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The signature is built from the held locks, because a state can only be less or equal than
+   * another state if it holds all locks of the other state.
+   */
+  @Override
+  public long getCoverageSignature() {
+    return lockSignature;
+  }
+
   @Override
   public AbstractLockState join(AbstractLockState pOther) {
     Map<LockIdentifier, Integer> overlappedMap = new TreeMap<>();
@@ -417,6 +480,6 @@ public final class LockState extends AbstractLockState {
         overlappedMap.put(id, Integer.min(value, otherVal));
       }
     }
-    return new LockState(overlappedMap, (LockState) this.toRestore);
+    return create(overlappedMap, (LockState) this.toRestore);
   }
 }
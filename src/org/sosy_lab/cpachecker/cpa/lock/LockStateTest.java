@@ -0,0 +1,52 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.lock;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.sosy_lab.cpachecker.cpa.lock.LockState.LockStateBuilder;
+import org.sosy_lab.cpachecker.util.test.CoverageIndexableTester;
+
+public class LockStateTest {
+
+  /** more locks than bits in the signature, such that some locks share a bit */
+  private static final int LOCKS = 70;
+
+  private static LockState createState(LockIdentifier... pLocks) {
+    LockStateBuilder builder = new LockState().builder();
+    for (LockIdentifier lock : pLocks) {
+      builder.add(lock);
+    }
+    return builder.build();
+  }
+
+  @Test
+  public void testCoverageSignatureIsSound() throws Exception {
+    LockIdentifier[] locks = new LockIdentifier[LOCKS];
+    for (int i = 0; i < LOCKS; i++) {
+      locks[i] = LockIdentifier.of("lock" + i);
+    }
+
+    // the states without locks, with one lock, and with two neighbouring or distant locks
+    List<LockState> states = new ArrayList<>();
+    states.add(new LockState());
+    for (int i = 0; i < LOCKS; i++) {
+      states.add(createState(locks[i]));
+      if (i + 1 < LOCKS) {
+        states.add(createState(locks[i], locks[i + 1]));
+      }
+      if (i + 64 < LOCKS) {
+        states.add(createState(locks[i], locks[i + 64]));
+      }
+    }
+
+    CoverageIndexableTester.assertCoverageSignatureIsSound(states, LockState::isLessOrEqual);
+  }
+}
@@ -21,9 +21,11 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Maps;
 import com.google.common.collect.MultimapBuilder;
+import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.io.PrintStream;
@@ -37,6 +39,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.configuration.Configuration;
 import org.sosy_lab.common.configuration.FileOption;
 import org.sosy_lab.common.configuration.FileOption.Type;
@@ -49,6 +52,8 @@ import org.sosy_lab.common.io.PathTemplate;
 import org.sosy_lab.common.log.LogManager;
 import org.sosy_lab.cpachecker.cfa.model.CFANode;
 import org.sosy_lab.cpachecker.core.CPAcheckerResult.Result;
+import org.sosy_lab.cpachecker.core.algorithm.SharedAnalysisResults;
+import org.sosy_lab.cpachecker.core.algorithm.SharedAnalysisResults.Topic;
 import org.sosy_lab.cpachecker.core.defaults.precision.VariableTrackingPrecision;
 import org.sosy_lab.cpachecker.core.interfaces.Precision;
 import org.sosy_lab.cpachecker.core.interfaces.Statistics;
@@ -156,6 +161,8 @@ public class PredicateAbstractionRefinementStrategy extends RefinementStrategy
   // statistics
   private StatCounter numberOfRefinementsWithStrategy2 = new StatCounter("Number of refs with location-based cutoff");
   private StatInt irrelevantPredsInItp = new StatInt(StatKind.SUM, "Number of irrelevant preds in interpolants");
+  private StatCounter receivedSharedPredicates =
+      new StatCounter("Number of predicates from other analyses");
 
   private StatTimer predicateCreation = new StatTimer(StatKind.SUM, "Predicate creation");
   private StatTimer precisionUpdate = new StatTimer(StatKind.SUM, "Precision update");
@@ -194,7 +201,10 @@ public class PredicateAbstractionRefinementStrategy extends RefinementStrategy
             .put(simplifyVariablesAfter);
 
       w1.put(precisionUpdate)
-        .put(argUpdate)
+        .ifUpdatedAtLeastOnce(receivedSharedPredicates)
+          .put(receivedSharedPredicates);
+
+      w1.put(argUpdate)
         .spacer();
 
       PredicateAbstractionRefinementStrategy.this.printStatistics(out);
@@ -230,11 +240,27 @@ public class PredicateAbstractionRefinementStrategy extends RefinementStrategy
 
   private ListMultimap<LocationInstance, AbstractionPredicate> newPredicates;
 
+  /** endpoint for sharing predicates with other analyses that run in parallel, or null */
+  private @Nullable SharedAnalysisResults.Endpoint sharedResults = null;
+
+  /** all predicates received from other analyses so far, they are added to every new precision */
+  private final SetMultimap<CFANode, AbstractionPredicate> receivedPredicates =
+      LinkedHashMultimap.create();
+
 
   final void setUseAtomicPredicates(boolean pAtomicPredicates) {
     this.atomicPredicates = pAtomicPredicates;
   }
 
+  /**
+   * Publish the predicates of each refinement to the other analyses, and add the predicates
+   * published by the other analyses to each new precision.
+   */
+  final void shareResultsWith(SharedAnalysisResults.Endpoint pSharedResults) {
+    sharedResults = pSharedResults;
+    sharedResults.subscribe(Topic.PREDICATES);
+  }
+
   @Override
   protected final void startRefinementOfPath() {
     checkState(newPredicates == null);
@@ -400,6 +426,11 @@ public class PredicateAbstractionRefinementStrategy extends RefinementStrategy
 
     PredicatePrecision newPrecision = addPredicatesToPrecision(basePrecision);
 
+    if (sharedResults != null) {
+      publishNewPredicates();
+      newPrecision = addReceivedPredicates(newPrecision);
+    }
+
     logger.log(Level.ALL, "Predicate map now is", newPrecision);
     logger.log(Level.ALL, "Difference of predicates is", newPrecision.subtract(basePrecision));
 
@@ -503,6 +534,36 @@ public class PredicateAbstractionRefinementStrategy extends RefinementStrategy
     return newPrecision;
   }
 
+  private void publishNewPredicates() {
+    ImmutableSetMultimap.Builder<CFANode, String> predicates = ImmutableSetMultimap.builder();
+    for (Map.Entry<LocationInstance, AbstractionPredicate> predicate : newPredicates.entries()) {
+      BooleanFormula atom = predicate.getValue().getSymbolicAtom();
+      if (!bfmgr.isFalse(atom)) {
+        predicates.put(predicate.getKey().getLocation(), fmgr.dumpFormula(atom).toString());
+      }
+    }
+    sharedResults.publish(Topic.PREDICATES, predicates.build());
+  }
+
+  private PredicatePrecision addReceivedPredicates(PredicatePrecision pPrecision) {
+    for (ImmutableSetMultimap<CFANode, String> predicates : sharedResults.poll(Topic.PREDICATES)) {
+      for (Map.Entry<CFANode, String> predicate : predicates.entries()) {
+        try {
+          for (AbstractionPredicate newPredicate :
+              predAbsMgr.getPredicatesForAtomsOf(fmgr.parse(predicate.getValue()))) {
+            if (receivedPredicates.put(predicate.getKey(), newPredicate)) {
+              receivedSharedPredicates.inc();
+            }
+          }
+        } catch (IllegalArgumentException e) {
+          // e.g., the other analysis uses a different encoding of variables
+          logger.logDebugException(e, "Ignoring predicate from other analysis");
+        }
+      }
+    }
+    return pPrecision.addLocalPredicates(receivedPredicates.entries());
+  }
+
   private PredicatePrecision extractPredicatePrecision(Precision oldPrecision) throws IllegalStateException {
     PredicatePrecision oldPredicatePrecision = Precisions.extractPrecisionByType(oldPrecision, PredicatePrecision.class);
     checkState(
@@ -13,9 +13,11 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Level;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.ShutdownNotifier;
 import org.sosy_lab.common.collect.PathCopyingPersistentTreeMap;
 import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.IntegerOption;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
 import org.sosy_lab.common.configuration.Option;
 import org.sosy_lab.common.configuration.Options;
@@ -24,6 +26,7 @@ import org.sosy_lab.cpachecker.cfa.CFA;
 import org.sosy_lab.cpachecker.cfa.model.CFAEdge;
 import org.sosy_lab.cpachecker.cfa.model.CFANode;
 import org.sosy_lab.cpachecker.core.AnalysisDirection;
+import org.sosy_lab.cpachecker.core.algorithm.SharedAnalysisResults;
 import org.sosy_lab.cpachecker.core.algorithm.invariants.InvariantSupplier.TrivialInvariantSupplier;
 import org.sosy_lab.cpachecker.core.defaults.AutomaticCPAFactory;
 import org.sosy_lab.cpachecker.core.defaults.MergeSepOperator;
@@ -63,7 +66,11 @@ import org.sosy_lab.java_smt.api.SolverException;
  */
 @Options(prefix = "cpa.predicate")
 public class PredicateCPA
-    implements ConfigurableProgramAnalysis, StatisticsProvider, ProofChecker, AutoCloseable {
+    implements ConfigurableProgramAnalysis,
+        StatisticsProvider,
+        ProofChecker,
+        AutoCloseable,
+        SharedAnalysisResults.Participant {
 
   public static CPAFactory factory() {
     return AutomaticCPAFactory.forType(PredicateCPA.class).withOptions(BlockOperator.class);
@@ -76,6 +83,15 @@ public class PredicateCPA
   @Option(secure=true, name="blk.useCache", description="use caching of path formulas")
   private boolean useCache = true;
 
+  @Option(
+      secure = true,
+      name = "blk.cacheSize",
+      description =
+          "maximal number of entries in each cache of path formulas (0 for unbounded caches), "
+              + "the least recently used entries are evicted first")
+  @IntegerOption(min = 0)
+  private long cacheSize = 0;
+
   @Option(secure=true, name="enableBlockreducer", description="Enable the possibility to precompute explicit abstraction locations.")
   private boolean enableBlockreducer = false;
 
@@ -128,6 +144,8 @@ public class PredicateCPA
   private final FormulaManagerView formulaManager;
   private final PredicateCpaOptions options;
 
+  private @Nullable SharedAnalysisResults.Endpoint sharedResults = null;
+
   // path formulas for PCC
   private final Map<PredicateAbstractState, PathFormula> computedPathFormulaePcc = new HashMap<>();
 
@@ -161,7 +179,7 @@ public class PredicateCPA
 
     PathFormulaManager pfMgr = new PathFormulaManagerImpl(formulaManager, config, logger, shutdownNotifier, cfa, direction);
     if (useCache) {
-      pfMgr = new CachingPathFormulaManager(pfMgr);
+      pfMgr = new CachingPathFormulaManager(pfMgr, cacheSize);
     }
     pathFormulaManager = pfMgr;
 
@@ -299,6 +317,19 @@ public class PredicateCPA
     return shutdownNotifier;
   }
 
+  @Override
+  public void connectSharedResults(SharedAnalysisResults.Endpoint pEndpoint) {
+    sharedResults = pEndpoint;
+  }
+
+  /**
+   * Return the endpoint for sharing results with other analyses that run in parallel, or null if
+   * results are not shared.
+   */
+  public @Nullable SharedAnalysisResults.Endpoint getSharedResults() {
+    return sharedResults;
+  }
+
   @Override
   public AbstractState getInitialState(CFANode node, StateSpacePartition pPartition) {
     return PredicateAbstractState.mkAbstractionState(
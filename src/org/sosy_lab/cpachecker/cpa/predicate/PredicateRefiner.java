@@ -27,11 +27,14 @@ public abstract class PredicateRefiner implements Refiner {
       throws InvalidConfigurationException {
     PredicateCPA predicateCpa =
         CPAs.retrieveCPAOrFail(pCpa, PredicateCPA.class, PredicateRefiner.class);
-    RefinementStrategy strategy = new PredicateAbstractionRefinementStrategy(
+    PredicateAbstractionRefinementStrategy strategy = new PredicateAbstractionRefinementStrategy(
         predicateCpa.getConfiguration(),
         predicateCpa.getLogger(),
         predicateCpa.getPredicateManager(),
         predicateCpa.getSolver());
+    if (predicateCpa.getSharedResults() != null) {
+      strategy.shareResultsWith(predicateCpa.getSharedResults());
+    }
 
     return new PredicateCPARefinerFactory(pCpa).create(strategy);
   }
@@ -16,6 +16,7 @@ import java.util.Map.Entry;
 import java.util.NavigableMap;
 import java.util.NavigableSet;
 import java.util.NoSuchElementException;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.collect.PathCopyingPersistentTreeMap;
 import org.sosy_lab.common.collect.PersistentSortedMap;
 import org.sosy_lab.cpachecker.cpa.smg.graphs.edge.SMGEdgeHasValue;
@@ -29,18 +30,32 @@ public class SMGHasValueEdgeSet implements SMGHasValueEdges {
   private final PersistentSortedMap<SMGObject, Integer> sizesMap;
   private int size = 0;
 
+  /**
+   * Reverse index of {@link #map}: value -> edges with this value (as set). It is created lazily
+   * by the first query for a value (null before), and afterwards updated together with {@link
+   * #map} and inherited by all sets derived from this one. Many sets (e.g., those derived from a
+   * single object or by filtering) are small and queried only for their objects, so no set starts
+   * with an index.
+   */
+  private @Nullable PersistentSortedMap<SMGValue, PersistentSortedMap<SMGEdgeHasValue, Boolean>>
+      valueIndex;
+
   public SMGHasValueEdgeSet() {
     map = PathCopyingPersistentTreeMap.of();
     sizesMap = PathCopyingPersistentTreeMap.of();
+    valueIndex = null;
   }
 
   private SMGHasValueEdgeSet(
       PersistentSortedMap<SMGObject, PersistentSortedMap<Long, SMGEdgeHasValue>> pMap,
       PersistentSortedMap<SMGObject, Integer> pSizesMap,
-      int pSize) {
+      int pSize,
+      @Nullable PersistentSortedMap<SMGValue, PersistentSortedMap<SMGEdgeHasValue, Boolean>>
+          pValueIndex) {
     map = pMap;
     sizesMap = pSizesMap;
     size = pSize;
+    valueIndex = pValueIndex;
   }
 
   @Override
@@ -51,7 +66,12 @@ public class SMGHasValueEdgeSet implements SMGHasValueEdges {
     }
     PersistentSortedMap<SMGObject, Integer> newSizesMap = sizesMap.removeAndCopy(obj);
     int pSize = size - sizesMap.get(obj);
-    return new SMGHasValueEdgeSet(map.removeAndCopy(obj), newSizesMap, pSize);
+    PersistentSortedMap<SMGValue, PersistentSortedMap<SMGEdgeHasValue, Boolean>> newIndex =
+        valueIndex;
+    for (SMGEdgeHasValue edge : edgesForObject.values()) {
+      newIndex = removeFromIndex(newIndex, edge);
+    }
+    return new SMGHasValueEdgeSet(map.removeAndCopy(obj), newSizesMap, pSize, newIndex);
   }
 
   @Override
@@ -105,7 +125,10 @@ public class SMGHasValueEdgeSet implements SMGHasValueEdges {
     PersistentSortedMap<SMGObject, Integer> newSizesMap =
         result.sizesMap.putAndCopy(pEdge.getObject(), sizeForObject + 1);
     return new SMGHasValueEdgeSet(
-        result.map.putAndCopy(pEdge.getObject(), sortedByOffsets), newSizesMap, result.size + 1);
+        result.map.putAndCopy(pEdge.getObject(), sortedByOffsets),
+        newSizesMap,
+        result.size + 1,
+        addToIndex(result.valueIndex, pEdge));
   }
 
   @Override
@@ -113,6 +136,7 @@ public class SMGHasValueEdgeSet implements SMGHasValueEdges {
 
     int sizeForObject = sizesMap.getOrDefault(pEdge.getObject(), 0);
     PersistentSortedMap<Long, SMGEdgeHasValue> updated;
+    PersistentSortedMap<SMGValue, PersistentSortedMap<SMGEdgeHasValue, Boolean>> updatedIndex;
     int pSize = size;
 
     if (sizeForObject == 0) {
@@ -128,32 +152,33 @@ public class SMGHasValueEdgeSet implements SMGHasValueEdges {
             throw new AssertionError();
           } else {
             updated = sortedByOffsets.removeAndCopy(removingEdge.getOffset());
+            updatedIndex = removeFromIndex(valueIndex, removingEdge);
             pSize--;
             sizeForObject--;
             if (removingEdge.getOffset() < pEdge.getOffset()) {
-              updated =
-                  updated.putAndCopy(
+              SMGEdgeHasValue lowerPart =
+                  new SMGEdgeHasValue(
+                      Math.toIntExact(pEdge.getOffset() - removingEdge.getOffset()),
                       removingEdge.getOffset(),
-                      new SMGEdgeHasValue(
-                          Math.toIntExact(pEdge.getOffset() - removingEdge.getOffset()),
-                          removingEdge.getOffset(),
-                          pEdge.getObject(),
-                          pEdge.getValue()));
+                      pEdge.getObject(),
+                      pEdge.getValue());
+              updated = updated.putAndCopy(removingEdge.getOffset(), lowerPart);
+              updatedIndex = addToIndex(updatedIndex, lowerPart);
               pSize++;
               sizeForObject++;
             }
             if (removingEdge.getOffset() + removingEdge.getSizeInBits()
                 > pEdge.getOffset() + pEdge.getSizeInBits()) {
-              updated =
-                  updated.putAndCopy(
+              SMGEdgeHasValue upperPart =
+                  new SMGEdgeHasValue(
+                      Math.toIntExact(removingEdge.getOffset() - pEdge.getOffset())
+                          + removingEdge.getSizeInBits()
+                          - pEdge.getSizeInBits(),
                       pEdge.getOffset() + pEdge.getSizeInBits(),
-                      new SMGEdgeHasValue(
-                          Math.toIntExact(removingEdge.getOffset() - pEdge.getOffset())
-                              + removingEdge.getSizeInBits()
-                              - pEdge.getSizeInBits(),
-                          pEdge.getOffset() + pEdge.getSizeInBits(),
-                          pEdge.getObject(),
-                          pEdge.getValue()));
+                      pEdge.getObject(),
+                      pEdge.getValue());
+              updated = updated.putAndCopy(pEdge.getOffset() + pEdge.getSizeInBits(), upperPart);
+              updatedIndex = addToIndex(updatedIndex, upperPart);
               pSize++;
               sizeForObject++;
             }
@@ -162,7 +187,12 @@ public class SMGHasValueEdgeSet implements SMGHasValueEdges {
           throw new AssertionError();
         }
       } else {
+        SMGEdgeHasValue removingEdge = sortedByOffsets.get(pEdge.getOffset());
+        if (removingEdge == null) {
+          throw new AssertionError();
+        }
         updated = sortedByOffsets.removeAndCopy(pEdge.getOffset());
+        updatedIndex = removeFromIndex(valueIndex, removingEdge);
         pSize--;
         sizeForObject--;
       }
@@ -174,12 +204,14 @@ public class SMGHasValueEdgeSet implements SMGHasValueEdges {
           return new SMGHasValueEdgeSet(
               map.removeAndCopy(pEdge.getObject()),
               sizesMap.removeAndCopy(pEdge.getObject()),
-              pSize);
+              pSize,
+              updatedIndex);
         } else {
           return new SMGHasValueEdgeSet(
               map.putAndCopy(pEdge.getObject(), updated),
               sizesMap.putAndCopy(pEdge.getObject(), sizeForObject),
-              pSize);
+              pSize,
+              updatedIndex);
         }
       }
     }
@@ -192,7 +224,8 @@ public class SMGHasValueEdgeSet implements SMGHasValueEdges {
 
   @Override
   public SMGHasValueEdges filter(SMGEdgeHasValueFilter pFilter) {
-    SMGHasValueEdgeSet filtered = this;
+    // the result is built by modifying this set, which does not need to update the index
+    SMGHasValueEdgeSet filtered = new SMGHasValueEdgeSet(map, sizesMap, size, null);
     SMGObject filterObject = pFilter.getObject();
     Long filterOffset = pFilter.getOffset();
     SMGValue filterValue = pFilter.getValue();
@@ -202,6 +235,8 @@ public class SMGHasValueEdgeSet implements SMGHasValueEdges {
       if (filterOffset == null && filterValue == null && filterSize == -1) {
         return filtered;
       }
+    } else if (filterValue != null && !pFilter.isValueComplement() && filterOffset == null) {
+      return filterByValue(pFilter);
     }
     NavigableSet<Entry<SMGObject, PersistentSortedMap<Long, SMGEdgeHasValue>>> entries =
         filtered.map.entrySet();
@@ -242,6 +277,71 @@ public class SMGHasValueEdgeSet implements SMGHasValueEdges {
     return filtered;
   }
 
+  /**
+   * Filter all edges for a value using the reverse index, such that only the edges with this value
+   * are considered.
+   */
+  private SMGHasValueEdgeSet filterByValue(SMGEdgeHasValueFilter pFilter) {
+    PersistentSortedMap<SMGEdgeHasValue, Boolean> candidates =
+        getValueIndex().get(pFilter.getValue());
+    SMGHasValueEdgeSet filtered =
+        new SMGHasValueEdgeSet(
+            PathCopyingPersistentTreeMap.of(), PathCopyingPersistentTreeMap.of(), 0, null);
+    if (candidates != null) {
+      for (SMGEdgeHasValue candidate : candidates.keySet()) {
+        if (pFilter.holdsFor(candidate)) {
+          filtered = filtered.addEdgeAndCopy(candidate);
+        }
+      }
+    }
+    return filtered;
+  }
+
+  private PersistentSortedMap<SMGValue, PersistentSortedMap<SMGEdgeHasValue, Boolean>>
+      getValueIndex() {
+    if (valueIndex == null) {
+      PersistentSortedMap<SMGValue, PersistentSortedMap<SMGEdgeHasValue, Boolean>> index =
+          PathCopyingPersistentTreeMap.of();
+      for (SMGEdgeHasValue edge : this) {
+        index = addToIndex(index, edge);
+      }
+      valueIndex = index;
+    }
+    return valueIndex;
+  }
+
+  private static @Nullable PersistentSortedMap<
+          SMGValue, PersistentSortedMap<SMGEdgeHasValue, Boolean>>
+      addToIndex(
+          @Nullable PersistentSortedMap<SMGValue, PersistentSortedMap<SMGEdgeHasValue, Boolean>>
+              pIndex,
+          SMGEdgeHasValue pEdge) {
+    if (pIndex == null) {
+      return null;
+    }
+    PersistentSortedMap<SMGEdgeHasValue, Boolean> edges =
+        pIndex.getOrDefault(pEdge.getValue(), PathCopyingPersistentTreeMap.of());
+    return pIndex.putAndCopy(pEdge.getValue(), edges.putAndCopy(pEdge, true));
+  }
+
+  private static @Nullable PersistentSortedMap<
+          SMGValue, PersistentSortedMap<SMGEdgeHasValue, Boolean>>
+      removeFromIndex(
+          @Nullable PersistentSortedMap<SMGValue, PersistentSortedMap<SMGEdgeHasValue, Boolean>>
+              pIndex,
+          SMGEdgeHasValue pEdge) {
+    if (pIndex == null) {
+      return null;
+    }
+    PersistentSortedMap<SMGEdgeHasValue, Boolean> edges = pIndex.get(pEdge.getValue());
+    assert edges != null && edges.containsKey(pEdge);
+    edges = edges.removeAndCopy(pEdge);
+    if (edges.isEmpty()) {
+      return pIndex.removeAndCopy(pEdge.getValue());
+    }
+    return pIndex.putAndCopy(pEdge.getValue(), edges);
+  }
+
   @Override
   public SMGHasValueEdgeSet getEdgesForObject(SMGObject pObject) {
     PersistentSortedMap<Long, SMGEdgeHasValue> edges = map.get(pObject);
@@ -254,7 +354,7 @@ public class SMGHasValueEdgeSet implements SMGHasValueEdges {
       newSizesMap = newSizesMap.putAndCopy(pObject, newSize);
       newMap = newMap.putAndCopy(pObject, edges);
     }
-    return new SMGHasValueEdgeSet(newMap, newSizesMap, newSize);
+    return new SMGHasValueEdgeSet(newMap, newSizesMap, newSize, null);
   }
 
   @Override
@@ -345,7 +445,12 @@ public class SMGHasValueEdgeSet implements SMGHasValueEdges {
         map.putAndCopy(entry.getKey(), entry.getValue());
     PersistentSortedMap<SMGObject, Integer> newSizesMap =
         sizesMap.putAndCopy(entry.getKey(), edgesSet.size);
-    return new SMGHasValueEdgeSet(newMap, newSizesMap, size + edgesSet.size);
+    PersistentSortedMap<SMGValue, PersistentSortedMap<SMGEdgeHasValue, Boolean>> newIndex =
+        valueIndex;
+    for (SMGEdgeHasValue edge : entry.getValue().values()) {
+      newIndex = addToIndex(newIndex, edge);
+    }
+    return new SMGHasValueEdgeSet(newMap, newSizesMap, size + edgesSet.size, newIndex);
   }
 
   @Override
@@ -34,5 +34,8 @@ public interface SMGPointsToEdges extends Iterable<SMGEdgePointsTo> {
   @Nullable
   SMGEdgePointsTo getEdgeWithValue(SMGValue pValue);
 
+  /** get all incoming edges of an {@link SMGObject}, e.g., all pointers to this object. */
+  Iterable<SMGEdgePointsTo> getEdgesToObject(SMGObject pObject);
+
   int size();
 }
@@ -8,11 +8,13 @@
 
 package org.sosy_lab.cpachecker.cpa.smg.graphs;
 
+import com.google.common.collect.ImmutableSet;
+import java.util.Collections;
 import java.util.Iterator;
 import org.sosy_lab.common.collect.PathCopyingPersistentTreeMap;
 import org.sosy_lab.common.collect.PersistentMap;
+import org.sosy_lab.common.collect.PersistentSortedMap;
 import org.sosy_lab.cpachecker.cpa.smg.graphs.edge.SMGEdgePointsTo;
-import org.sosy_lab.cpachecker.cpa.smg.graphs.edge.SMGEdgePointsToFilter;
 import org.sosy_lab.cpachecker.cpa.smg.graphs.object.SMGObject;
 import org.sosy_lab.cpachecker.cpa.smg.graphs.value.SMGValue;
 
@@ -20,17 +22,33 @@ public class SMGPointsToMap implements SMGPointsToEdges {
 
   private final PersistentMap<SMGValue, SMGEdgePointsTo> map;
 
+  /** reverse index of {@link #map}: target object -> value -> edge */
+  private final PersistentSortedMap<SMGObject, PersistentSortedMap<SMGValue, SMGEdgePointsTo>>
+      targetIndex;
+
   public SMGPointsToMap() {
     map = PathCopyingPersistentTreeMap.of();
+    targetIndex = PathCopyingPersistentTreeMap.of();
   }
 
-  private SMGPointsToMap(PersistentMap<SMGValue, SMGEdgePointsTo> pMap) {
+  private SMGPointsToMap(
+      PersistentMap<SMGValue, SMGEdgePointsTo> pMap,
+      PersistentSortedMap<SMGObject, PersistentSortedMap<SMGValue, SMGEdgePointsTo>>
+          pTargetIndex) {
     map = pMap;
+    targetIndex = pTargetIndex;
   }
 
   @Override
   public SMGPointsToMap addAndCopy(SMGEdgePointsTo pEdge) {
-    return new SMGPointsToMap(map.putAndCopy(pEdge.getValue(), pEdge));
+    PersistentSortedMap<SMGObject, PersistentSortedMap<SMGValue, SMGEdgePointsTo>> newIndex =
+        targetIndex;
+    SMGEdgePointsTo oldEdge = map.get(pEdge.getValue());
+    if (oldEdge != null) {
+      newIndex = removeFromIndex(newIndex, oldEdge);
+    }
+    return new SMGPointsToMap(
+        map.putAndCopy(pEdge.getValue(), pEdge), addToIndex(newIndex, pEdge));
   }
 
   @Override
@@ -40,16 +58,46 @@ public class SMGPointsToMap implements SMGPointsToEdges {
 
   @Override
   public SMGPointsToMap removeAllEdgesOfObjectAndCopy(SMGObject pObj) {
+    PersistentSortedMap<SMGValue, SMGEdgePointsTo> edges = targetIndex.get(pObj);
+    if (edges == null) {
+      return this;
+    }
     PersistentMap<SMGValue, SMGEdgePointsTo> tmp = map;
-    for (SMGEdgePointsTo edge : SMGEdgePointsToFilter.targetObjectFilter(pObj).filter(this)) {
-      tmp = tmp.removeAndCopy(edge.getValue());
+    for (SMGValue value : edges.keySet()) {
+      tmp = tmp.removeAndCopy(value);
     }
-    return new SMGPointsToMap(tmp);
+    return new SMGPointsToMap(tmp, targetIndex.removeAndCopy(pObj));
   }
 
   @Override
   public SMGPointsToMap removeEdgeWithValueAndCopy(SMGValue pValue) {
-    return new SMGPointsToMap(map.removeAndCopy(pValue));
+    SMGEdgePointsTo edge = map.get(pValue);
+    if (edge == null) {
+      return this;
+    }
+    return new SMGPointsToMap(map.removeAndCopy(pValue), removeFromIndex(targetIndex, edge));
+  }
+
+  private static PersistentSortedMap<SMGObject, PersistentSortedMap<SMGValue, SMGEdgePointsTo>>
+      addToIndex(
+          PersistentSortedMap<SMGObject, PersistentSortedMap<SMGValue, SMGEdgePointsTo>> pIndex,
+          SMGEdgePointsTo pEdge) {
+    PersistentSortedMap<SMGValue, SMGEdgePointsTo> edges =
+        pIndex.getOrDefault(pEdge.getObject(), PathCopyingPersistentTreeMap.of());
+    return pIndex.putAndCopy(pEdge.getObject(), edges.putAndCopy(pEdge.getValue(), pEdge));
+  }
+
+  private static PersistentSortedMap<SMGObject, PersistentSortedMap<SMGValue, SMGEdgePointsTo>>
+      removeFromIndex(
+          PersistentSortedMap<SMGObject, PersistentSortedMap<SMGValue, SMGEdgePointsTo>> pIndex,
+          SMGEdgePointsTo pEdge) {
+    PersistentSortedMap<SMGValue, SMGEdgePointsTo> edges = pIndex.get(pEdge.getObject());
+    assert edges != null && pEdge.equals(edges.get(pEdge.getValue()));
+    edges = edges.removeAndCopy(pEdge.getValue());
+    if (edges.isEmpty()) {
+      return pIndex.removeAndCopy(pEdge.getObject());
+    }
+    return pIndex.putAndCopy(pEdge.getObject(), edges);
   }
 
   @Override
@@ -62,6 +110,15 @@ public class SMGPointsToMap implements SMGPointsToEdges {
     return map.get(pValue);
   }
 
+  @Override
+  public Iterable<SMGEdgePointsTo> getEdgesToObject(SMGObject pObject) {
+    PersistentSortedMap<SMGValue, SMGEdgePointsTo> edges = targetIndex.get(pObject);
+    if (edges == null) {
+      return ImmutableSet.of();
+    }
+    return Collections.unmodifiableCollection(edges.values());
+  }
+
   @Override
   public int size() {
     return map.size();
@@ -43,6 +43,11 @@ public class SMGEdgeHasValueFilter {
     return sizeInBits;
   }
 
+  /** whether the filter is for edges that do not have {@link #getValue()} */
+  public boolean isValueComplement() {
+    return valueComplement;
+  }
+
   public boolean isSizeNotRequired() {
     return sizeNotRequired;
   }
@@ -20,6 +20,7 @@ import org.sosy_lab.cpachecker.cpa.smg.graphs.object.SMGObject;
 import org.sosy_lab.cpachecker.cpa.smg.graphs.object.SMGRegion;
 import org.sosy_lab.cpachecker.cpa.smg.graphs.value.SMGKnownExpValue;
 import org.sosy_lab.cpachecker.cpa.smg.graphs.value.SMGValue;
+import org.sosy_lab.cpachecker.cpa.smg.graphs.value.SMGZeroValue;
 
 public class SMGEdgeHasValueTest {
 
@@ -262,4 +263,51 @@ public class SMGEdgeHasValueTest {
     assertThat(filteredSet).contains(hv22at4);
     assertThat(filteredSet).contains(hv12at4);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testFilterOnValueAfterModifications() {
+    SMGObject object1 = new SMGRegion(96, "object1");
+    SMGObject object2 = new SMGRegion(96, "object2");
+
+    SMGValue value1 = SMGKnownExpValue.valueOf(1);
+    SMGValue value2 = SMGKnownExpValue.valueOf(2);
+
+    SMGEdgeHasValue hv11at0 = new SMGEdgeHasValue(mockTypeSize, 0, object1, value1);
+    SMGEdgeHasValue hv12at4 = new SMGEdgeHasValue(mockTypeSize, 32, object1, value2);
+    SMGEdgeHasValue hv21at0 = new SMGEdgeHasValue(mockTypeSize, 0, object2, value1);
+    SMGEdgeHasValue hv0at4 = new SMGEdgeHasValue(64, 32, object2, SMGZeroValue.INSTANCE);
+    SMGHasValueEdges allEdges = new SMGHasValueEdgeSet();
+    allEdges = allEdges.addEdgeAndCopy(hv11at0);
+    allEdges = allEdges.addEdgeAndCopy(hv12at4);
+    allEdges = allEdges.addEdgeAndCopy(hv21at0);
+    allEdges = allEdges.addEdgeAndCopy(hv0at4);
+
+    SMGEdgeHasValueFilter filter1 = SMGEdgeHasValueFilter.valueFilter(value1);
+    assertThat(filter1.filter(allEdges)).containsExactly(hv11at0, hv21at0);
+
+    // older sets are not affected by modifications
+    SMGHasValueEdges modifiedEdges = allEdges.removeEdgeAndCopy(hv11at0);
+    assertThat(filter1.filter(modifiedEdges)).containsExactly(hv21at0);
+    assertThat(filter1.filter(allEdges)).containsExactly(hv11at0, hv21at0);
+
+    modifiedEdges = modifiedEdges.removeAllEdgesOfObjectAndCopy(object2);
+    assertThat(filter1.filter(modifiedEdges)).isEmpty();
+    assertThat(SMGEdgeHasValueFilter.valueFilter(value2).filter(modifiedEdges))
+        .containsExactly(hv12at4);
+
+    // removing a part of a zero edge splits it
+    SMGEdgeHasValue hv0at8 = new SMGEdgeHasValue(mockTypeSize, 64, object2, SMGZeroValue.INSTANCE);
+    modifiedEdges =
+        allEdges.removeEdgeAndCopy(
+            new SMGEdgeHasValue(mockTypeSize, 32, object2, SMGZeroValue.INSTANCE));
+    assertThat(
+            SMGEdgeHasValueFilter.valueFilter(SMGZeroValue.INSTANCE)
+                .filterBySize(mockTypeSize)
+                .filter(modifiedEdges))
+        .containsExactly(hv0at8);
+
+    SMGEdgeHasValue hv21at4 = new SMGEdgeHasValue(mockTypeSize, 32, object2, value1);
+    modifiedEdges = modifiedEdges.addEdgeAndCopy(hv21at4);
+    assertThat(filter1.filter(modifiedEdges)).containsExactly(hv11at0, hv21at0, hv21at4);
+  }
+}
@@ -11,6 +11,8 @@ package org.sosy_lab.cpachecker.cpa.smg.graphs.edge;
 import static com.google.common.truth.Truth.assertThat;
 
 import org.junit.Test;
+import org.sosy_lab.cpachecker.cpa.smg.graphs.SMGPointsToEdges;
+import org.sosy_lab.cpachecker.cpa.smg.graphs.SMGPointsToMap;
 import org.sosy_lab.cpachecker.cpa.smg.graphs.object.SMGObject;
 import org.sosy_lab.cpachecker.cpa.smg.graphs.object.SMGRegion;
 import org.sosy_lab.cpachecker.cpa.smg.graphs.value.SMGKnownExpValue;
@@ -53,4 +55,37 @@ public class SMGEdgePointsToTest {
     // Same val pointing to different objects
     assertThat(edge1.isConsistentWith(edge4)).isFalse();
   }
+
+  @Test
+  public void testFilterOnTargetObject() {
+    SMGValue val1 = SMGKnownExpValue.valueOf(1);
+    SMGValue val2 = SMGKnownExpValue.valueOf(2);
+    SMGValue val3 = SMGKnownExpValue.valueOf(3);
+    SMGObject obj1 = new SMGRegion(64, "object1");
+    SMGObject obj2 = new SMGRegion(64, "object2");
+
+    SMGEdgePointsTo edge1 = new SMGEdgePointsTo(val1, obj1, 0);
+    SMGEdgePointsTo edge2 = new SMGEdgePointsTo(val2, obj1, 32);
+    SMGEdgePointsTo edge3 = new SMGEdgePointsTo(val3, obj2, 0);
+    SMGPointsToEdges edges =
+        new SMGPointsToMap().addAndCopy(edge1).addAndCopy(edge2).addAndCopy(edge3);
+
+    SMGEdgePointsToFilter filter1 = SMGEdgePointsToFilter.targetObjectFilter(obj1);
+    assertThat(filter1.filter(edges)).containsExactly(edge1, edge2);
+    assertThat(filter1.filterAtTargetOffset(32L).filter(edges)).containsExactly(edge2);
+
+    // replacing the edge of a value updates the target object
+    SMGEdgePointsTo edge1ToObj2 = new SMGEdgePointsTo(val1, obj2, 32);
+    SMGPointsToEdges modifiedEdges = edges.addAndCopy(edge1ToObj2);
+    assertThat(SMGEdgePointsToFilter.targetObjectFilter(obj1).filter(modifiedEdges))
+        .containsExactly(edge2);
+    assertThat(SMGEdgePointsToFilter.targetObjectFilter(obj2).filter(modifiedEdges))
+        .containsExactly(edge3, edge1ToObj2);
+
+    modifiedEdges = modifiedEdges.removeAllEdgesOfObjectAndCopy(obj2);
+    assertThat(modifiedEdges).containsExactly(edge2);
+    assertThat(SMGEdgePointsToFilter.targetObjectFilter(obj2).filter(modifiedEdges)).isEmpty();
+    assertThat(SMGEdgePointsToFilter.targetObjectFilter(obj1).filter(edges))
+        .containsExactly(edge1, edge2);
+  }
 }
@@ -8,6 +8,7 @@
 
 package org.sosy_lab.cpachecker.cpa.smg.graphs.object;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import org.sosy_lab.cpachecker.cpa.smg.graphs.object.dll.SMGDoublyLinkedList;
 import org.sosy_lab.cpachecker.cpa.smg.graphs.value.SMGValue;
 
@@ -22,7 +23,7 @@ public abstract class SMGObject implements Comparable<SMGObject> {
   private final String label;
   private final int level;
   private final SMGObjectKind kind;
-  private static int count;
+  private static final AtomicInteger count = new AtomicInteger();
   private final int id;
 
   public SMGObjectKind getKind() {
@@ -87,8 +88,8 @@ public abstract class SMGObject implements Comparable<SMGObject> {
   }
 
   private static int getNewId() {
-    count++;
-    return count;
+    // objects may be created by concurrent coverage checks
+    return count.incrementAndGet();
   }
 
   public int getId() {
@@ -68,6 +68,7 @@ public class UsageCPAStatistics implements Statistics {
   final StatTimer usagePreparationTimer = new StatTimer("Time for usage transfer");
   final StatTimer innerAnalysisTimer = new StatTimer("Time for inner analyses");
   final StatTimer extractStatesTimer = new StatTimer("Time for state extraction");
+  public final StatTimer unsafeDetectionTimer = new StatTimer("Time for detecting unsafes");
   private final StatTimer printStatisticsTimer = new StatTimer("Time for printing statistics");
   private final StatTimer printUnsafesTimer = new StatTimer("Time for unsafes printing");
   // public final StatCounter numberOfStatesCounter = new StatCounter("Number of states");
@@ -88,13 +89,22 @@ public class UsageCPAStatistics implements Statistics {
       final PrintStream out, final Result result, final UnmodifiableReachedSet reached) {
 
     StatisticsWriter writer = StatisticsWriter.writingStatisticsTo(out);
-    writer.put(transferRelationTimer)
-          .put(usagePreparationTimer)
-          .put(innerAnalysisTimer)
+    writer
+        .put(transferRelationTimer)
+        .beginLevel()
+        .put(usagePreparationTimer)
+        .put(innerAnalysisTimer)
+        .endLevel()
         .put(extractStatesTimer);
 
     if (printUnsafesInCaseOfUnknown || result != Result.UNKNOWN) {
       printUnsafesTimer.start();
+      if (reached instanceof UsageReachedSet) {
+        // the unsafes may be detected only now if there was no refinement
+        ((UsageReachedSet) reached)
+            .getUsageContainer()
+            .setUnsafeDetectionTimer(unsafeDetectionTimer);
+      }
       try {
         switch (outputFileType) {
           case KLEVER:
@@ -120,6 +130,7 @@ public class UsageCPAStatistics implements Statistics {
 
     printStatisticsTimer.start();
     UsageState.get(reached.getFirstState()).getStatistics().printStatistics(writer);
+    writer.put(unsafeDetectionTimer);
     writer.put(printUnsafesTimer);
     printStatisticsTimer.stop();
     writer.put(printStatisticsTimer);
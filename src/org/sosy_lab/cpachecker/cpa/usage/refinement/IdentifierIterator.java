@@ -43,6 +43,7 @@ import org.sosy_lab.cpachecker.cpa.predicate.BAMPredicateCPA;
 import org.sosy_lab.cpachecker.cpa.predicate.BAMPredicateRefiner;
 import org.sosy_lab.cpachecker.cpa.predicate.PredicatePrecision;
 import org.sosy_lab.cpachecker.cpa.usage.UsageCPA;
+import org.sosy_lab.cpachecker.cpa.usage.UsageCPAStatistics;
 import org.sosy_lab.cpachecker.cpa.usage.UsageReachedSet;
 import org.sosy_lab.cpachecker.cpa.usage.storage.UsageContainer;
 import org.sosy_lab.cpachecker.exceptions.CPAException;
@@ -93,6 +94,7 @@ public class IdentifierIterator extends WrappedConfigurableRefinementBlock<Reach
   private boolean hideFilteredUnsafes = false;
 
   private final BAMTransferRelation transfer;
+  private final UsageCPAStatistics stats;
 
   int i = 0;
   int lastFalseUnsafeSize = -1;
@@ -106,7 +108,8 @@ public class IdentifierIterator extends WrappedConfigurableRefinementBlock<Reach
     config.inject(this);
     cpa = pCpa;
     UsageCPA uCpa = CPAs.retrieveCPA(pCpa, UsageCPA.class);
-    uCpa.getStats().setBAMCPA((BAMCPA) cpa);
+    stats = uCpa.getStats();
+    stats.setBAMCPA((BAMCPA) cpa);
     logger = uCpa.getLogger();
     transfer = pTransfer;
   }
@@ -129,6 +132,7 @@ public class IdentifierIterator extends WrappedConfigurableRefinementBlock<Reach
 
     UsageReachedSet uReached = (UsageReachedSet) pReached;
     UsageContainer container = uReached.getUsageContainer();
+    container.setUnsafeDetectionTimer(stats.unsafeDetectionTimer);
     Set<SingleIdentifier> processedUnsafes = new HashSet<>();
 
     logger.log(Level.INFO, ("Perform US refinement: " + i++));
@@ -10,8 +10,10 @@ package org.sosy_lab.cpachecker.cpa.usage.storage;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.util.BitSet;
 import java.util.NavigableSet;
 import java.util.Set;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.cpachecker.cpa.lock.DeadLockState.DeadLockTreeNode;
 import org.sosy_lab.cpachecker.cpa.lock.LockIdentifier;
 import org.sosy_lab.cpachecker.cpa.usage.UsageInfo;
@@ -74,6 +76,10 @@ public class UnsafeDetector {
   }
 
   private boolean isUnsafe(NavigableSet<UsagePoint> points) {
+    UsagePointIndex index = createIndex(points);
+    if (index != null) {
+      return findRace(index, true) != null;
+    }
     for (UsagePoint point1 : points) {
       for (UsagePoint point2 : points.tailSet(point1)) {
         if (isUnsafePair(point1, point2)) {
@@ -85,17 +91,24 @@ public class UnsafeDetector {
   }
 
   private Pair<UsagePoint, UsagePoint> getUnsafePair(NavigableSet<UsagePoint> set) {
-
-    for (UsagePoint point1 : set) {
-      for (UsagePoint point2 : set.tailSet(point1)) {
-        if (point1.equals(point2)) {
-          /* There can be an unsafe even with only one usage,
-           * but at first we find two different usages
-           */
-          continue;
-        }
-        if (isUnsafePair(point1, point2)) {
-          return Pair.of(point1, point2);
+    UsagePointIndex index = createIndex(set);
+    if (index != null) {
+      Pair<UsagePoint, UsagePoint> result = findRace(index, false);
+      if (result != null) {
+        return result;
+      }
+    } else {
+      for (UsagePoint point1 : set) {
+        for (UsagePoint point2 : set.tailSet(point1)) {
+          if (point1.equals(point2)) {
+            /* There can be an unsafe even with only one usage,
+             * but at first we find two different usages
+             */
+            continue;
+          }
+          if (isUnsafePair(point1, point2)) {
+            return Pair.of(point1, point2);
+          }
         }
       }
     }
@@ -111,6 +124,40 @@ public class UnsafeDetector {
     return null;
   }
 
+  /** The index is used only for races, other kinds of unsafes are not based on disjoint locks. */
+  private @Nullable UsagePointIndex createIndex(NavigableSet<UsagePoint> points) {
+    if (config.getUnsafeMode() == UnsafeMode.RACE && points.size() > 1) {
+      return UsagePointIndex.create(points);
+    }
+    return null;
+  }
+
+  /**
+   * Searches for a race with the help of the index. A race requires at least one write access and
+   * the writes are the first points in the index, so only pairs starting with a write are
+   * considered. The pairs are checked in the same order as by the pairwise search, thus the found
+   * pair is the same.
+   *
+   * @param includeSamePoint whether a point may form a race with itself
+   */
+  private @Nullable Pair<UsagePoint, UsagePoint> findRace(
+      UsagePointIndex index, boolean includeSamePoint) {
+    for (int i = 0; i < index.getNumberOfWrites(); i++) {
+      UsagePoint point1 = index.getPoint(i);
+      boolean excludeEmpty = config.ignoreEmptyLockset() && point1.isEmpty();
+      int from = includeSamePoint ? i : i + 1;
+      BitSet candidates = index.getPointsWithDisjointLocks(i, from, excludeEmpty);
+      for (int j = candidates.nextSetBit(from); j >= 0; j = candidates.nextSetBit(j + 1)) {
+        // the other compatible nodes still have to be checked
+        UsagePoint point2 = index.getPoint(j);
+        if (isUnsafePair(point1, point2)) {
+          return Pair.of(point1, point2);
+        }
+      }
+    }
+    return null;
+  }
+
   public boolean isUnsafePair(UsagePoint point1, UsagePoint point2) {
     if (point1.isCompatible(point2)) {
       switch (config.getUnsafeMode()) {
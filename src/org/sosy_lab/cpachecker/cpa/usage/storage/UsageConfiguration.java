@@ -9,6 +9,7 @@
 package org.sosy_lab.cpachecker.cpa.usage.storage;
 
 import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.IntegerOption;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
 import org.sosy_lab.common.configuration.Option;
 import org.sosy_lab.common.configuration.Options;
@@ -35,6 +36,16 @@ public final class UsageConfiguration {
       secure = true)
   private String intLockName = null;
 
+  @Option(
+      name = "unsafedetector.numberOfThreads",
+      description =
+          "number of threads for detecting unsafes among the collected identifiers. "
+              + "With more than one thread the identifiers are checked in a fork-join pool, "
+              + "the resulting set of unsafes is the same as for the sequential detection.",
+      secure = true)
+  @IntegerOption(min = 1)
+  private int numberOfDetectionThreads = 1;
+
   public UsageConfiguration(Configuration config) throws InvalidConfigurationException {
     config.inject(this);
   }
@@ -54,4 +65,8 @@ public final class UsageConfiguration {
   String getIntLockName() {
     return intLockName;
   }
+
+  int getNumberOfDetectionThreads() {
+    return numberOfDetectionThreads;
+  }
 }
@@ -15,10 +15,12 @@ import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Multiset;
 import com.google.common.collect.Sets;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NavigableMap;
@@ -26,6 +28,8 @@ import java.util.NavigableSet;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.logging.Level;
 import org.sosy_lab.common.log.LogManager;
 import org.sosy_lab.cpachecker.cpa.lock.LockState;
@@ -62,6 +66,8 @@ public class UsageContainer {
   private final StatTimer resetTimer = new StatTimer("Time for reseting unsafes");
   private final StatTimer copyTimer = new StatTimer("Time for filling global container");
   private final StatTimer emptyEffectsTimer = new StatTimer("Time for coping usages");
+  // reported by UsageCPAStatistics, a private timer until the statistics are connected
+  private StatTimer unsafeDetectionTimer = new StatTimer("Time for detecting unsafes");
 
   int unsafeUsages = -1;
   int totalIds = 0;
@@ -205,16 +211,26 @@ public class UsageContainer {
 
   private void calculateUnsafesIfNecessary() {
     if (unsafeUsages == -1) {
+      unsafeDetectionTimer.start();
       processedUnsafes.clear();
       unsafeUsages = 0;
       Set<SingleIdentifier> toDelete = new HashSet<>();
 
-      for (Entry<SingleIdentifier, UnrefinedUsagePointSet> entry : unrefinedIds.entrySet()) {
-        UnrefinedUsagePointSet tmpList = entry.getValue();
-        if (detector.isUnsafe(tmpList)) {
-          unsafeUsages += tmpList.size();
+      List<SingleIdentifier> ids = new ArrayList<>(unrefinedIds.size());
+      List<UnrefinedUsagePointSet> sets = new ArrayList<>(unrefinedIds.size());
+      unrefinedIds.forEach(
+          (id, uset) -> {
+            ids.add(id);
+            sets.add(uset);
+          });
+      boolean[] isUnsafe = detectUnsafes(sets);
+
+      // results are processed in the order of identifiers, independently of the detection
+      for (int i = 0; i < ids.size(); i++) {
+        if (isUnsafe[i]) {
+          unsafeUsages += sets.get(i).size();
         } else {
-          SingleIdentifier id = entry.getKey();
+          SingleIdentifier id = ids.get(i);
           toDelete.add(id);
           falseUnsafes.add(id);
         }
@@ -228,6 +244,66 @@ public class UsageContainer {
         initialSet = new HashSet<>(unrefinedIds.keySet());
         initialUsages = unsafeUsages;
       }
+      unsafeDetectionTimer.stop();
+    }
+  }
+
+  /**
+   * Checks every set for an unsafe. The i-th element of the result belongs to the i-th set. If
+   * several threads are configured, the sets are partitioned across a fork-join pool, the detector
+   * only reads the sets, so they can be checked independently.
+   */
+  private boolean[] detectUnsafes(List<UnrefinedUsagePointSet> sets) {
+    boolean[] result = new boolean[sets.size()];
+    int numberOfThreads = config.getNumberOfDetectionThreads();
+    if (numberOfThreads <= 1 || sets.size() <= DetectionTask.SEQUENTIAL_THRESHOLD) {
+      for (int i = 0; i < sets.size(); i++) {
+        result[i] = detector.isUnsafe(sets.get(i));
+      }
+      return result;
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(numberOfThreads);
+    try {
+      // invoke() waits for all subtasks, thus all results are visible afterwards
+      pool.invoke(new DetectionTask(sets, result, 0, sets.size()));
+    } finally {
+      pool.shutdown();
+    }
+    return result;
+  }
+
+  /** Checks a range of sets and splits itself while the range is large enough. */
+  private class DetectionTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+    private static final int SEQUENTIAL_THRESHOLD = 32;
+
+    private final List<UnrefinedUsagePointSet> sets;
+    private final boolean[] result;
+    private final int from;
+    private final int to;
+
+    private DetectionTask(
+        List<UnrefinedUsagePointSet> pSets, boolean[] pResult, int pFrom, int pTo) {
+      sets = pSets;
+      result = pResult;
+      from = pFrom;
+      to = pTo;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= SEQUENTIAL_THRESHOLD) {
+        for (int i = from; i < to; i++) {
+          result[i] = detector.isUnsafe(sets.get(i));
+        }
+      } else {
+        int middle = (from + to) >>> 1;
+        invokeAll(
+            new DetectionTask(sets, result, from, middle),
+            new DetectionTask(sets, result, middle, to));
+      }
     }
   }
 
@@ -383,11 +459,17 @@ public class UsageContainer {
         .put(refinedUsages)
         .put("Total amount of failed unsafes", generalFailedSize)
         .put(failedUsages)
+        .put("Number of threads for unsafe detection", config.getNumberOfDetectionThreads())
         .put(resetTimer)
         .put(copyTimer)
         .put(emptyEffectsTimer);
   }
 
+  /** Measure the detection of unsafes with the given timer of the statistics. */
+  public void setUnsafeDetectionTimer(StatTimer pUnsafeDetectionTimer) {
+    unsafeDetectionTimer = pUnsafeDetectionTimer;
+  }
+
   public Set<SingleIdentifier> getProcessedUnsafes() {
     return processedUnsafes;
   }
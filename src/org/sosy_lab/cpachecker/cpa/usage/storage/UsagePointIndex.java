@@ -0,0 +1,102 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.usage.storage;
+
+import com.google.common.collect.ImmutableList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sosy_lab.cpachecker.cpa.lock.LockIdentifier;
+import org.sosy_lab.cpachecker.cpa.lock.LockState.LockTreeNode;
+import org.sosy_lab.cpachecker.cpa.usage.UsageInfo.Access;
+
+/**
+ * An index over the usage points of one identifier, which allows to search for races without
+ * comparing the lock sets of all pairs of points.
+ *
+ * <p>The points are numbered in their natural order, thus all write accesses come before the read
+ * accesses. For every lock there is a bit set of the points holding this lock, so the points with
+ * a lock set disjoint from the lock set of a given point are computed by a few bit operations.
+ */
+final class UsagePointIndex {
+
+  private final ImmutableList<UsagePoint> points;
+  private final List<LockTreeNode> locks;
+  private final Map<LockIdentifier, BitSet> pointsWithLock = new HashMap<>();
+  private final BitSet emptyPoints = new BitSet();
+  private final int numberOfWrites;
+
+  private UsagePointIndex(ImmutableList<UsagePoint> pPoints, List<LockTreeNode> pLocks) {
+    points = pPoints;
+    locks = pLocks;
+    int writes = 0;
+    for (int i = 0; i < points.size(); i++) {
+      UsagePoint point = points.get(i);
+      if (point.getAccess() == Access.WRITE) {
+        writes++;
+      }
+      if (point.isEmpty()) {
+        emptyPoints.set(i);
+      }
+      for (LockIdentifier lock : locks.get(i)) {
+        pointsWithLock.computeIfAbsent(lock, l -> new BitSet()).set(i);
+      }
+    }
+    numberOfWrites = writes;
+  }
+
+  /**
+   * Creates the index for the given points, or returns null, if the points do not contain lock
+   * sets, which is the case if the analysis does not track locks.
+   */
+  static @Nullable UsagePointIndex create(NavigableSet<UsagePoint> pPoints) {
+    ImmutableList<UsagePoint> points = ImmutableList.copyOf(pPoints);
+    ImmutableList.Builder<LockTreeNode> locks = ImmutableList.builderWithExpectedSize(points.size());
+    for (UsagePoint point : points) {
+      LockTreeNode node = point.get(LockTreeNode.class);
+      if (node == null) {
+        return null;
+      }
+      locks.add(node);
+    }
+    return new UsagePointIndex(points, locks.build());
+  }
+
+  UsagePoint getPoint(int i) {
+    return points.get(i);
+  }
+
+  /** The write accesses have the numbers from 0 (inclusive) to the returned value (exclusive). */
+  int getNumberOfWrites() {
+    return numberOfWrites;
+  }
+
+  /**
+   * Returns the numbers of all points starting from <code>from</code>, which do not share a lock
+   * with the point <code>i</code>.
+   *
+   * @param i the number of the point to compare with
+   * @param from the smallest number of a point, which may be included in the result
+   * @param excludeEmpty whether points without any held locks should be excluded
+   */
+  BitSet getPointsWithDisjointLocks(int i, int from, boolean excludeEmpty) {
+    BitSet result = new BitSet(points.size());
+    result.set(from, points.size());
+    for (LockIdentifier lock : locks.get(i)) {
+      result.andNot(pointsWithLock.get(lock));
+    }
+    if (excludeEmpty) {
+      result.andNot(emptyPoints);
+    }
+    return result;
+  }
+}
@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.logging.Level;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.ShutdownNotifier;
 import org.sosy_lab.common.configuration.Configuration;
 import org.sosy_lab.common.configuration.FileOption;
@@ -31,6 +32,7 @@ import org.sosy_lab.common.configuration.Options;
 import org.sosy_lab.common.log.LogManager;
 import org.sosy_lab.cpachecker.cfa.CFA;
 import org.sosy_lab.cpachecker.cfa.model.CFANode;
+import org.sosy_lab.cpachecker.core.algorithm.SharedAnalysisResults;
 import org.sosy_lab.cpachecker.core.counterexample.ConcreteStatePath;
 import org.sosy_lab.cpachecker.core.defaults.AbstractCPA;
 import org.sosy_lab.cpachecker.core.defaults.AutomaticCPAFactory;
@@ -68,7 +70,8 @@ public class ValueAnalysisCPA extends AbstractCPA
     implements ConfigurableProgramAnalysisWithBAM,
         StatisticsProvider,
         ProofCheckerCPA,
-        ConfigurableProgramAnalysisWithConcreteCex {
+        ConfigurableProgramAnalysisWithConcreteCex,
+        SharedAnalysisResults.Participant {
 
   private enum UnknownValueStrategy {
     /** This strategy discards all unknown values from the value analysis state */
@@ -103,6 +106,14 @@ public class ValueAnalysisCPA extends AbstractCPA
       description = "Tells the value analysis how to handle unknown values.")
   private UnknownValueStrategy unknownValueStrategy = UnknownValueStrategy.DISCARD;
 
+  @Option(
+      secure = true,
+      description =
+          "Share equal abstract states and equal values of variables between all paths"
+              + " (hash-consing). This reduces the memory consumption if many equal states"
+              + " are reached, and makes checking equality of states cheap.")
+  private boolean hashConsing = false;
+
   public static CPAFactory factory() {
     return AutomaticCPAFactory.forType(ValueAnalysisCPA.class);
   }
@@ -127,6 +138,8 @@ public class ValueAnalysisCPA extends AbstractCPA
 
   private SymbolicStatistics symbolicStats;
 
+  private @Nullable SharedAnalysisResults.Endpoint sharedResults = null;
+
   private ValueAnalysisCPA(Configuration config, LogManager logger,
       ShutdownNotifier pShutdownNotifier, CFA cfa) throws InvalidConfigurationException {
     super(DelegateAbstractDomain.<ValueAnalysisState>getInstance(), null);
@@ -258,7 +271,7 @@ public class ValueAnalysisCPA extends AbstractCPA
 
   @Override
   public AbstractState getInitialState(CFANode pNode, StateSpacePartition pPartition) {
-    return new ValueAnalysisState(cfa.getMachineModel());
+    return new ValueAnalysisState(cfa.getMachineModel(), hashConsing);
   }
 
   @Override
@@ -298,6 +311,19 @@ public class ValueAnalysisCPA extends AbstractCPA
     return cfa;
   }
 
+  @Override
+  public void connectSharedResults(SharedAnalysisResults.Endpoint pEndpoint) {
+    sharedResults = pEndpoint;
+  }
+
+  /**
+   * Return the endpoint for sharing results with other analyses that run in parallel, or null if
+   * results are not shared.
+   */
+  public @Nullable SharedAnalysisResults.Endpoint getSharedResults() {
+    return sharedResults;
+  }
+
   @Override
   public Reducer getReducer() {
     return new ValueAnalysisReducer();
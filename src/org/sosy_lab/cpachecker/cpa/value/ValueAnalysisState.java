@@ -9,10 +9,14 @@
 package org.sosy_lab.cpachecker.cpa.value;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.collect.Sets;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -53,6 +57,7 @@ import org.sosy_lab.cpachecker.cfa.types.c.CType;
 import org.sosy_lab.cpachecker.cfa.types.c.CTypes;
 import org.sosy_lab.cpachecker.core.defaults.LatticeAbstractState;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractQueryableState;
+import org.sosy_lab.cpachecker.core.interfaces.CoverageIndexable;
 import org.sosy_lab.cpachecker.core.interfaces.ExpressionTreeReportingState;
 import org.sosy_lab.cpachecker.core.interfaces.FormulaReportingState;
 import org.sosy_lab.cpachecker.core.interfaces.Graphable;
@@ -84,11 +89,12 @@ import org.sosy_lab.java_smt.api.FormulaType.FloatingPointType;
 public final class ValueAnalysisState
     implements AbstractQueryableState, FormulaReportingState, ExpressionTreeReportingState,
         ForgetfulState<ValueAnalysisInformation>, Serializable, Graphable,
-        LatticeAbstractState<ValueAnalysisState>, PseudoPartitionable {
+        LatticeAbstractState<ValueAnalysisState>, PseudoPartitionable, CoverageIndexable {
 
   private static final long serialVersionUID = -3152134511524554358L;
 
-  private static final Set<MemoryLocation> blacklist = new HashSet<>();
+  // concurrent, because the transfer relation may be used concurrently during refinement
+  private static final Set<MemoryLocation> blacklist = Sets.newConcurrentHashSet();
 
   static void addToBlacklist(MemoryLocation var) {
     blacklist.add(checkNotNull(var));
@@ -109,30 +115,66 @@ public final class ValueAnalysisState
 
   private final @Nullable MachineModel machineModel;
 
+  /**
+   * Canonical instances of states and of entries of {@link #constantsMap}, only used for states
+   * with {@link #hashConsing} enabled.
+   */
+  private static final Interner<ValueAnalysisState> stateInterner = Interners.newWeakInterner();
+
+  private static final Interner<ValueAndType> valueInterner = Interners.newWeakInterner();
+
+  /** whether this state and all states derived from it are hash-consed, cf. {@link #intern()} */
+  private final boolean hashConsing;
+
+  /**
+   * whether this state is the canonical instance of all equal states and thus immutable, volatile
+   * because canonical instances are shared between threads
+   */
+  private transient volatile boolean interned = false;
+
+  /**
+   * lazily computed signature of the entries of {@link #constantsMap} (0 if not yet computed), needs
+   * to be reset with every change of {@link #constantsMap}.
+   */
+  private transient long coverageSignature = 0;
+
   public ValueAnalysisState(MachineModel pMachineModel) {
-    this(
-        checkNotNull(pMachineModel),
-        PathCopyingPersistentTreeMap.of());
+    this(pMachineModel, false);
+  }
+
+  /**
+   * Create an empty state.
+   *
+   * @param pMachineModel the machine model of the analyzed program
+   * @param pHashConsing whether this state and all states derived from it should be hash-consed,
+   *     cf. {@link #intern()}
+   */
+  public ValueAnalysisState(MachineModel pMachineModel, boolean pHashConsing) {
+    this(checkNotNull(pMachineModel), PathCopyingPersistentTreeMap.of(), pHashConsing);
   }
 
   public ValueAnalysisState(
       Optional<MachineModel> pMachineModel,
       PersistentMap<MemoryLocation, ValueAndType> pConstantsMap) {
-    this(pMachineModel.orElse(null), pConstantsMap);
+    this(pMachineModel.orElse(null), pConstantsMap, false);
   }
 
   private ValueAnalysisState(
       @Nullable MachineModel pMachineModel,
-      PersistentMap<MemoryLocation, ValueAndType> pConstantsMap) {
+      PersistentMap<MemoryLocation, ValueAndType> pConstantsMap,
+      boolean pHashConsing) {
     machineModel = pMachineModel;
     constantsMap = checkNotNull(pConstantsMap);
     hashCode = constantsMap.hashCode();
+    hashConsing = pHashConsing;
   }
 
   private ValueAnalysisState(ValueAnalysisState state) {
     machineModel = state.machineModel;
     constantsMap = checkNotNull(state.constantsMap);
     hashCode = state.hashCode;
+    hashConsing = state.hashConsing;
+    coverageSignature = state.coverageSignature;
     assert hashCode == constantsMap.hashCode();
   }
 
@@ -147,12 +189,12 @@ public final class ValueAnalysisState
    * @param value value to be assigned.
    */
   void assignConstant(String variableName, Value value) {
+    checkMutable();
     addToConstantsMap(MemoryLocation.valueOf(variableName), value, null);
   }
 
   private void addToConstantsMap(
       final MemoryLocation pMemLoc, final Value pValue, final @Nullable Type pType) {
-
     if (blacklist.contains(pMemLoc)
         || (pMemLoc.isReference() && blacklist.contains(pMemLoc.getReferenceStart()))) {
       return;
@@ -165,12 +207,16 @@ public final class ValueAnalysisState
     }
 
     ValueAndType valueAndType = new ValueAndType(checkNotNull(valueToAdd), pType);
+    if (hashConsing) {
+      valueAndType = valueInterner.intern(valueAndType);
+    }
     ValueAndType oldValueAndType = constantsMap.get(pMemLoc);
     if (oldValueAndType != null) {
       hashCode -= (pMemLoc.hashCode() ^ oldValueAndType.hashCode());
     }
     constantsMap = constantsMap.putAndCopy(pMemLoc, valueAndType);
     hashCode += (pMemLoc.hashCode() ^ valueAndType.hashCode());
+    coverageSignature = 0;
   }
 
   /**
@@ -181,6 +227,7 @@ public final class ValueAnalysisState
    * @param pType the type of <code>value</code>.
    */
   public void assignConstant(MemoryLocation pMemoryLocation, Value value, Type pType) {
+    checkMutable();
     addToConstantsMap(pMemoryLocation, value, pType);
   }
 
@@ -194,6 +241,7 @@ public final class ValueAnalysisState
       SymbolicIdentifier pSymbolicIdentifier,
       Value pValue,
       AbstractExpressionValueVisitor pValueVisitor) {
+    checkMutable();
     for (Entry<MemoryLocation, ValueAndType> entry : constantsMap.entrySet()) {
       CType memLocType = (CType) entry.getValue().getType();
       Value typedValue = pValue;
@@ -219,7 +267,7 @@ public final class ValueAnalysisState
       if (currVal instanceof SymbolicIdentifier
           && ((SymbolicIdentifier) currVal).getId() == pSymbolicIdentifier.getId()) {
 
-        assignConstant(currMemloc, typedValue, memLocType);
+        addToConstantsMap(currMemloc, typedValue, memLocType);
       }
     }
   }
@@ -232,7 +280,11 @@ public final class ValueAnalysisState
    */
   @Override
   public ValueAnalysisInformation forget(MemoryLocation pMemoryLocation) {
+    checkMutable();
+    return removeFromConstantsMap(pMemoryLocation);
+  }
 
+  private ValueAnalysisInformation removeFromConstantsMap(MemoryLocation pMemoryLocation) {
     if (!constantsMap.containsKey(pMemoryLocation)) {
       return ValueAnalysisInformation.EMPTY;
     }
@@ -240,6 +292,7 @@ public final class ValueAnalysisState
     ValueAndType value = constantsMap.get(pMemoryLocation);
     constantsMap = constantsMap.removeAndCopy(pMemoryLocation);
     hashCode -= (pMemoryLocation.hashCode() ^ value.hashCode());
+    coverageSignature = 0;
 
     PersistentMap<MemoryLocation, ValueAndType> valueAssignment = PathCopyingPersistentTreeMap.of();
     valueAssignment = valueAssignment.putAndCopy(pMemoryLocation, value);
@@ -249,8 +302,9 @@ public final class ValueAnalysisState
 
   @Override
   public void remember(final MemoryLocation pLocation, final ValueAnalysisInformation pValueAndType) {
+    checkMutable();
     final ValueAndType value = pValueAndType.getAssignments().get(pLocation);
-    assignConstant(pLocation, value.getValue(), value.getType());
+    addToConstantsMap(pLocation, value.getValue(), value.getType());
   }
 
   /**
@@ -260,6 +314,7 @@ public final class ValueAnalysisState
    */
   @Deprecated
   public void retainAll(Set<MemoryLocation> toRetain) {
+    checkMutable();
     Set<MemoryLocation> toRemove = new HashSet<>();
     for (MemoryLocation memoryLocation : constantsMap.keySet()) {
       if (!toRetain.contains(memoryLocation)) {
@@ -268,7 +323,7 @@ public final class ValueAnalysisState
     }
 
     for (MemoryLocation memoryLocation : toRemove) {
-      forget(memoryLocation);
+      removeFromConstantsMap(memoryLocation);
     }
   }
 
@@ -278,9 +333,10 @@ public final class ValueAnalysisState
    * @param functionName the name of the function that is about to be left
    */
   void dropFrame(String functionName) {
+    checkMutable();
     for (MemoryLocation variableName : constantsMap.keySet()) {
       if (variableName.isOnFunctionStack(functionName)) {
-        forget(variableName);
+        removeFromConstantsMap(variableName);
       }
     }
   }
@@ -379,7 +435,7 @@ public final class ValueAnalysisState
     if (newConstantsMap.size() == reachedState.constantsMap.size()) {
       return reachedState;
     } else {
-      return new ValueAnalysisState(machineModel, newConstantsMap);
+      return new ValueAnalysisState(machineModel, newConstantsMap, hashConsing);
     }
   }
 
@@ -434,6 +490,10 @@ public final class ValueAnalysisState
     }
 
     ValueAnalysisState otherElement = (ValueAnalysisState) other;
+    if (interned && otherElement.interned) {
+      // there is only one interned instance of all equal states
+      return false;
+    }
     // hashCode is used as optimization: about 20% speedup when using many SingletonSets
     return otherElement.hashCode == hashCode && otherElement.constantsMap.equals(constantsMap);
   }
@@ -444,6 +504,26 @@ public final class ValueAnalysisState
     return hashCode;
   }
 
+  /** Fail if this state is an interned state, which must not be changed. */
+  private void checkMutable() {
+    checkState(!interned, "interned state must not be changed");
+  }
+
+  /**
+   * Return the canonical instance of all states that are equal to this state, if hash-consing is
+   * enabled for this state, and this state otherwise. Canonical instances are immutable, and two
+   * canonical instances are equal only if they are identical, so comparing them is cheap. Equal
+   * states that are reached along different paths share the same canonical instance.
+   */
+  public ValueAnalysisState intern() {
+    if (!hashConsing) {
+      return this;
+    }
+    ValueAnalysisState canonical = stateInterner.intern(this);
+    canonical.interned = true;
+    return canonical;
+  }
+
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder();
@@ -550,6 +630,7 @@ public final class ValueAnalysisState
   @Override
   public void modifyProperty(String pModification) throws InvalidQueryException {
     Preconditions.checkNotNull(pModification);
+    checkMutable();
 
     // either "deletevalues(methodname::varname)" or "setvalue(methodname::varname:=1929)"
     for (String statement : Splitter.on(';').trimResults().split(pModification)) {
@@ -562,7 +643,7 @@ public final class ValueAnalysisState
             statement.substring("deletevalues(".length(), statement.length() - 1));
 
         if (contains(varName)) {
-          forget(varName);
+          removeFromConstantsMap(varName);
         } else {
           // varname was not present in one of the maps
           // i would like to log an error here, but no logger is available
@@ -583,7 +664,7 @@ public final class ValueAnalysisState
           String varName = assignmentParts.get(0);
           try {
             Value newValue = new NumericValue(Long.parseLong(assignmentParts.get(1)));
-            this.assignConstant(varName, newValue);
+            addToConstantsMap(MemoryLocation.valueOf(varName), newValue, null);
           } catch (NumberFormatException e) {
             throw new InvalidQueryException(
                 "The Query \""
@@ -759,6 +840,27 @@ public final class ValueAnalysisState
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The signature is built from the assignments of this state, because a state can only be less
+   * or equal than another state if it contains all assignments of the other state.
+   */
+  @Override
+  public long getCoverageSignature() {
+    if (coverageSignature == 0) {
+      long signature = 0;
+      for (Entry<MemoryLocation, ValueAndType> entry : constantsMap.entrySet()) {
+        // only the value matters, cf. isLessOrEqual
+        signature |=
+            CoverageIndexable.signatureBit(
+                31 * entry.getKey().hashCode() + entry.getValue().getValue().hashCode());
+      }
+      coverageSignature = signature;
+    }
+    return coverageSignature;
+  }
+
   @Override
   public ExpressionTree<Object> getFormulaApproximation(
       FunctionEntryNode pFunctionScope, CFANode pLocation) {
@@ -859,6 +961,9 @@ public final class ValueAnalysisState
     private final Value value;
     private final Type type;
 
+    // cache for the hash code, which is used often for the incremental hash code of the state
+    private transient int hashCode = 0;
+
     public ValueAndType(Value pValue, Type pType) {
       value = checkNotNull(pValue);
       type = pType;
@@ -887,7 +992,10 @@ public final class ValueAnalysisState
 
     @Override
     public int hashCode() {
-      return Objects.hash(value, type);
+      if (hashCode == 0) {
+        hashCode = Objects.hash(value, type);
+      }
+      return hashCode;
     }
 
     @Override
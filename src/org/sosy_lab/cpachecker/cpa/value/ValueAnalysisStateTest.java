@@ -0,0 +1,151 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.value;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.sosy_lab.cpachecker.cfa.types.MachineModel;
+import org.sosy_lab.cpachecker.cfa.types.c.CNumericTypes;
+import org.sosy_lab.cpachecker.cfa.types.c.CType;
+import org.sosy_lab.cpachecker.cpa.value.type.NumericValue;
+import org.sosy_lab.cpachecker.util.states.MemoryLocation;
+import org.sosy_lab.cpachecker.util.test.CoverageIndexableTester;
+
+public class ValueAnalysisStateTest {
+
+  private static final MemoryLocation X = MemoryLocation.valueOf("main::x");
+  private static final MemoryLocation Y = MemoryLocation.valueOf("main::y");
+  private static final MemoryLocation Z = MemoryLocation.valueOf("main::z");
+
+  private static ValueAnalysisState createState(boolean pHashConsing, int pX, int pY) {
+    ValueAnalysisState state = new ValueAnalysisState(MachineModel.LINUX32, pHashConsing);
+    state.assignConstant(X, new NumericValue(pX), CNumericTypes.INT);
+    state.assignConstant(Y, new NumericValue(pY), CNumericTypes.INT);
+    return state;
+  }
+
+  @Test
+  public void testInternWithoutHashConsing() {
+    ValueAnalysisState state = createState(false, 1, 2);
+    assertThat(state.intern()).isSameInstanceAs(state);
+
+    // the state is not interned and can still be changed
+    state.assignConstant(X, new NumericValue(3), CNumericTypes.INT);
+  }
+
+  @Test
+  public void testInternIdentity() {
+    ValueAnalysisState state1 = createState(true, 1, 2);
+    ValueAnalysisState state2 = createState(true, 1, 2);
+    assertThat(state2).isNotSameInstanceAs(state1);
+
+    ValueAnalysisState interned1 = state1.intern();
+    ValueAnalysisState interned2 = state2.intern();
+    assertThat(interned2).isSameInstanceAs(interned1);
+    assertThat(interned1.intern()).isSameInstanceAs(interned1);
+
+    ValueAnalysisState other = createState(true, 1, 3).intern();
+    assertThat(other).isNotSameInstanceAs(interned1);
+    assertThat(other).isNotEqualTo(interned1);
+  }
+
+  @Test
+  public void testInternIndependentOfAssignmentOrder() {
+    ValueAnalysisState state1 = createState(true, 1, 2);
+    ValueAnalysisState state2 = new ValueAnalysisState(MachineModel.LINUX32, true);
+    state2.assignConstant(Y, new NumericValue(2), CNumericTypes.INT);
+    state2.assignConstant(X, new NumericValue(5), CNumericTypes.INT);
+    state2.assignConstant(X, new NumericValue(1), CNumericTypes.INT);
+
+    assertThat(state2.intern()).isSameInstanceAs(state1.intern());
+  }
+
+  @Test
+  public void testEqualsAndHashCodeWithNonInternedStates() {
+    ValueAnalysisState interned = createState(true, 1, 2).intern();
+    ValueAnalysisState plain = createState(false, 1, 2);
+    ValueAnalysisState notYetInterned = createState(true, 1, 2);
+
+    assertThat(plain).isEqualTo(interned);
+    assertThat(interned).isEqualTo(plain);
+    assertThat(plain.hashCode()).isEqualTo(interned.hashCode());
+    assertThat(notYetInterned).isEqualTo(interned);
+    assertThat(interned).isEqualTo(notYetInterned);
+    assertThat(notYetInterned.hashCode()).isEqualTo(interned.hashCode());
+
+    ValueAnalysisState different = createState(false, 2, 1);
+    assertThat(different).isNotEqualTo(interned);
+    assertThat(interned).isNotEqualTo(different);
+  }
+
+  @Test
+  public void testCopyOfInternedStateIsMutable() {
+    ValueAnalysisState interned = createState(true, 1, 2).intern();
+    ValueAnalysisState copy = ValueAnalysisState.copyOf(interned);
+    assertThat(copy).isEqualTo(interned);
+
+    copy.assignConstant(X, new NumericValue(3), CNumericTypes.INT);
+    assertThat(copy).isNotEqualTo(interned);
+    assertThat(interned.getValueFor(X)).isEqualTo(new NumericValue(1));
+  }
+
+  @Test
+  public void testMutationOfInternedStateFails() {
+    ValueAnalysisState interned = createState(true, 1, 2).intern();
+    ValueAnalysisInformation information = createState(false, 1, 2).forget(X);
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> interned.assignConstant(X, new NumericValue(3), CNumericTypes.INT));
+    assertThrows(IllegalStateException.class, () -> interned.assignConstant("x", new NumericValue(3)));
+    assertThrows(IllegalStateException.class, () -> interned.forget(X));
+    assertThrows(
+        IllegalStateException.class, () -> interned.forget(MemoryLocation.valueOf("main::z")));
+    assertThrows(IllegalStateException.class, () -> interned.remember(X, information));
+    assertThrows(IllegalStateException.class, () -> interned.dropFrame("main"));
+    assertThrows(IllegalStateException.class, () -> interned.modifyProperty("deletevalues(main::x)"));
+
+    assertThat(interned).isEqualTo(createState(false, 1, 2));
+  }
+
+  /**
+   * Create all states that assign to each of the given variables either nothing or one of the
+   * values 0 and 1, the latter with different types.
+   */
+  private static List<ValueAnalysisState> createAllStates(List<MemoryLocation> pVariables) {
+    List<ValueAnalysisState> states = new ArrayList<>();
+    states.add(new ValueAnalysisState(MachineModel.LINUX32));
+    for (MemoryLocation variable : pVariables) {
+      List<ValueAnalysisState> extendedStates = new ArrayList<>(states);
+      for (ValueAnalysisState state : states) {
+        for (int value = 0; value <= 1; value++) {
+          for (CType type : new CType[] {CNumericTypes.INT, CNumericTypes.LONG_INT}) {
+            ValueAnalysisState extended = ValueAnalysisState.copyOf(state);
+            extended.assignConstant(variable, new NumericValue(value), type);
+            extendedStates.add(extended);
+          }
+        }
+      }
+      states = extendedStates;
+    }
+    return states;
+  }
+
+  @Test
+  public void testCoverageSignatureIsSound() throws Exception {
+    List<ValueAnalysisState> states = createAllStates(ImmutableList.of(X, Y, Z));
+    CoverageIndexableTester.assertCoverageSignatureIsSound(
+        states, ValueAnalysisState::isLessOrEqual);
+  }
+}
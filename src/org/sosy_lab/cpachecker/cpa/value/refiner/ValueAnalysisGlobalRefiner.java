@@ -64,16 +64,21 @@ public class ValueAnalysisGlobalRefiner extends ValueAnalysisRefiner {
     final ValueAnalysisFeasibilityChecker checker =
         new ValueAnalysisFeasibilityChecker(strongestPostOp, logger, cfa, config);
 
-    return new ValueAnalysisGlobalRefiner(
-        checker,
-        strongestPostOp,
-        new ValueAnalysisPrefixProvider(
-            logger, cfa, config, valueAnalysisCpa.getShutdownNotifier()),
-        new PrefixSelector(cfa.getVarClassification(), cfa.getLoopStructure()),
-        config,
-        logger,
-        valueAnalysisCpa.getShutdownNotifier(),
-        cfa);
+    ValueAnalysisGlobalRefiner refiner =
+        new ValueAnalysisGlobalRefiner(
+            checker,
+            strongestPostOp,
+            new ValueAnalysisPrefixProvider(
+                logger, cfa, config, valueAnalysisCpa.getShutdownNotifier()),
+            new PrefixSelector(cfa.getVarClassification(), cfa.getLoopStructure()),
+            config,
+            logger,
+            valueAnalysisCpa.getShutdownNotifier(),
+            cfa);
+    if (valueAnalysisCpa.getSharedResults() != null) {
+      refiner.shareResultsWith(valueAnalysisCpa.getSharedResults());
+    }
+    return refiner;
   }
 
   ValueAnalysisGlobalRefiner(
@@ -15,8 +15,10 @@ import com.google.common.base.Predicate;
 import com.google.common.base.Predicates;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Multimap;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
 import java.io.PrintStream;
@@ -33,6 +35,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.logging.Level;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.ShutdownNotifier;
 import org.sosy_lab.common.configuration.Configuration;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
@@ -41,7 +44,10 @@ import org.sosy_lab.common.configuration.Options;
 import org.sosy_lab.common.log.LogManager;
 import org.sosy_lab.cpachecker.cfa.CFA;
 import org.sosy_lab.cpachecker.cfa.model.CFAEdge;
+import org.sosy_lab.cpachecker.cfa.model.CFANode;
 import org.sosy_lab.cpachecker.core.CPAcheckerResult.Result;
+import org.sosy_lab.cpachecker.core.algorithm.SharedAnalysisResults;
+import org.sosy_lab.cpachecker.core.algorithm.SharedAnalysisResults.Topic;
 import org.sosy_lab.cpachecker.core.counterexample.CFAPathWithAssumptions;
 import org.sosy_lab.cpachecker.core.defaults.precision.VariableTrackingPrecision;
 import org.sosy_lab.cpachecker.core.interfaces.ConfigurableProgramAnalysis;
@@ -65,6 +71,7 @@ import org.sosy_lab.cpachecker.util.AbstractStates;
 import org.sosy_lab.cpachecker.util.CPAs;
 import org.sosy_lab.cpachecker.util.Pair;
 import org.sosy_lab.cpachecker.util.Precisions;
+import org.sosy_lab.cpachecker.util.refinement.GenericPathInterpolator;
 import org.sosy_lab.cpachecker.util.refinement.GenericPrefixProvider;
 import org.sosy_lab.cpachecker.util.refinement.GenericRefiner;
 import org.sosy_lab.cpachecker.util.refinement.InterpolationTree;
@@ -125,6 +132,17 @@ public class ValueAnalysisRefiner
 
   private final ShutdownNotifier shutdownNotifier;
 
+  private final Configuration config;
+
+  private final CFA cfa;
+
+  /** endpoint for sharing precision increments with other analyses that run in parallel, or null */
+  private @Nullable SharedAnalysisResults.Endpoint sharedResults = null;
+
+  /** all precision increments received from other analyses so far */
+  private final SetMultimap<CFANode, MemoryLocation> receivedIncrements =
+      LinkedHashMultimap.create();
+
   // Statistics
   private final StatCounter rootRelocations = new StatCounter("Number of root relocations");
   private final StatCounter repeatedRefinements = new StatCounter("Number of similar, repeated refinements");
@@ -155,14 +173,29 @@ public class ValueAnalysisRefiner
         new ValueAnalysisPrefixProvider(
             logger, cfa, config, valueAnalysisCpa.getShutdownNotifier());
 
-    return new ValueAnalysisRefiner(checker,
-        strongestPostOp,
-        new PathExtractor(logger, config),
-        prefixProvider,
-        config,
-        logger,
-        valueAnalysisCpa.getShutdownNotifier(),
-        cfa);
+    ValueAnalysisRefiner refiner =
+        new ValueAnalysisRefiner(
+            checker,
+            strongestPostOp,
+            new PathExtractor(logger, config),
+            prefixProvider,
+            config,
+            logger,
+            valueAnalysisCpa.getShutdownNotifier(),
+            cfa);
+    if (valueAnalysisCpa.getSharedResults() != null) {
+      refiner.shareResultsWith(valueAnalysisCpa.getSharedResults());
+    }
+    return refiner;
+  }
+
+  /**
+   * Publish the precision increment of each refinement to the other analyses, and add the
+   * increments published by the other analyses to each new precision.
+   */
+  final void shareResultsWith(SharedAnalysisResults.Endpoint pSharedResults) {
+    sharedResults = pSharedResults;
+    sharedResults.subscribe(Topic.VALUE_PRECISION_INCREMENTS);
   }
 
   ValueAnalysisRefiner(
@@ -189,6 +222,28 @@ public class ValueAnalysisRefiner
     checker = pFeasibilityChecker;
     concreteErrorPathAllocator = new ValueAnalysisConcreteErrorPathAllocator(pConfig, logger, pCfa.getMachineModel());
     shutdownNotifier = pShutdownNotifier;
+    config = pConfig;
+    cfa = pCfa;
+  }
+
+  @Override
+  protected GenericPathInterpolator<ValueAnalysisState, ValueAnalysisInterpolant>
+      createPathInterpolatorForConcurrentUse()
+      throws InvalidConfigurationException {
+    final StrongestPostOperator<ValueAnalysisState> strongestPostOp =
+        new ValueAnalysisStrongestPostOperator(logger, config, cfa);
+
+    final ValueAnalysisFeasibilityChecker feasibilityChecker =
+        new ValueAnalysisFeasibilityChecker(strongestPostOp, logger, cfa, config);
+
+    return new ValueAnalysisPathInterpolator(
+        feasibilityChecker,
+        strongestPostOp,
+        new ValueAnalysisPrefixProvider(logger, cfa, config, shutdownNotifier),
+        config,
+        logger,
+        shutdownNotifier,
+        cfa);
   }
 
   @Override
@@ -202,6 +257,13 @@ public class ValueAnalysisRefiner
     Map<ARGState, List<Precision>> refinementInformation = new LinkedHashMap<>();
     Collection<ARGState> refinementRoots = pInterpolationTree.obtainRefinementRoots(restartStrategy);
 
+    if (sharedResults != null) {
+      for (ImmutableSetMultimap<CFANode, MemoryLocation> increment :
+          sharedResults.poll(Topic.VALUE_PRECISION_INCREMENTS)) {
+        receivedIncrements.putAll(increment);
+      }
+    }
+
     for (ARGState root : refinementRoots) {
       shutdownNotifier.shutdownIfNecessary();
       root = relocateRefinementRoot(root, predicatePrecisionIsAvailable);
@@ -232,8 +294,16 @@ public class ValueAnalysisRefiner
       }
 
       // merge the value precisions of the subtree, and refine it
-      precisions.add(
-          basePrecision.withIncrement(pInterpolationTree.extractPrecisionIncrement(root)));
+      Multimap<CFANode, MemoryLocation> increment =
+          pInterpolationTree.extractPrecisionIncrement(root);
+      if (sharedResults != null) {
+        if (!increment.isEmpty()) {
+          sharedResults.publish(
+              Topic.VALUE_PRECISION_INCREMENTS, ImmutableSetMultimap.copyOf(increment));
+        }
+        basePrecision = basePrecision.withIncrement(receivedIncrements);
+      }
+      precisions.add(basePrecision.withIncrement(increment));
 
       // merge the predicate precisions of the subtree, if available
       if (predicatePrecisionIsAvailable) {
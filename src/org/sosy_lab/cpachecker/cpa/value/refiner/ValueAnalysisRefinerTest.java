@@ -0,0 +1,160 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.value.refiner;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.cpachecker.core.CPAcheckerResult.Result;
+import org.sosy_lab.cpachecker.core.defaults.precision.VariableTrackingPrecision;
+import org.sosy_lab.cpachecker.util.test.CPATestRunner;
+import org.sosy_lab.cpachecker.util.test.TestDataTools;
+import org.sosy_lab.cpachecker.util.test.TestResults;
+
+/** Tests that concurrent interpolation of error paths yields the same result as sequential one. */
+public class ValueAnalysisRefinerTest {
+
+  @Rule public final TemporaryFolder tempFolder = new TemporaryFolder();
+
+  private static final String PROGRAM = "test/programs/simple/explicit/latt2.c";
+
+  /** Each branch has its own infeasible error path, which is refined with a different variable. */
+  private static final ImmutableList<String> INDEPENDENT_ERROR_PATHS_PROGRAM =
+      ImmutableList.of(
+          "extern int __VERIFIER_nondet_int(void);",
+          "int main() {",
+          "  int a = 1;",
+          "  int b = 2;",
+          "  int c = 3;",
+          "  if (__VERIFIER_nondet_int()) {",
+          "    if (a != 1) goto ERROR;",
+          "  } else if (__VERIFIER_nondet_int()) {",
+          "    if (b != 2) goto ERROR;",
+          "  } else {",
+          "    if (c != 3) goto ERROR;",
+          "  }",
+          "  return 0;",
+          "ERROR:",
+          "  return 1;",
+          "}");
+
+  private static final Pattern INTERPOLATIONS =
+      Pattern.compile("Number of interpolations: +(\\d+)");
+
+  private static TestResults run(String pProgram, String pConfigFile, Map<String, String> pOptions)
+      throws Exception {
+    Configuration config =
+        TestDataTools.configurationForTest()
+            .loadFromFile("config/" + pConfigFile)
+            .setOption("specification", "config/specification/ErrorLabel.spc")
+            .setOptions(pOptions)
+            .build();
+    return CPATestRunner.run(config, pProgram);
+  }
+
+  private static String getStatistics(TestResults pResults) {
+    ByteArrayOutputStream statistics = new ByteArrayOutputStream();
+    pResults
+        .getCheckerResult()
+        .printStatistics(new PrintStream(statistics, true, StandardCharsets.UTF_8));
+    return statistics.toString(StandardCharsets.UTF_8);
+  }
+
+  private static long getNumberOfInterpolations(TestResults pResults) {
+    Matcher matcher = INTERPOLATIONS.matcher(getStatistics(pResults));
+    assertThat(matcher.find()).isTrue();
+    return Long.parseLong(matcher.group(1));
+  }
+
+  private static void assertSameRefinement(String pConfigFile, Map<String, String> pOptions)
+      throws Exception {
+    assertSameRefinement(PROGRAM, pConfigFile, pOptions);
+  }
+
+  /** Run the analysis with sequential and concurrent interpolation, return the former result. */
+  private static TestResults assertSameRefinement(
+      String pProgram, String pConfigFile, Map<String, String> pOptions) throws Exception {
+    TestResults sequential =
+        run(
+            pProgram,
+            pConfigFile,
+            ImmutableMap.<String, String>builder()
+                .putAll(pOptions)
+                .put("cpa.value.refinement.interpolationThreads", "1")
+                .build());
+    TestResults concurrent =
+        run(
+            pProgram,
+            pConfigFile,
+            ImmutableMap.<String, String>builder()
+                .putAll(pOptions)
+                .put("cpa.value.refinement.interpolationThreads", "4")
+                .build());
+
+    assertThat(concurrent.getCheckerResult().getResult())
+        .isEqualTo(sequential.getCheckerResult().getResult());
+
+    VariableTrackingPrecision sequentialPrecision =
+        VariableTrackingPrecision.joinVariableTrackingPrecisionsInReachedSet(
+            sequential.getCheckerResult().getReached());
+    VariableTrackingPrecision concurrentPrecision =
+        VariableTrackingPrecision.joinVariableTrackingPrecisionsInReachedSet(
+            concurrent.getCheckerResult().getReached());
+    // the precision is scoped by default and thus does not refer to nodes of the separate CFAs
+    assertThat(sequentialPrecision.isEmpty()).isFalse();
+    assertThat(concurrentPrecision.toString()).isEqualTo(sequentialPrecision.toString());
+    assertThat(concurrent.getCheckerResult().getReached().size())
+        .isEqualTo(sequential.getCheckerResult().getReached().size());
+    // the statistics of all path interpolators are summed up
+    assertThat(getNumberOfInterpolations(concurrent))
+        .isEqualTo(getNumberOfInterpolations(sequential));
+    return sequential;
+  }
+
+  @Test
+  public void testConcurrentInterpolation() throws Exception {
+    assertSameRefinement("valueAnalysis-Cegar-plain.properties", ImmutableMap.of());
+  }
+
+  @Test
+  public void testConcurrentInterpolationWithIndependentErrorPaths() throws Exception {
+    Path program = tempFolder.newFolder().toPath().resolve("program.c");
+    Files.write(program, INDEPENDENT_ERROR_PATHS_PROGRAM, StandardCharsets.UTF_8);
+    assertSameRefinement(
+            program.toString(), "valueAnalysis-Cegar-plain.properties", ImmutableMap.of())
+        .assertIs(Result.TRUE);
+  }
+
+  @Test
+  public void testConcurrentInterpolationWithGlobalRefinerTopDown() throws Exception {
+    assertSameRefinement(
+        "valueAnalysis-Cegar-GlobalRefiner.properties",
+        ImmutableMap.of("cpa.value.refinement.useTopDownInterpolationStrategy", "true"));
+  }
+
+  @Test
+  public void testConcurrentInterpolationWithGlobalRefinerBottomUp() throws Exception {
+    assertSameRefinement(
+        "valueAnalysis-Cegar-GlobalRefiner.properties",
+        ImmutableMap.of("cpa.value.refinement.useTopDownInterpolationStrategy", "false"));
+  }
+}
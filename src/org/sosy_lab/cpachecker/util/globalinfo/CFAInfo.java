@@ -9,6 +9,8 @@
 package org.sosy_lab.cpachecker.util.globalinfo;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.cpachecker.cfa.CFA;
 import org.sosy_lab.cpachecker.cfa.model.CFANode;
 import org.sosy_lab.cpachecker.cpa.location.LocationStateFactory;
@@ -18,6 +20,12 @@ public class CFAInfo {
   private LocationStateFactory locationStateFactory;
   private final CFA cfa;
 
+  /**
+   * Mapping from the node numbers of an earlier version of the program to the current nodes, which
+   * is used instead of the current node numbers while deserializing data of that version.
+   */
+  private final ThreadLocal<Map<Integer, CFANode>> nodeNumberTranslation = new ThreadLocal<>();
+
   CFAInfo(CFA cfa) {
     ImmutableMap.Builder<Integer, CFANode> nodeNumberToNode0 = ImmutableMap.builder();
     for (CFANode node : cfa.getAllNodes()) {
@@ -28,9 +36,30 @@ public class CFAInfo {
   }
 
   public CFANode getNodeByNodeNumber(int nodeNumber) {
+    Map<Integer, CFANode> translation = nodeNumberTranslation.get();
+    if (translation != null) {
+      CFANode node = translation.get(nodeNumber);
+      if (node == null) {
+        throw new IllegalArgumentException("No translation for node number " + nodeNumber);
+      }
+      return node;
+    }
     return nodeNumberToNode.get(nodeNumber);
   }
 
+  /**
+   * Resolve node numbers in the current thread with the given mapping instead of the current node
+   * numbers, until this method is called with NULL. Node numbers that are not part of the mapping
+   * are rejected.
+   */
+  public void setNodeNumberTranslation(@Nullable Map<Integer, CFANode> pTranslation) {
+    if (pTranslation == null) {
+      nodeNumberTranslation.remove();
+    } else {
+      nodeNumberTranslation.set(pTranslation);
+    }
+  }
+
   public void storeLocationStateFactory(LocationStateFactory pElementFactory) {
     locationStateFactory = pElementFactory;
   }
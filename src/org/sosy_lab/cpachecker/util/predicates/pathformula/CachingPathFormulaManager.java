@@ -10,8 +10,11 @@ package org.sosy_lab.cpachecker.util.predicates.pathformula;
 
 import static org.sosy_lab.cpachecker.util.statistics.StatisticsUtils.toPercent;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableSet;
 import java.io.PrintStream;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -34,6 +37,8 @@ import org.sosy_lab.java_smt.api.Model.ValueAssignment;
 /**
  * Implementation of {@link PathFormulaManager} that delegates to another
  * instance but caches results of some methods.
+ *
+ * <p>The caches can be bounded, then the least recently used entries are evicted first.
  */
 public class CachingPathFormulaManager implements PathFormulaManager {
 
@@ -42,29 +47,53 @@ public class CachingPathFormulaManager implements PathFormulaManager {
 
   public final PathFormulaManager delegate;
 
-  private final Map<Pair<CFAEdge, PathFormula>, Pair<PathFormula, ErrorConditions>> andFormulaWithConditionsCache
-            = new HashMap<>();
-  private final Map<Pair<CFAEdge, PathFormula>, PathFormula> andFormulaCache
-            = new HashMap<>();
+  private final Cache<Pair<CFAEdge, PathFormula>, Pair<PathFormula, ErrorConditions>>
+      andFormulaWithConditionsCache;
+  private final Cache<Pair<CFAEdge, PathFormula>, PathFormula> andFormulaCache;
 
-  private final Map<Pair<PathFormula, PathFormula>, PathFormula> orFormulaCache
-            = new HashMap<>();
+  /** The key is the set of both operands, because the disjunction is commutative. */
+  private final Cache<ImmutableSet<PathFormula>, PathFormula> orFormulaCache;
 
-  private final Map<PathFormula, PathFormula> emptyFormulaCache
-            = new HashMap<>();
+  private final Cache<PathFormula, PathFormula> emptyFormulaCache;
+
+  private final long maximumCacheSize;
 
   private final PathFormula emptyFormula;
 
   public CachingPathFormulaManager(PathFormulaManager pDelegate) {
+    this(pDelegate, 0);
+  }
+
+  /**
+   * Create a caching path-formula manager.
+   *
+   * @param pDelegate the manager that computes the path formulas
+   * @param pMaximumCacheSize the maximal number of entries in each cache, 0 for unbounded caches
+   */
+  public CachingPathFormulaManager(PathFormulaManager pDelegate, long pMaximumCacheSize) {
     delegate = pDelegate;
+    maximumCacheSize = pMaximumCacheSize;
     emptyFormula = delegate.makeEmptyPathFormula();
+    andFormulaWithConditionsCache = createCache();
+    andFormulaCache = createCache();
+    orFormulaCache = createCache();
+    emptyFormulaCache = createCache();
+  }
+
+  private <K, V> Cache<K, V> createCache() {
+    CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().recordStats();
+    if (maximumCacheSize > 0) {
+      builder.maximumSize(maximumCacheSize);
+    }
+    return builder.build();
   }
 
   @Override
   public Pair<PathFormula, ErrorConditions> makeAndWithErrorConditions(PathFormula pOldFormula, CFAEdge pEdge) throws CPATransferException, InterruptedException {
 
     final Pair<CFAEdge, PathFormula> formulaCacheKey = Pair.of(pEdge, pOldFormula);
-    Pair<PathFormula, ErrorConditions> result = andFormulaWithConditionsCache.get(formulaCacheKey);
+    Pair<PathFormula, ErrorConditions> result =
+        andFormulaWithConditionsCache.getIfPresent(formulaCacheKey);
     if (result == null) {
       pathFormulaComputationTimer.start();
       // compute new pathFormula with the operation on the edge
@@ -81,7 +110,7 @@ public class CachingPathFormulaManager implements PathFormulaManager {
   @Override
   public PathFormula makeAnd(PathFormula pOldFormula, CFAEdge pEdge) throws CPATransferException, InterruptedException {
     final Pair<CFAEdge, PathFormula> formulaCacheKey = Pair.of(pEdge, pOldFormula);
-    PathFormula result = andFormulaCache.get(formulaCacheKey);
+    PathFormula result = andFormulaCache.getIfPresent(formulaCacheKey);
     if (result == null) {
       try {
       pathFormulaComputationTimer.start();
@@ -100,14 +129,10 @@ public class CachingPathFormulaManager implements PathFormulaManager {
 
   @Override
   public PathFormula makeOr(PathFormula pF1, PathFormula pF2) throws InterruptedException {
-    final Pair<PathFormula, PathFormula> formulaCacheKey = Pair.of(pF1, pF2);
-
-    PathFormula result = orFormulaCache.get(formulaCacheKey);
-    if (result == null) {
-      // try again with other order
-      result = orFormulaCache.get(Pair.of(pF2, pF1));
-    }
+    // a single lookup for both orders of the operands, such that the cache statistics are exact
+    final ImmutableSet<PathFormula> formulaCacheKey = ImmutableSet.of(pF1, pF2);
 
+    PathFormula result = orFormulaCache.getIfPresent(formulaCacheKey);
     if (result == null) {
       result = delegate.makeOr(pF1, pF2);
       orFormulaCache.put(formulaCacheKey, result);
@@ -124,7 +149,7 @@ public class CachingPathFormulaManager implements PathFormulaManager {
 
   @Override
   public PathFormula makeEmptyPathFormula(PathFormula pOldFormula) {
-    PathFormula result = emptyFormulaCache.get(pOldFormula);
+    PathFormula result = emptyFormulaCache.getIfPresent(pOldFormula);
     if (result == null) {
       result = delegate.makeEmptyPathFormula(pOldFormula);
       emptyFormulaCache.put(pOldFormula, result);
@@ -191,10 +216,10 @@ public class CachingPathFormulaManager implements PathFormulaManager {
 
   @Override
   public void clearCaches() {
-    andFormulaWithConditionsCache.clear();
-    andFormulaCache.clear();
-    orFormulaCache.clear();
-    emptyFormulaCache.clear();
+    andFormulaWithConditionsCache.invalidateAll();
+    andFormulaCache.invalidateAll();
+    orFormulaCache.invalidateAll();
+    emptyFormulaCache.invalidateAll();
     delegate.clearCaches();
   }
 
@@ -220,6 +245,14 @@ public class CachingPathFormulaManager implements PathFormulaManager {
             + " ("
             + toPercent(cacheHits, totalPathFormulaComputations)
             + ")");
+    if (maximumCacheSize > 0) {
+      out.println("Maximal size of path formula caches:   " + maximumCacheSize);
+    }
+    printCacheStatistics(out, "  Cache for and:                       ", andFormulaCache);
+    printCacheStatistics(
+        out, "  Cache for and with error conditions: ", andFormulaWithConditionsCache);
+    printCacheStatistics(out, "  Cache for or:                        ", orFormulaCache);
+    printCacheStatistics(out, "  Cache for empty formulas:            ", emptyFormulaCache);
     out.println();
 
     out.println("Inside post operator:                  ");
@@ -230,6 +263,23 @@ public class CachingPathFormulaManager implements PathFormulaManager {
     delegate.printStatistics(out);
   }
 
+  private void printCacheStatistics(PrintStream out, String name, Cache<?, ?> cache) {
+    CacheStats stats = cache.stats();
+    if (stats.requestCount() == 0) {
+      return;
+    }
+    out.println(
+        name
+            + cache.size()
+            + " entries, "
+            + stats.hitCount()
+            + " hits ("
+            + toPercent(stats.hitCount(), stats.requestCount())
+            + "), "
+            + stats.evictionCount()
+            + " evictions");
+  }
+
   @Override
   public BooleanFormula addBitwiseAxiomsIfNeeded(final BooleanFormula pMainFormula, final BooleanFormula pExtractionFormula) {
     return delegate.addBitwiseAxiomsIfNeeded(pMainFormula, pExtractionFormula);
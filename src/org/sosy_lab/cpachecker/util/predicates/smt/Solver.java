@@ -14,14 +14,12 @@ import static org.sosy_lab.java_smt.api.SolverContext.ProverOptions.GENERATE_UNS
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Verify;
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.PrintStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -105,14 +103,10 @@ public final class Solver implements AutoCloseable {
   /**
    * More complex unsat cache, grouped by an arbitrary key.
    *
-   * <p>For each node, map a set of constraints to whether it is unsatisfiable
-   * or satisfiable (maps to |true| <=> |UNSAT|).
-   * If a set of constraints is satisfiable, any subset of it is also
-   * satisfiable.
-   * If a set of constraints is unsatisfiable, any superset of it is also
-   * unsatisfiable.
+   * <p>For each node, store which sets of constraints are unsatisfiable
+   * or satisfiable, see {@link SubsumptionCache}.
    */
-  private final Map<Object, Map<Set<BooleanFormula>, Boolean>>
+  private final Map<Object, SubsumptionCache<BooleanFormula>>
       groupedUnsatCache = new HashMap<>();
 
   private final LogManager logger;
@@ -435,32 +429,12 @@ public final class Solver implements AutoCloseable {
       throws InterruptedException, SolverException {
     satChecks++;
 
-    Map<Set<BooleanFormula>, Boolean> stored = groupedUnsatCache.get(cacheKey);
-    if (stored != null) {
-      for (Entry<Set<BooleanFormula>, Boolean> isUnsatResults : stored
-          .entrySet()) {
-        Set<BooleanFormula> cachedConstraints = isUnsatResults.getKey();
-        boolean cachedIsUnsat = isUnsatResults.getValue();
-
-        if (cachedIsUnsat && lemmas.containsAll(cachedConstraints)) {
-
-          // Any superset of unreachable constraints is unreachable.
-          cachedSatChecks++;
-          return true;
-        } else if (!cachedIsUnsat &&
-            cachedConstraints.containsAll(lemmas)) {
-
-          // Any subset of reachable constraints is reachable.
-          cachedSatChecks++;
-          return false;
-        }
-      }
-    }
-
-    if (stored == null) {
-      stored = new HashMap<>();
-    } else {
-      stored = new HashMap<>(stored);
+    SubsumptionCache<BooleanFormula> stored =
+        groupedUnsatCache.computeIfAbsent(cacheKey, k -> new SubsumptionCache<>());
+    Boolean cachedIsUnsat = stored.isUnsat(lemmas);
+    if (cachedIsUnsat != null) {
+      cachedSatChecks++;
+      return cachedIsUnsat;
     }
 
     ProverOptions[] opts;
@@ -477,17 +451,15 @@ public final class Solver implements AutoCloseable {
       }
       if (pe.isUnsat()) {
         if (cacheUnsatCores) {
-          stored.put(ImmutableSet.copyOf(pe.getUnsatCore()), true);
+          stored.addUnsat(ImmutableSet.copyOf(pe.getUnsatCore()));
         } else {
-          stored.put(ImmutableSet.copyOf(lemmas), true);
+          stored.addUnsat(lemmas);
         }
         return true;
       } else {
-        stored.put(lemmas, false);
+        stored.addSat(lemmas);
         return false;
       }
-    } finally {
-      groupedUnsatCache.put(cacheKey, ImmutableMap.copyOf(stored));
     }
   }
 
@@ -582,6 +554,11 @@ public final class Solver implements AutoCloseable {
     return solvingContext.getVersion();
   }
 
+  /** Return which SMT solver is used for satisfiability checks. */
+  public Solvers getSolverName() {
+    return solvingContext.getSolverName();
+  }
+
   public String getInterpolatingVersion() {
     return interpolatingContext.getVersion();
   }
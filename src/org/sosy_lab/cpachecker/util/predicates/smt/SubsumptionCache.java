@@ -0,0 +1,124 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.predicates.smt;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.MultimapBuilder;
+import com.google.common.collect.SetMultimap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Cache for the satisfiability of sets of constraints, which exploits subsumption: If a set of
+ * constraints is satisfiable, any subset of it is also satisfiable. If a set of constraints is
+ * unsatisfiable, any superset of it is also unsatisfiable.
+ *
+ * <p>Instead of comparing the queried set with all stored sets, the cache keeps an inverted index
+ * from each constraint to the stored sets containing it. Thus a look up only visits the stored sets
+ * that share constraints with the queried set, and adding a set only updates the index entries of
+ * its own constraints.
+ *
+ * @param <T> the type of the constraints
+ */
+final class SubsumptionCache<T> {
+
+  // for each constraint the indices of the unsatisfiable sets containing it
+  private final ListMultimap<T, Integer> unsatSetsByConstraint =
+      MultimapBuilder.hashKeys().arrayListValues().build();
+  // the size of each unsatisfiable set
+  private final List<Integer> unsatSetSizes = new ArrayList<>();
+  private boolean hasEmptyUnsatSet = false;
+
+  // for each constraint the indices of the satisfiable sets containing it
+  private final SetMultimap<T, Integer> satSetsByConstraint = HashMultimap.create();
+  private int numberOfSatSets = 0;
+
+  /** Remember that the conjunction of the given constraints is unsatisfiable. */
+  void addUnsat(Set<T> constraints) {
+    if (constraints.isEmpty()) {
+      hasEmptyUnsatSet = true;
+      return;
+    }
+    int index = unsatSetSizes.size();
+    unsatSetSizes.add(constraints.size());
+    for (T constraint : constraints) {
+      unsatSetsByConstraint.put(constraint, index);
+    }
+  }
+
+  /** Remember that the conjunction of the given constraints is satisfiable. */
+  void addSat(Set<T> constraints) {
+    int index = numberOfSatSets++;
+    for (T constraint : constraints) {
+      satSetsByConstraint.put(constraint, index);
+    }
+  }
+
+  /**
+   * Look up the satisfiability of the conjunction of the given constraints.
+   *
+   * @return {@code true} if the constraints are known to be unsatisfiable, {@code false} if they
+   *     are known to be satisfiable, and {@code null} if nothing is known.
+   */
+  @Nullable Boolean isUnsat(Set<T> constraints) {
+    if (containsUnsatSubset(constraints)) {
+      return true;
+    }
+    if (containsSatSuperset(constraints)) {
+      return false;
+    }
+    return null;
+  }
+
+  /** Check whether a stored unsatisfiable set is contained in the given set. */
+  private boolean containsUnsatSubset(Set<T> constraints) {
+    if (hasEmptyUnsatSet) {
+      return true;
+    }
+    // count for each stored set how many of its constraints are contained in the given set
+    Map<Integer, Integer> hits = new HashMap<>();
+    for (T constraint : constraints) {
+      for (Integer index : unsatSetsByConstraint.get(constraint)) {
+        int count = hits.merge(index, 1, Integer::sum);
+        if (count == unsatSetSizes.get(index)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /** Check whether a stored satisfiable set contains the given set. */
+  private boolean containsSatSuperset(Set<T> constraints) {
+    if (numberOfSatSets == 0) {
+      return false;
+    }
+    // intersect the sets of candidates for all constraints
+    Set<Integer> candidates = null;
+    for (T constraint : constraints) {
+      Set<Integer> containing = satSetsByConstraint.get(constraint);
+      if (candidates == null) {
+        candidates = new HashSet<>(containing);
+      } else {
+        candidates.retainAll(containing);
+      }
+      if (candidates.isEmpty()) {
+        return false;
+      }
+    }
+    // an empty set of constraints is contained in every set
+    return true;
+  }
+}
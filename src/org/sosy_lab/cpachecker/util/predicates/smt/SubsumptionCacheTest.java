@@ -0,0 +1,80 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.predicates.smt;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SubsumptionCacheTest {
+
+  private SubsumptionCache<String> cache;
+
+  @Before
+  public void setUp() {
+    cache = new SubsumptionCache<>();
+  }
+
+  @Test
+  public void testEmpty() {
+    assertThat(cache.isUnsat(ImmutableSet.of())).isNull();
+    assertThat(cache.isUnsat(ImmutableSet.of("a"))).isNull();
+  }
+
+  @Test
+  public void testUnsatSuperset() {
+    cache.addUnsat(ImmutableSet.of("a", "b"));
+
+    assertThat(cache.isUnsat(ImmutableSet.of("a", "b"))).isTrue();
+    assertThat(cache.isUnsat(ImmutableSet.of("c", "b", "a"))).isTrue();
+    assertThat(cache.isUnsat(ImmutableSet.of("a"))).isNull();
+    assertThat(cache.isUnsat(ImmutableSet.of("a", "c"))).isNull();
+  }
+
+  @Test
+  public void testSatSubset() {
+    cache.addSat(ImmutableSet.of("a", "b", "c"));
+
+    assertThat(cache.isUnsat(ImmutableSet.of("a", "c"))).isFalse();
+    assertThat(cache.isUnsat(ImmutableSet.of())).isFalse();
+    assertThat(cache.isUnsat(ImmutableSet.of("a", "d"))).isNull();
+  }
+
+  @Test
+  public void testSatSubsetOfOneSet() {
+    cache.addSat(ImmutableSet.of("a", "b"));
+    cache.addSat(ImmutableSet.of("b", "c"));
+
+    // each constraint is contained in some set, but not all of them in the same set
+    assertThat(cache.isUnsat(ImmutableSet.of("a", "b", "c"))).isNull();
+    assertThat(cache.isUnsat(ImmutableSet.of("c", "b"))).isFalse();
+  }
+
+  @Test
+  public void testUnsatAndSat() {
+    cache.addUnsat(ImmutableSet.of("a", "b"));
+    cache.addUnsat(ImmutableSet.of("c"));
+    cache.addSat(ImmutableSet.of("a", "d"));
+
+    assertThat(cache.isUnsat(ImmutableSet.of("b", "d", "a"))).isTrue();
+    assertThat(cache.isUnsat(ImmutableSet.of("d", "c"))).isTrue();
+    assertThat(cache.isUnsat(ImmutableSet.of("d"))).isFalse();
+    assertThat(cache.isUnsat(ImmutableSet.of("b", "d"))).isNull();
+  }
+
+  @Test
+  public void testEmptyUnsat() {
+    cache.addUnsat(ImmutableSet.of());
+
+    assertThat(cache.isUnsat(ImmutableSet.of())).isTrue();
+    assertThat(cache.isUnsat(ImmutableSet.of("a"))).isTrue();
+  }
+}
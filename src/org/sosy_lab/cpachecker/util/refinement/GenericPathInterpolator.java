@@ -8,11 +8,14 @@
 
 package org.sosy_lab.cpachecker.util.refinement;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
+
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import java.io.PrintStream;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Deque;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -25,6 +28,7 @@ import org.sosy_lab.common.configuration.InvalidConfigurationException;
 import org.sosy_lab.common.configuration.Option;
 import org.sosy_lab.common.configuration.Options;
 import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.common.time.TimeSpan;
 import org.sosy_lab.cpachecker.cfa.CFA;
 import org.sosy_lab.cpachecker.cfa.ast.FileLocation;
 import org.sosy_lab.cpachecker.cfa.model.BlankEdge;
@@ -381,6 +385,43 @@ public class GenericPathInterpolator<S extends ForgetfulState<?>, I extends Inte
     writer.put(prefixSelectionTime);
   }
 
+  /**
+   * Print the statistics of several path interpolators that were used together, e.g., for
+   * interpolating error paths concurrently, summed up over all of them.
+   */
+  public static void printStatistics(
+      PrintStream out, Collection<? extends GenericPathInterpolator<?, ?>> pInterpolators) {
+    StatCounter interpolations = new StatCounter("Number of interpolations");
+    StatInt interpolationQueries = new StatInt(StatKind.SUM, "Number of interpolation queries");
+    StatInt interpolantSize = new StatInt(StatKind.AVG, "Size of interpolant");
+    StatInt prefixes = new StatInt(StatKind.SUM, "Number of sliced prefixes");
+    List<TimeSpan> interpolationTimes = new ArrayList<>(pInterpolators.size());
+    List<TimeSpan> prefixExtractionTimes = new ArrayList<>(pInterpolators.size());
+    List<TimeSpan> prefixSelectionTimes = new ArrayList<>(pInterpolators.size());
+    for (GenericPathInterpolator<?, ?> interpolator : pInterpolators) {
+      interpolations.mergeWith(interpolator.totalInterpolations);
+      interpolationQueries.add(interpolator.totalInterpolationQueries);
+      interpolantSize.add(interpolator.sizeOfInterpolant);
+      prefixes.add(interpolator.totalPrefixes);
+      interpolationTimes.add(interpolator.timerInterpolation.getConsumedTime());
+      prefixExtractionTimes.add(interpolator.prefixExtractionTime.getConsumedTime());
+      prefixSelectionTimes.add(interpolator.prefixSelectionTime.getConsumedTime());
+    }
+
+    StatisticsWriter writer = StatisticsWriter.writingStatisticsTo(out).beginLevel();
+    writer.put("Time for interpolation", TimeSpan.sum(interpolationTimes).formatAs(SECONDS))
+        .put(interpolations)
+        .put(interpolationQueries)
+        .put(interpolantSize)
+        .put(prefixes);
+    writer.put(
+        "Extracting infeasible sliced prefixes",
+        TimeSpan.sum(prefixExtractionTimes).formatAs(SECONDS));
+    writer.put(
+        "Selecting infeasible sliced prefixes",
+        TimeSpan.sum(prefixSelectionTimes).formatAs(SECONDS));
+  }
+
   /**
    * This method checks if refinement selection is enabled.
    *
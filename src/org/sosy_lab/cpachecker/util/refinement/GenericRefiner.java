@@ -8,18 +8,30 @@
 
 package org.sosy_lab.cpachecker.util.refinement;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.errorprone.annotations.ForOverride;
 import java.io.PrintStream;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sosy_lab.common.Classes.UnexpectedCheckedException;
 import org.sosy_lab.common.configuration.Configuration;
 import org.sosy_lab.common.configuration.FileOption;
+import org.sosy_lab.common.configuration.IntegerOption;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
 import org.sosy_lab.common.configuration.Option;
 import org.sosy_lab.common.configuration.Options;
@@ -40,6 +52,7 @@ import org.sosy_lab.cpachecker.cpa.arg.path.ARGPath;
 import org.sosy_lab.cpachecker.exceptions.CPAException;
 import org.sosy_lab.cpachecker.exceptions.RefinementFailedException;
 import org.sosy_lab.cpachecker.exceptions.RefinementFailedException.Reason;
+import org.sosy_lab.cpachecker.util.Pair;
 import org.sosy_lab.cpachecker.util.statistics.StatCounter;
 import org.sosy_lab.cpachecker.util.statistics.StatInt;
 import org.sosy_lab.cpachecker.util.statistics.StatKind;
@@ -95,6 +108,14 @@ public abstract class GenericRefiner<S extends ForgetfulState<?>, I extends Inte
       + " e.g., for supporting counterexample checks")
   private boolean addAssumptionsToCex = true;
 
+  @Option(
+      secure = true,
+      description =
+          "number of threads for interpolating independent error paths of the interpolation tree"
+              + " concurrently, each with its own path interpolator")
+  @IntegerOption(min = 1)
+  private int interpolationThreads = 1;
+
   protected final LogManager logger;
 
   private final PathInterpolator<I> interpolator;
@@ -105,6 +126,9 @@ public abstract class GenericRefiner<S extends ForgetfulState<?>, I extends Inte
 
   private final PathExtractor pathExtractor;
 
+  // only used for concurrent interpolation, replaces the interpolator given in constructor
+  private @Nullable List<GenericPathInterpolator<S, I>> concurrentInterpolators = null;
+
   private Set<Integer> previousErrorPathIds = new HashSet<>();
 
   // statistics
@@ -202,8 +226,29 @@ public abstract class GenericRefiner<S extends ForgetfulState<?>, I extends Inte
     InterpolationTree<S, I> interpolationTree =
         createInterpolationTree(ImmutableList.of(pTargetPath));
 
-    while (interpolationTree.hasNextPathForInterpolation()) {
-      performPathInterpolation(interpolationTree);
+    if (interpolationThreads > 1) {
+      initConcurrentInterpolation();
+    }
+
+    if (interpolationThreads > 1) {
+      // the threads are only kept during one refinement, because there is no notification
+      // when the analysis finishes
+      ExecutorService interpolationExecutor =
+          Executors.newFixedThreadPool(
+              interpolationThreads,
+              new ThreadFactoryBuilder().setNameFormat("interpolation-%d").setDaemon(true).build());
+      try {
+        while (interpolationTree.hasNextPathForInterpolation()) {
+          performConcurrentPathInterpolation(interpolationTree, interpolationExecutor);
+        }
+      } finally {
+        interpolationExecutor.shutdownNow();
+      }
+
+    } else {
+      while (interpolationTree.hasNextPathForInterpolation()) {
+        performPathInterpolation(interpolationTree);
+      }
     }
 
     exportTree(interpolationTree, "FINAL");
@@ -228,6 +273,55 @@ public abstract class GenericRefiner<S extends ForgetfulState<?>, I extends Inte
       return;
     }
 
+    Pair<ARGPath, I> pathAndInitialItp = getInitialInterpolant(interpolationTree, errorPath);
+
+    interpolationTree.addInterpolants(
+        interpolator.performInterpolation(
+            pathAndInitialItp.getFirst(), pathAndInitialItp.getSecond()));
+    exportTree(interpolationTree, "ALWAYS");
+  }
+
+  /**
+   * Interpolate the next independent paths of the interpolation tree concurrently, each with its
+   * own path interpolator. The interpolants are added to the tree in the order of the paths, so
+   * the result does not depend on the thread schedule.
+   */
+  private void performConcurrentPathInterpolation(
+      InterpolationTree<S, I> interpolationTree, ExecutorService interpolationExecutor)
+      throws CPAException, InterruptedException {
+    List<Callable<Map<ARGState, I>>> interpolations = new ArrayList<>(interpolationThreads);
+
+    for (ARGPath errorPath : interpolationTree.getNextPathsForInterpolation(interpolationThreads)) {
+      if (errorPath == InterpolationTree.EMPTY_PATH) {
+        logger.log(Level.FINEST, "skipping interpolation,"
+            + " because false interpolant on path to target state");
+        continue;
+      }
+
+      Pair<ARGPath, I> pathAndInitialItp = getInitialInterpolant(interpolationTree, errorPath);
+      PathInterpolator<I> pathInterpolator = concurrentInterpolators.get(interpolations.size());
+      interpolations.add(
+          () ->
+              pathInterpolator.performInterpolation(
+                  pathAndInitialItp.getFirst(), pathAndInitialItp.getSecond()));
+    }
+
+    for (Future<Map<ARGState, I>> interpolants : interpolationExecutor.invokeAll(interpolations)) {
+      try {
+        interpolationTree.addInterpolants(interpolants.get());
+      } catch (ExecutionException e) {
+        Throwables.propagateIfPossible(
+            e.getCause(), CPAException.class, InterruptedException.class);
+        throw new UnexpectedCheckedException("interpolation", e.getCause());
+      }
+    }
+    exportTree(interpolationTree, "ALWAYS");
+  }
+
+  private Pair<ARGPath, I> getInitialInterpolant(
+      InterpolationTree<S, I> interpolationTree, ARGPath pErrorPath)
+      throws CPAException, InterruptedException {
+    ARGPath errorPath = pErrorPath;
     I initialItp = interpolationTree.getInitialInterpolantForPath(errorPath);
 
     if (isInitialInterpolantTooWeak(interpolationTree.getRoot(), initialItp, errorPath)) {
@@ -237,9 +331,47 @@ public abstract class GenericRefiner<S extends ForgetfulState<?>, I extends Inte
 
     logger.log(Level.FINEST, "performing interpolation, starting at ", errorPath.getFirstState().getStateId(),
         ", using interpolant ", initialItp);
+    return Pair.of(errorPath, initialItp);
+  }
 
-    interpolationTree.addInterpolants(interpolator.performInterpolation(errorPath, initialItp));
-    exportTree(interpolationTree, "ALWAYS");
+  private void initConcurrentInterpolation() throws CPAException {
+    if (concurrentInterpolators != null) {
+      return;
+    }
+
+    List<GenericPathInterpolator<S, I>> interpolators = new ArrayList<>(interpolationThreads);
+    try {
+      for (int i = 0; i < interpolationThreads; i++) {
+        GenericPathInterpolator<S, I> concurrentInterpolator =
+            createPathInterpolatorForConcurrentUse();
+        if (concurrentInterpolator == null) {
+          logger.log(Level.WARNING, getClass().getSimpleName(),
+              "does not support concurrent interpolation, interpolating sequentially.");
+          interpolationThreads = 1;
+          return;
+        }
+        interpolators.add(concurrentInterpolator);
+      }
+    } catch (InvalidConfigurationException e) {
+      throw new CPAException("Could not create path interpolator for concurrent use", e);
+    }
+
+    concurrentInterpolators = interpolators;
+  }
+
+  /**
+   * Create a path interpolator that works like the one given to the constructor, but does not share
+   * any mutable state with it, such that several of them can be used concurrently. This is only
+   * called if error paths should be interpolated concurrently, and the statistics of all created
+   * path interpolators are summed up.
+   *
+   * @return a new path interpolator, or null if concurrent interpolation is not supported
+   * @throws InvalidConfigurationException may be thrown in subclass
+   */
+  @ForOverride
+  protected @Nullable GenericPathInterpolator<S, I> createPathInterpolatorForConcurrentUse()
+      throws InvalidConfigurationException {
+    return null;
   }
 
   private boolean isInitialInterpolantTooWeak(ARGState root, I initialItp, ARGPath errorPath)
@@ -313,7 +445,22 @@ public abstract class GenericRefiner<S extends ForgetfulState<?>, I extends Inte
       }
     });
     pStatsCollection.add(pathExtractor);
-    pStatsCollection.add(interpolator);
+    pStatsCollection.add(new Statistics() {
+
+      @Override
+      public String getName() {
+        return interpolator.getName();
+      }
+
+      @Override
+      public void printStatistics(final PrintStream pOut, final Result pResult, final UnmodifiableReachedSet pReached) {
+        if (concurrentInterpolators == null) {
+          interpolator.printStatistics(pOut, pResult, pReached);
+        } else {
+          GenericPathInterpolator.printStatistics(pOut, concurrentInterpolators);
+        }
+      }
+    });
   }
 
   private void printStatistics(final PrintStream pOut, final Result pResult, final UnmodifiableReachedSet pReached) {
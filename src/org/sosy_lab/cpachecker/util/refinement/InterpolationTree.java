@@ -244,6 +244,20 @@ public class InterpolationTree<S extends AbstractState, I extends Interpolant<S,
     return strategy.getNextPathForInterpolation();
   }
 
+  /**
+   * This method returns up to the given number of error paths for interpolation that are
+   * independent of each other, i.e., the interpolants of one path do not influence the initial
+   * interpolant of another one, such that they can be interpolated concurrently. Like {@link
+   * #getNextPathForInterpolation()}, the list may contain {@link #EMPTY_PATH}. With the bottom-up
+   * strategy, the list contains a single path, because these paths always share a prefix.
+   *
+   * @param maxPaths the maximal number of paths to return
+   * @return the next error paths for subsequent interpolations
+   */
+  public List<ARGPath> getNextPathsForInterpolation(int maxPaths) {
+    return strategy.getNextPathsForInterpolation(maxPaths);
+  }
+
   /**
    * This method returns the interpolant to be used for interpolation of the given path.
    *
@@ -466,6 +480,8 @@ public class InterpolationTree<S extends AbstractState, I extends Interpolant<S,
 
     ARGPath getNextPathForInterpolation();
 
+    List<ARGPath> getNextPathsForInterpolation(int maxPaths);
+
     boolean hasNextPathForInterpolation();
 
     I getInitialInterpolantForRoot(ARGState root);
@@ -480,9 +496,29 @@ public class InterpolationTree<S extends AbstractState, I extends Interpolant<S,
 
     @Override
     public ARGPath getNextPathForInterpolation() {
+      return getPathFromSource(sources.pop());
+    }
+
+    @Override
+    public List<ARGPath> getNextPathsForInterpolation(int maxPaths) {
+      // the predecessors of all current sources are already interpolated, so the paths from these
+      // sources are independent, but not the paths from the sources found while building them
+      List<ARGState> currentSources = new ArrayList<>(maxPaths);
+      while (currentSources.size() < maxPaths && !sources.isEmpty()) {
+        currentSources.add(sources.pop());
+      }
+
+      List<ARGPath> paths = new ArrayList<>(currentSources.size());
+      for (ARGState source : currentSources) {
+        paths.add(getPathFromSource(source));
+      }
+      return paths;
+    }
+
+    private ARGPath getPathFromSource(ARGState pSource) {
       ARGPathBuilder errorPathBuilder = ARGPath.builder();
 
-      ARGState current = sources.pop();
+      ARGState current = pSource;
 
       if (!isValidInterpolationRoot(predecessorRelation.get(current))) {
         logger.log(Level.FINEST, "interpolant of predecessor of ", current.getStateId(), " is already false, so return empty path");
@@ -582,6 +618,14 @@ public class InterpolationTree<S extends AbstractState, I extends Interpolant<S,
       return errorPathBuilder.build(current);
     }
 
+    @Override
+    public List<ARGPath> getNextPathsForInterpolation(int maxPaths) {
+      // all paths share a prefix with the previous ones, and whether a path needs to be
+      // interpolated at all depends on the interpolants of the previous paths
+      // (cf. the check for false interpolants above), so paths are never independent
+      return Collections.singletonList(getNextPathForInterpolation());
+    }
+
     @Override
     public I getInitialInterpolantForRoot(ARGState pRoot) {
       return interpolantManager.createInitialInterpolant();
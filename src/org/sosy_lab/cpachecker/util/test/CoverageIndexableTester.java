@@ -0,0 +1,50 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.List;
+import org.sosy_lab.cpachecker.core.interfaces.CoverageIndexable;
+
+/** Utilities for testing implementations of {@link CoverageIndexable}. */
+public final class CoverageIndexableTester {
+
+  private CoverageIndexableTester() {}
+
+  /** The partial order of the abstract domain of the states under test. */
+  @FunctionalInterface
+  public interface PartialOrder<T> {
+    boolean isLessOrEqual(T pState, T pOtherState) throws Exception;
+  }
+
+  /**
+   * Check for all pairs of the given states that a state that is less or equal than another state
+   * may be covered by it according to the coverage signatures. The states need to contain enough
+   * pairs that are covered and pairs whose coverage check is skipped because of the signatures,
+   * such that the check is not vacuous and the signature is not trivial.
+   */
+  public static <T extends CoverageIndexable> void assertCoverageSignatureIsSound(
+      List<? extends T> pStates, PartialOrder<T> pPartialOrder) throws Exception {
+    int coveredPairs = 0;
+    int skippedPairs = 0;
+    for (T state : pStates) {
+      for (T otherState : pStates) {
+        if (pPartialOrder.isLessOrEqual(state, otherState)) {
+          coveredPairs++;
+          assertThat(CoverageIndexable.mayBeCoveredBy(state, otherState)).isTrue();
+        } else if (!CoverageIndexable.mayBeCoveredBy(state, otherState)) {
+          skippedPairs++;
+        }
+      }
+    }
+    assertThat(coveredPairs).isGreaterThan(pStates.size());
+    assertThat(skippedPairs).isGreaterThan(0);
+  }
+}